@@ -83,7 +83,8 @@ BEGIN
   SELECT COUNT(*) INTO v_dept_exists FROM departments WHERE id = p_new_department_id;
 
   IF v_emp_exists = 1 AND v_dept_exists = 1 THEN
-    UPDATE employees SET department_id = p_new_department_id WHERE id = p_employee_id;
+    UPDATE employees SET department_id = p_new_department_id, version = version + 1
+    WHERE id = p_employee_id;
     SET p_success = 1;
   ELSE
     SET p_success = 0;
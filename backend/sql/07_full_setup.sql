@@ -15,6 +15,8 @@ SOURCE databases/sql/04_seed_data.sql;
 SOURCE databases/sql/05_views.sql;
 SOURCE databases/sql/06_stored_procedures.sql;
 SOURCE databases/sql/08_webauthn_credentials.sql;
+SOURCE databases/sql/09_data_version.sql;
+SOURCE databases/sql/10_idempotency_keys.sql;
 
 -- Verify setup
 USE employee_management;
@@ -1,9 +1,9 @@
 package com.example.employeemanagement.config;
 
+import com.example.employeemanagement.dto.EmployeeRequestDto;
 import com.example.employeemanagement.model.Department;
-import com.example.employeemanagement.model.Employee;
 import com.example.employeemanagement.repository.DepartmentRepository;
-import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeBulkService;
 import com.github.javafaker.Faker;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,8 +19,8 @@ public class DataInitializer implements CommandLineRunner {
   /** The department repository. */
   @Autowired private DepartmentRepository departmentRepository;
 
-  /** The employee repository. */
-  @Autowired private EmployeeRepository employeeRepository;
+  /** The bulk employee service, which inserts the seed employees through JDBC batches. */
+  @Autowired private EmployeeBulkService employeeBulkService;
 
   /** The Faker instance used to generate realistic-looking test data. */
   private final Faker faker = new Faker();
@@ -51,19 +51,21 @@ public class DataInitializer implements CommandLineRunner {
     departmentRepository.saveAll(departments);
 
     // Create fake employees with ages
-    List<Employee> employees = new ArrayList<>();
+    List<EmployeeRequestDto> employees = new ArrayList<>();
     for (int i = 1; i <= 295; i++) {
-      Employee employee = new Employee();
+      EmployeeRequestDto employee = new EmployeeRequestDto();
       employee.setFirstName(faker.name().firstName());
       employee.setLastName(faker.name().lastName());
       employee.setEmail(faker.internet().emailAddress());
       employee.setAge(random.nextInt(40) + 20); // Assign a random age between 20 and 60
 
       // Assign a random department to each employee
-      employee.setDepartment(departments.get(random.nextInt(departments.size())));
+      EmployeeRequestDto.DepartmentRef department = new EmployeeRequestDto.DepartmentRef();
+      department.setId(departments.get(random.nextInt(departments.size())).getId());
+      employee.setDepartment(department);
       employees.add(employee);
     }
-    employeeRepository.saveAll(employees);
+    employeeBulkService.createEmployees(employees);
 
     System.out.println("Fake data initialized successfully, replacing any existing data!");
   }
@@ -2,9 +2,13 @@ package com.example.employeemanagement.controller;
 
 import com.example.employeemanagement.dto.AuthRequestDto;
 import com.example.employeemanagement.dto.ResetPasswordRequestDto;
+import com.example.employeemanagement.exception.TooManyRequestsException;
 import com.example.employeemanagement.model.User;
 import com.example.employeemanagement.repository.UserRepository;
 import com.example.employeemanagement.security.JwtTokenUtil;
+import com.example.employeemanagement.security.LoginRateLimiter;
+import com.example.employeemanagement.security.UserStatusCache;
+import com.example.employeemanagement.security.UsernameFilter;
 import com.example.employeemanagement.webauthn.UserHandles;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -46,6 +51,15 @@ public class AuthController {
   /** Utility for generating and validating JWT tokens. */
   @Autowired private JwtTokenUtil jwtTokenUtil;
 
+  /** Remembers which accounts exist for token authentication; invalidated on account writes. */
+  @Autowired private UserStatusCache userStatusCache;
+
+  /** Throttles logins and password resets before any lookup or hashing. */
+  @Autowired private LoginRateLimiter loginRateLimiter;
+
+  /** Rules out nonexistent usernames without querying the users table. */
+  @Autowired private UsernameFilter usernameFilter;
+
   /**
    * Register user API.
    *
@@ -57,17 +71,26 @@ public class AuthController {
       value = {
         @ApiResponse(responseCode = "200", description = "User registered successfully"),
         @ApiResponse(responseCode = "409", description = "Username already exists"),
+        @ApiResponse(responseCode = "429", description = "Too many password operations"),
         @ApiResponse(responseCode = "500", description = "Unable to register user")
       })
   @PostMapping("/register")
   public ResponseEntity<?> registerUser(@Valid @RequestBody AuthRequestDto request) {
     try {
+      // Refuse known duplicates before hashing; the unique constraint still catches races
+      if (usernameFilter.exists(request.getUsername())) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Username already exists");
+      }
       User user = new User();
       user.setUsername(request.getUsername());
       user.setPassword(passwordEncoder.encode(request.getPassword()));
       user.setUserHandle(UserHandles.generate());
       userRepository.save(user);
+      userStatusCache.invalidate(user.getUsername());
+      usernameFilter.added(user.getUsername());
       return ResponseEntity.ok("User registered successfully!");
+    } catch (TooManyRequestsException e) {
+      throw e;
     } catch (DataIntegrityViolationException e) {
       return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Username already exists");
     } catch (Exception e) {
@@ -80,6 +103,7 @@ public class AuthController {
    * Authenticate user API.
    *
    * @param request The login credentials
+   * @param httpRequest The HTTP request, for the client address
    * @return JWT token
    */
   @Operation(
@@ -89,10 +113,13 @@ public class AuthController {
       value = {
         @ApiResponse(responseCode = "200", description = "User authenticated successfully"),
         @ApiResponse(responseCode = "401", description = "Invalid username or password"),
+        @ApiResponse(responseCode = "429", description = "Too many attempts"),
         @ApiResponse(responseCode = "500", description = "Unable to authenticate user")
       })
   @PostMapping("/authenticate")
-  public ResponseEntity<?> createAuthenticationToken(@Valid @RequestBody AuthRequestDto request) {
+  public ResponseEntity<?> createAuthenticationToken(
+      @Valid @RequestBody AuthRequestDto request, HttpServletRequest httpRequest) {
+    loginRateLimiter.check(request.getUsername(), httpRequest.getRemoteAddr());
     try {
       authenticationManager.authenticate(
           new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
@@ -104,6 +131,8 @@ public class AuthController {
       response.put("token", jwt);
       return ResponseEntity.ok(response);
 
+    } catch (TooManyRequestsException e) {
+      throw e;
     } catch (BadCredentialsException e) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
           .body("Error: Invalid username or password");
@@ -127,8 +156,7 @@ public class AuthController {
       })
   @GetMapping("/verify-username/{username}")
   public ResponseEntity<?> verifyUsername(@PathVariable String username) {
-    Optional<User> user = userRepository.findByUsername(username);
-    if (user.isPresent()) {
+    if (usernameFilter.exists(username)) {
       return ResponseEntity.ok("Username exists");
     } else {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Error: Username not found");
@@ -139,22 +167,27 @@ public class AuthController {
    * Reset password for a given username.
    *
    * @param request The reset password details
+   * @param httpRequest The HTTP request, for the client address
    * @return Response message indicating success or failure
    */
   @Operation(summary = "Reset password", description = "Reset the password for the given username")
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "Password reset successfully"),
-        @ApiResponse(responseCode = "404", description = "Username not found")
+        @ApiResponse(responseCode = "404", description = "Username not found"),
+        @ApiResponse(responseCode = "429", description = "Too many attempts")
       })
   @PostMapping("/reset-password")
-  public ResponseEntity<?> resetPassword(@Valid @RequestBody ResetPasswordRequestDto request) {
+  public ResponseEntity<?> resetPassword(
+      @Valid @RequestBody ResetPasswordRequestDto request, HttpServletRequest httpRequest) {
+    loginRateLimiter.check(request.getUsername(), httpRequest.getRemoteAddr());
     Optional<User> user = userRepository.findByUsername(request.getUsername());
 
     if (user.isPresent()) {
       User existingUser = user.get();
       existingUser.setPassword(passwordEncoder.encode(request.getNewPassword()));
       userRepository.save(existingUser);
+      userStatusCache.invalidate(existingUser.getUsername());
       return ResponseEntity.ok("Password reset successfully");
     } else {
       return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Error: Username not found");
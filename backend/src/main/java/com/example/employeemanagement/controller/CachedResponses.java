@@ -0,0 +1,60 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.service.ResponseBodyCache.CachedBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/** Builds responses that write a {@link CachedBody} as is, in the encoding the client accepts. */
+final class CachedResponses {
+
+  /** Utility class; not instantiable. */
+  private CachedResponses() {}
+
+  /**
+   * Creates a {@code 200 OK} JSON response from a cached body. The gzip copy is sent when the
+   * client accepts it, so neither encoding is produced per request.
+   *
+   * @param body the cached body
+   * @param etag the ETag to send
+   * @param acceptEncoding the request's Accept-Encoding header, or {@code null}
+   * @return the response
+   */
+  static ResponseEntity<byte[]> ok(CachedBody body, String etag, String acceptEncoding) {
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(etag)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (body.getGzip() != null && acceptsGzip(acceptEncoding)) {
+      return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.getGzip());
+    }
+    return response.body(body.getJson());
+  }
+
+  /**
+   * Checks whether an Accept-Encoding header allows gzip, honouring an explicit {@code q=0}.
+   *
+   * @param acceptEncoding the header value, or {@code null}
+   * @return {@code true} if gzip may be sent
+   */
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+        continue;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        String parameter = parts[i].trim().replace(" ", "");
+        if (parameter.matches("[qQ]=0(\\.0*)?")) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+}
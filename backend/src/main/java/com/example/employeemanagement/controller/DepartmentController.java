@@ -1,20 +1,36 @@
 package com.example.employeemanagement.controller;
 
+import com.example.employeemanagement.dto.DepartmentField;
+import com.example.employeemanagement.dto.DepartmentPurgeResultDto;
 import com.example.employeemanagement.dto.DepartmentRequestDto;
 import com.example.employeemanagement.dto.DepartmentResponseDto;
+import com.example.employeemanagement.dto.DepartmentTransferRequestDto;
+import com.example.employeemanagement.dto.DepartmentTransferResultDto;
+import com.example.employeemanagement.exception.BadRequestException;
 import com.example.employeemanagement.exception.ResourceNotFoundException;
 import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.service.DataVersionService;
 import com.example.employeemanagement.service.DepartmentService;
+import com.example.employeemanagement.service.EmployeeWriteBehindQueue;
+import com.example.employeemanagement.service.IdempotencyService;
+import com.example.employeemanagement.service.ResponseBodyCache;
+import com.example.employeemanagement.service.ResponseBodyCache.CachedBody;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,8 +39,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /** This class represents the REST API controller for departments. */
 @RestController
@@ -33,26 +52,85 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Department APIs", description = "API Operations related to managing departments")
 public class DepartmentController {
 
+  /** Description of the {@code fields} parameter shared by the read endpoints. */
+  private static final String FIELDS_DESCRIPTION =
+      "Comma-separated fields to return: id, name, employeeCount. All fields are returned when"
+          + " absent.";
+
   /** Service layer for department business logic. */
   @Autowired private DepartmentService departmentService;
 
+  /** Service providing the data version used as the ETag of read responses. */
+  @Autowired private DataVersionService dataVersionService;
+
+  /** Cache of serialized collection responses, keyed by data version. */
+  @Autowired private ResponseBodyCache responseBodyCache;
+
+  /** Replays the original response of retried creates. */
+  @Autowired private IdempotencyService idempotencyService;
+
+  /** Queue of asynchronous employee updates, whose updates of moved employees are discarded. */
+  @Autowired private EmployeeWriteBehindQueue employeeWriteBehindQueue;
+
+  /** Upper bound on the number of employee IDs a single transfer may list. */
+  @Value("${departments.transfer.max-ids:10000}")
+  private int maxTransferIds;
+
   /**
-   * Get all departments API.
+   * Get all departments API. Answers {@code 304 Not Modified} without reading the database when the
+   * client's {@code If-None-Match} matches the current data version. Otherwise the body is served
+   * from the response cache, gzip-compressed if the client accepts it. With {@code fields}, only
+   * the selected columns are read, and employees are counted only if the count is selected.
    *
+   * @param fields Comma-separated fields to return, or absent for all fields
+   * @param acceptEncoding The request's Accept-Encoding header
+   * @param webRequest The current request, used to evaluate {@code If-None-Match}
    * @return List of all departments
    */
   @Operation(summary = "Get all departments", description = "Retrieve a list of all departments")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Departments retrieved",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = DepartmentResponseDto.class)))),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Departments unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Unknown field")
+      })
   @GetMapping
-  public List<DepartmentResponseDto> getAllDepartments() {
-    return departmentService.getAllDepartments().stream()
-        .map(this::convertToDto)
-        .collect(Collectors.toList());
+  public ResponseEntity<byte[]> getAllDepartments(
+      @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      WebRequest webRequest) {
+    Set<DepartmentField> selected = fields == null ? null : DepartmentField.parse(fields);
+    String etag = dataVersionService.getETag();
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    CachedBody body =
+        selected == null
+            ? responseBodyCache.get(
+                "departments@" + etag, departmentService::getDepartmentSummaries)
+            : responseBodyCache.get(
+                "departments" + selected + "@" + etag,
+                () -> departmentService.getDepartmentFields(selected));
+    return CachedResponses.ok(body, etag, acceptEncoding);
   }
 
   /**
-   * Get department by ID API.
+   * Get department by ID API. With {@code fields}, only the selected fields of the cached
+   * department are serialized.
    *
    * @param id ID of the department to be retrieved
+   * @param fields Comma-separated fields to return, or absent for all fields
+   * @param webRequest The current request, used to evaluate {@code If-None-Match}
    * @return Department with the specified ID
    */
   @Operation(
@@ -60,35 +138,75 @@ public class DepartmentController {
       description = "Retrieve a specific department by its ID")
   @ApiResponses(
       value = {
-        @ApiResponse(responseCode = "200", description = "Department found"),
+        @ApiResponse(
+            responseCode = "200",
+            description = "Department found",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = DepartmentResponseDto.class))),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Department unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Unknown field"),
         @ApiResponse(responseCode = "404", description = "Department not found")
       })
   @GetMapping("/{id}")
-  public ResponseEntity<DepartmentResponseDto> getDepartmentById(
-      @Parameter(description = "ID of the department to be retrieved") @PathVariable Long id) {
-    Department department =
+  public ResponseEntity<?> getDepartmentById(
+      @Parameter(description = "ID of the department to be retrieved") @PathVariable Long id,
+      @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+      WebRequest webRequest) {
+    Set<DepartmentField> selected = fields == null ? null : DepartmentField.parse(fields);
+    String etag = dataVersionService.getETag();
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    DepartmentResponseDto department =
         departmentService
-            .getDepartmentById(id)
+            .getDepartmentSummaryById(id)
             .orElseThrow(
                 () -> new ResourceNotFoundException("Department not found with id: " + id));
-    return ResponseEntity.ok(convertToDto(department));
+    if (selected != null) {
+      return ResponseEntity.ok().eTag(etag).body(DepartmentField.select(department, selected));
+    }
+    return ResponseEntity.ok().eTag(etag).body(department);
   }
 
   /**
-   * Create a new department API.
+   * Create a new department API. A retry carrying the same {@code Idempotency-Key} gets the
+   * original response instead of creating the department again.
    *
    * @param request Department details
+   * @param idempotencyKey The client's idempotency key, if any
    * @return Created department object
    */
   @Operation(summary = "Create a new department", description = "Create a new department record")
-  @ApiResponse(responseCode = "201", description = "Department created successfully")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Department created, or replayed for a repeated Idempotency-Key",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = DepartmentResponseDto.class))),
+        @ApiResponse(responseCode = "409", description = "Same key still in progress"),
+        @ApiResponse(responseCode = "422", description = "Key reused with a different body")
+      })
   @PostMapping
-  public ResponseEntity<DepartmentResponseDto> createDepartment(
-      @Valid @RequestBody DepartmentRequestDto request) {
-    Department department = new Department();
-    department.setName(request.getName());
-    Department created = departmentService.saveDepartment(department);
-    return ResponseEntity.status(HttpStatus.CREATED).body(convertToDto(created));
+  public ResponseEntity<?> createDepartment(
+      @Valid @RequestBody DepartmentRequestDto request,
+      @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+    return idempotencyService.execute(
+        "POST /api/departments",
+        idempotencyKey,
+        request,
+        () -> {
+          Department department = new Department();
+          department.setName(request.getName());
+          Department created = departmentService.saveDepartment(department);
+          return ResponseEntity.status(HttpStatus.CREATED).body(convertToDto(created));
+        });
   }
 
   /**
@@ -110,20 +228,58 @@ public class DepartmentController {
   public ResponseEntity<DepartmentResponseDto> updateDepartment(
       @Parameter(description = "ID of the department to be updated") @PathVariable Long id,
       @Valid @RequestBody DepartmentRequestDto request) {
-    Department department =
+    return ResponseEntity.ok(
         departmentService
-            .getDepartmentById(id)
+            .renameDepartment(id, request.getName())
             .orElseThrow(
-                () -> new ResourceNotFoundException("Department not found with id: " + id));
-
-    department.setName(request.getName());
+                () -> new ResourceNotFoundException("Department not found with id: " + id)));
+  }
 
-    Department updatedDepartment = departmentService.saveDepartment(department);
-    return ResponseEntity.ok(convertToDto(updatedDepartment));
+  /**
+   * Transfer employees API. Moves either the listed employees or every employee of a source
+   * department into this department with a single UPDATE statement.
+   *
+   * @param id ID of the target department
+   * @param request Employee IDs or a source department ID, but not both
+   * @return The number of employees moved
+   */
+  @Operation(
+      summary = "Transfer employees into a department",
+      description =
+          "Move the listed employees, or every employee of fromDepartmentId, into this department"
+              + " with one set-based update. Employees already in the department are skipped.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Employees transferred"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Neither or both of employeeIds and fromDepartmentId given"),
+        @ApiResponse(responseCode = "404", description = "Department not found")
+      })
+  @PostMapping("/{id}/transfer")
+  public DepartmentTransferResultDto transferEmployees(
+      @Parameter(description = "ID of the target department") @PathVariable Long id,
+      @RequestBody DepartmentTransferRequestDto request) {
+    boolean byIds = request.getEmployeeIds() != null;
+    if (byIds == (request.getFromDepartmentId() != null)) {
+      throw new BadRequestException("Give either employeeIds or fromDepartmentId");
+    }
+    if (byIds
+        && (request.getEmployeeIds().isEmpty()
+            || request.getEmployeeIds().size() > maxTransferIds
+            || request.getEmployeeIds().contains(null))) {
+      throw new BadRequestException("employeeIds must list 1 to " + maxTransferIds + " IDs");
+    }
+    if (id.equals(request.getFromDepartmentId())) {
+      throw new BadRequestException("fromDepartmentId must differ from the target department");
+    }
+    return new DepartmentTransferResultDto(
+        departmentService.transferEmployees(id, request, employeeWriteBehindQueue::discard));
   }
 
   /**
-   * Delete a department API.
+   * Delete a department API. The department is deleted by one conditional statement that only
+   * matches while it has no employees.
    *
    * @param id ID of the department to be deleted
    * @return Response entity with no content
@@ -132,30 +288,32 @@ public class DepartmentController {
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "204", description = "Department deleted"),
-        @ApiResponse(responseCode = "404", description = "Department not found")
+        @ApiResponse(responseCode = "404", description = "Department not found"),
+        @ApiResponse(responseCode = "409", description = "Department still has employees")
       })
   @DeleteMapping("/{id}")
-  public ResponseEntity<?> deleteDepartment(
+  public ResponseEntity<Void> deleteDepartment(
       @Parameter(description = "ID of the department to be deleted") @PathVariable Long id) {
-    departmentService
-        .getDepartmentById(id)
-        .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
-
-    long employeeCount = departmentService.countEmployeesInDepartment(id);
-    if (employeeCount > 0) {
-      java.util.Map<String, String> error = new java.util.HashMap<>();
-      error.put(
-          "message",
-          "Cannot delete department with "
-              + employeeCount
-              + " employees. Reassign or remove employees first.");
-      return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
-    }
-
     departmentService.deleteDepartment(id);
     return ResponseEntity.noContent().build();
   }
 
+  /**
+   * Purge empty departments API. Deletes every department without employees in one statement.
+   *
+   * @return The number and IDs of the deleted departments
+   */
+  @Operation(
+      summary = "Delete all empty departments",
+      description = "Delete every department that has no employees, in one set-based statement")
+  @ApiResponses(
+      value = {@ApiResponse(responseCode = "200", description = "Empty departments deleted")})
+  @DeleteMapping("/empty")
+  public DepartmentPurgeResultDto purgeEmptyDepartments() {
+    List<Long> ids = departmentService.purgeEmptyDepartments();
+    return new DepartmentPurgeResultDto(ids.size(), ids);
+  }
+
   /**
    * Converts a {@link Department} entity to a {@link DepartmentResponseDto}.
    *
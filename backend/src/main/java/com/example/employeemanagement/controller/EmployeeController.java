@@ -1,30 +1,61 @@
 package com.example.employeemanagement.controller;
 
+import com.example.employeemanagement.dto.BulkCreateResultDto;
+import com.example.employeemanagement.dto.EmployeeDeleteRequestDto;
+import com.example.employeemanagement.dto.EmployeeDeleteResultDto;
+import com.example.employeemanagement.dto.EmployeeField;
+import com.example.employeemanagement.dto.EmployeePageDto;
+import com.example.employeemanagement.dto.EmployeePatchDto;
 import com.example.employeemanagement.dto.EmployeeRequestDto;
 import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.exception.BadRequestException;
 import com.example.employeemanagement.exception.ResourceNotFoundException;
-import com.example.employeemanagement.model.Department;
-import com.example.employeemanagement.model.Employee;
-import com.example.employeemanagement.service.DepartmentService;
+import com.example.employeemanagement.service.DataVersionService;
+import com.example.employeemanagement.service.EmployeeBulkService;
+import com.example.employeemanagement.service.EmployeeCursor;
+import com.example.employeemanagement.service.EmployeeExportService;
+import com.example.employeemanagement.service.EmployeeSearchIndex;
 import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.service.EmployeeWriteBehindQueue;
+import com.example.employeemanagement.service.IdempotencyService;
+import com.example.employeemanagement.service.ResponseBodyCache;
+import com.example.employeemanagement.service.ResponseBodyCache.CachedBody;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /** This class represents the REST API controller for employees. */
 @RestController
@@ -33,29 +64,324 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Employees APIs", description = "API Operations related to managing employees")
 public class EmployeeController {
 
+  /** The fields a page must read, whether or not they were selected, to build its cursor. */
+  private static final Set<EmployeeField> CURSOR_FIELDS =
+      EnumSet.of(EmployeeField.ID, EmployeeField.FIRST_NAME, EmployeeField.LAST_NAME);
+
+  /** Description of the {@code fields} parameter shared by the read endpoints. */
+  private static final String FIELDS_DESCRIPTION =
+      "Comma-separated fields to return: id, firstName, lastName, email, age, department."
+          + " All fields are returned when absent.";
+
+  /** The {@code Prefer} header preference that queues an update. */
+  private static final String RESPOND_ASYNC = "respond-async";
+
+  /** An employee ETag as built by {@link #versionETag}; the digits fit in a {@code long}. */
+  private static final Pattern VERSION_ETAG = Pattern.compile("W/\"v(\\d{1,18})\"");
+
   /** Service layer for employee business logic. */
   @Autowired private EmployeeService employeeService;
 
-  /** Service layer for department business logic, used to resolve department references. */
-  @Autowired private DepartmentService departmentService;
+  /** Replays the original response of retried creates. */
+  @Autowired private IdempotencyService idempotencyService;
+
+  /** Queue coalescing asynchronous updates until they are flushed. */
+  @Autowired private EmployeeWriteBehindQueue employeeWriteBehindQueue;
+
+  /** Service creating many employees per transaction through JDBC batches. */
+  @Autowired private EmployeeBulkService employeeBulkService;
+
+  /** Service that streams the full employee table without materializing it. */
+  @Autowired private EmployeeExportService employeeExportService;
+
+  /** In-memory search index over employee names, emails and department names. */
+  @Autowired private EmployeeSearchIndex employeeSearchIndex;
+
+  /** Service providing the data version used as the ETag of collection reads. */
+  @Autowired private DataVersionService dataVersionService;
+
+  /** Cache of serialized collection responses, keyed by data version and parameters. */
+  @Autowired private ResponseBodyCache responseBodyCache;
+
+  /** Page size used by the paginated listing when the client does not ask for one. */
+  @Value("${employees.page.default-size:50}")
+  private int defaultPageSize;
+
+  /** Upper bound on the page size a client may request from the paginated listing. */
+  @Value("${employees.page.max-size:500}")
+  private int maxPageSize;
+
+  /** Number of search results returned when the client does not ask for a limit. */
+  @Value("${employees.search.default-limit:20}")
+  private int defaultSearchLimit;
+
+  /** Upper bound on the number of search results a client may request. */
+  @Value("${employees.search.max-limit:100}")
+  private int maxSearchLimit;
+
+  /** Upper bound on the number of employees a single bulk request may create. */
+  @Value("${employees.bulk.max-size:10000}")
+  private int maxBulkSize;
+
+  /** Upper bound on the number of employee IDs a single bulk delete may list. */
+  @Value("${employees.bulk-delete.max-ids:10000}")
+  private int maxBulkDeleteIds;
 
   /**
-   * Get all employees API.
+   * Get all employees API. Answers {@code 304 Not Modified} without reading the database when the
+   * client's {@code If-None-Match} matches the current data version. Otherwise the body is served
+   * from the response cache, gzip-compressed if the client accepts it. With {@code fields}, only
+   * the columns behind the selected fields are read and serialized.
    *
+   * @param fields Comma-separated fields to return, or absent for all fields
+   * @param acceptEncoding The request's Accept-Encoding header
+   * @param webRequest The current request, used to evaluate {@code If-None-Match}
    * @return List of all employees
    */
   @Operation(summary = "Get all employees", description = "Retrieve a list of all employees")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Employees retrieved",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = EmployeeResponseDto.class)))),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Employees unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Unknown field")
+      })
   @GetMapping
-  public List<EmployeeResponseDto> getAllEmployees() {
-    return employeeService.getAllEmployees().stream()
-        .map(this::convertToDto)
-        .collect(Collectors.toList());
+  public ResponseEntity<byte[]> getAllEmployees(
+      @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      WebRequest webRequest) {
+    Set<EmployeeField> selected = fields == null ? null : EmployeeField.parse(fields);
+    String etag = dataVersionService.getETag();
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    CachedBody body =
+        selected == null
+            ? responseBodyCache.get("employees@" + etag, employeeService::getAllEmployeeDtos)
+            : responseBodyCache.get(
+                "employees" + selected + "@" + etag,
+                () -> employeeService.getEmployeeFields(selected));
+    return CachedResponses.ok(body, etag, acceptEncoding);
+  }
+
+  /**
+   * Get a page of employees API, using keyset (cursor) pagination.
+   *
+   * @param size Maximum number of employees to return
+   * @param cursor Opaque token from the previous page's {@code nextCursor}, absent for page one
+   * @param fields Comma-separated fields to return, or absent for all fields
+   * @param acceptEncoding The request's Accept-Encoding header
+   * @param webRequest The current request, used to evaluate {@code If-None-Match}
+   * @return One page of employees ordered by last name, first name and ID
+   */
+  @Operation(
+      summary = "Get a page of employees",
+      description =
+          "Retrieve employees ordered by last name, first name and ID, one page at a time. Pass the"
+              + " returned nextCursor back to fetch the following page.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page retrieved",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = EmployeePageDto.class))),
+        @ApiResponse(responseCode = "304", description = "Page unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Invalid size, cursor or field")
+      })
+  @GetMapping("/page")
+  public ResponseEntity<byte[]> getEmployeePage(
+      @Parameter(description = "Maximum number of employees to return")
+          @RequestParam(required = false)
+          Integer size,
+      @Parameter(description = "Cursor returned by the previous page")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      WebRequest webRequest) {
+    int pageSize = size != null ? size : defaultPageSize;
+    if (pageSize < 1 || pageSize > maxPageSize) {
+      throw new BadRequestException("Page size must be between 1 and " + maxPageSize);
+    }
+    EmployeeCursor after =
+        cursor == null || cursor.isEmpty() ? null : EmployeeCursor.decode(cursor);
+    Set<EmployeeField> selected = fields == null ? null : EmployeeField.parse(fields);
+    String etag = dataVersionService.getETag();
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    String key =
+        "employees/page:"
+            + pageSize
+            + ":"
+            + (after == null ? "" : cursor)
+            + (selected == null ? "" : selected)
+            + "@"
+            + etag;
+    CachedBody body =
+        selected == null
+            ? responseBodyCache.get(key, () -> getPage(after, pageSize))
+            : responseBodyCache.get(key, () -> getFieldsPage(selected, after, pageSize));
+    return CachedResponses.ok(body, etag, acceptEncoding);
+  }
+
+  /**
+   * Reads one page of employees and the cursor of the following page.
+   *
+   * @param after the position after which the page starts, or {@code null} for the first page
+   * @param pageSize the maximum number of employees on the page
+   * @return the page
+   */
+  private EmployeePageDto getPage(EmployeeCursor after, int pageSize) {
+    // Fetch one extra row to learn whether another page exists without a count query
+    List<EmployeeResponseDto> items = employeeService.getEmployeesAfter(after, pageSize + 1);
+    String nextCursor = null;
+    if (items.size() > pageSize) {
+      items = items.subList(0, pageSize);
+      EmployeeResponseDto last = items.get(pageSize - 1);
+      nextCursor =
+          new EmployeeCursor(last.getLastName(), last.getFirstName(), last.getId()).encode();
+    }
+    return new EmployeePageDto(items, nextCursor, pageSize);
+  }
+
+  /**
+   * Reads the selected fields of one page of employees and the cursor of the following page. The
+   * sort keys are always read to build the cursor, then dropped unless they were selected.
+   *
+   * @param fields the fields to return
+   * @param after the position after which the page starts, or {@code null} for the first page
+   * @param pageSize the maximum number of employees on the page
+   * @return the page, in the shape of {@link EmployeePageDto} with sparse items
+   */
+  private Map<String, Object> getFieldsPage(
+      Set<EmployeeField> fields, EmployeeCursor after, int pageSize) {
+    Set<EmployeeField> columns = EnumSet.copyOf(fields);
+    columns.addAll(CURSOR_FIELDS);
+    List<Map<String, Object>> items =
+        employeeService.getEmployeeFieldsAfter(columns, after, pageSize + 1);
+    String nextCursor = null;
+    if (items.size() > pageSize) {
+      items = items.subList(0, pageSize);
+      Map<String, Object> last = items.get(pageSize - 1);
+      nextCursor =
+          new EmployeeCursor(
+                  (String) last.get(EmployeeField.LAST_NAME.getName()),
+                  (String) last.get(EmployeeField.FIRST_NAME.getName()),
+                  (Long) last.get(EmployeeField.ID.getName()))
+              .encode();
+    }
+    for (EmployeeField column : columns) {
+      if (!fields.contains(column)) {
+        items.forEach(item -> item.remove(column.getName()));
+      }
+    }
+    Map<String, Object> page = new LinkedHashMap<>();
+    page.put("items", items);
+    page.put("nextCursor", nextCursor);
+    page.put("size", pageSize);
+    return page;
   }
 
   /**
-   * Get employee by ID API.
+   * Search employees API, answered from an in-memory index without querying the database.
+   *
+   * @param q Whitespace-separated search terms; every term must match
+   * @param limit Maximum number of employees to return
+   * @return The best matching employees, best first
+   */
+  @Operation(
+      summary = "Search employees",
+      description =
+          "Find employees whose first name, last name, email or department name match every term"
+              + " of the query. Terms match whole values, word prefixes or, from three characters,"
+              + " any substring; results are ranked in that order, names before email before"
+              + " department.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Search results retrieved"),
+        @ApiResponse(responseCode = "400", description = "Missing query or invalid limit")
+      })
+  @GetMapping("/search")
+  public List<EmployeeResponseDto> searchEmployees(
+      @Parameter(description = "Search terms") @RequestParam String q,
+      @Parameter(description = "Maximum number of employees to return")
+          @RequestParam(required = false)
+          Integer limit) {
+    int resultLimit = limit != null ? limit : defaultSearchLimit;
+    if (resultLimit < 1 || resultLimit > maxSearchLimit) {
+      throw new BadRequestException("Limit must be between 1 and " + maxSearchLimit);
+    }
+    if (q.trim().isEmpty()) {
+      throw new BadRequestException("Search query must not be blank");
+    }
+    return employeeSearchIndex.search(q, resultLimit);
+  }
+
+  /**
+   * Export all employees API, streamed row by row.
+   *
+   * <p>The body is written while the database is still being read, so clients receive the first
+   * rows immediately and server memory does not grow with the number of employees. NDJSON is
+   * returned when requested via {@code format=ndjson} or an {@code Accept: application/x-ndjson}
+   * header; otherwise a single JSON array is returned.
+   *
+   * @param format Optional output format, {@code json} or {@code ndjson}
+   * @param accept The request's Accept header
+   * @return A streaming body containing every employee
+   */
+  @Operation(
+      summary = "Export all employees",
+      description =
+          "Stream every employee as a JSON array, or as newline-delimited JSON when format=ndjson"
+              + " or Accept: application/x-ndjson")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportEmployees(
+      @Parameter(description = "Output format: json (default) or ndjson")
+          @RequestParam(required = false)
+          String format,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+    boolean ndjson =
+        "ndjson".equalsIgnoreCase(format)
+            || (format == null
+                && accept != null
+                && accept.contains(MediaType.APPLICATION_NDJSON_VALUE));
+    if (format != null && !ndjson && !"json".equalsIgnoreCase(format)) {
+      throw new BadRequestException("Unsupported export format: " + format);
+    }
+
+    if (ndjson) {
+      return ResponseEntity.ok()
+          .contentType(MediaType.APPLICATION_NDJSON)
+          .body(employeeExportService::exportNdjson);
+    }
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(employeeExportService::exportJsonArray);
+  }
+
+  /**
+   * Get employee by ID API. The ETag is the employee's own weak version tag {@code
+   * W/"v<version>"}, which a PATCH accepts as its {@code If-Match}; a matching {@code
+   * If-None-Match} answers {@code 304 Not Modified}. With {@code fields}, only the selected fields
+   * of the cached employee are serialized.
    *
    * @param id ID of the employee to be retrieved
+   * @param fields Comma-separated fields to return, or absent for all fields
+   * @param webRequest The current request, used to evaluate {@code If-None-Match}
    * @return Employee with the specified ID
    */
   @Operation(
@@ -63,74 +389,180 @@ public class EmployeeController {
       description = "Retrieve a specific employee by their ID")
   @ApiResponses(
       value = {
-        @ApiResponse(responseCode = "200", description = "Employee found"),
+        @ApiResponse(
+            responseCode = "200",
+            description = "Employee found",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = EmployeeResponseDto.class))),
+        @ApiResponse(responseCode = "304", description = "Employee unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Unknown field"),
         @ApiResponse(responseCode = "404", description = "Employee not found")
       })
   @GetMapping("/{id}")
-  public ResponseEntity<EmployeeResponseDto> getEmployeeById(@PathVariable Long id) {
-    Employee employee =
+  public ResponseEntity<?> getEmployeeById(
+      @PathVariable Long id,
+      @Parameter(description = FIELDS_DESCRIPTION) @RequestParam(required = false) String fields,
+      WebRequest webRequest) {
+    Set<EmployeeField> selected = fields == null ? null : EmployeeField.parse(fields);
+    EmployeeResponseDto employee =
         employeeService
-            .getEmployeeById(id)
+            .getEmployeeDtoById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    String etag = versionETag(employee.getVersion());
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
 
-    return ResponseEntity.ok(convertToDto(employee));
+    if (selected != null) {
+      return ResponseEntity.ok().eTag(etag).body(EmployeeField.select(employee, selected));
+    }
+    return ResponseEntity.ok().eTag(etag).body(employee);
   }
 
   /**
-   * Create a new employee API.
+   * Create a new employee API. A retry carrying the same {@code Idempotency-Key} gets the original
+   * response instead of creating the employee again.
    *
    * @param request New employee details
+   * @param idempotencyKey The client's idempotency key, if any
    * @return New employee record
    */
   @Operation(summary = "Create a new employee", description = "Create a new employee record")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Employee created, or replayed for a repeated Idempotency-Key",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = EmployeeResponseDto.class))),
+        @ApiResponse(responseCode = "409", description = "Same key still in progress"),
+        @ApiResponse(responseCode = "422", description = "Key reused with a different body")
+      })
   @PostMapping
-  public ResponseEntity<EmployeeResponseDto> createEmployee(
-      @Valid @RequestBody EmployeeRequestDto request) {
-    Employee employee = convertToEntity(request);
-    Employee savedEmployee = employeeService.saveEmployee(employee);
-    return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED)
-        .body(convertToDto(savedEmployee));
+  public ResponseEntity<?> createEmployee(
+      @Valid @RequestBody EmployeeRequestDto request,
+      @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+    return idempotencyService.execute(
+        "POST /api/employees",
+        idempotencyKey,
+        request,
+        () -> {
+          EmployeeResponseDto created = employeeService.createEmployee(request);
+          return ResponseEntity.status(HttpStatus.CREATED)
+              .eTag(versionETag(created.getVersion()))
+              .body(created);
+        });
   }
 
   /**
-   * Update an existing employee API.
+   * Create many employees API. Each row is validated on its own; invalid rows are reported and
+   * skipped while the valid ones are inserted through JDBC batches in a single transaction.
+   *
+   * @param requests New employee details, one per employee
+   * @return The generated IDs in request order and the rejected rows
+   */
+  @Operation(
+      summary = "Create many employees",
+      description =
+          "Create up to employees.bulk.max-size employees in one transaction. Invalid rows are"
+              + " reported by index and skipped; the remaining rows are created.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Valid rows created, others reported"),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized request")
+      })
+  @PostMapping("/bulk")
+  public BulkCreateResultDto createEmployees(@RequestBody List<EmployeeRequestDto> requests) {
+    if (requests.isEmpty() || requests.size() > maxBulkSize) {
+      throw new BadRequestException("A bulk request must contain 1 to " + maxBulkSize + " rows");
+    }
+    return employeeBulkService.createEmployees(requests);
+  }
+
+  /**
+   * Update an existing employee API. With {@code Prefer: respond-async}, the update is queued,
+   * coalesced with other queued updates of the same employee and applied by a background flush.
    *
    * @param id ID of the employee to be updated
    * @param request Updated employee details
-   * @return Updated employee record
+   * @param prefer The {@code Prefer} request header
+   * @return Updated employee record, or no body if the update was queued
    */
   @Operation(
       summary = "Update an existing employee",
-      description = "Update an existing employee's details")
+      description =
+          "Update an existing employee's details. When employees.write-behind.enabled is set,"
+              + " send Prefer: respond-async to queue the update instead: it is acknowledged with"
+              + " 202 once journaled, and only the last update of an employee queued before the"
+              + " next flush is applied.")
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "Employee updated"),
+        @ApiResponse(responseCode = "202", description = "Update queued"),
         @ApiResponse(responseCode = "404", description = "Employee not found")
       })
   @PutMapping("/{id}")
   public ResponseEntity<EmployeeResponseDto> updateEmployee(
-      @PathVariable Long id, @Valid @RequestBody EmployeeRequestDto request) {
-    Employee employee =
-        employeeService
-            .getEmployeeById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
-
-    Department department =
-        departmentService
-            .getDepartmentById(request.getDepartment().getId())
-            .orElseThrow(
-                () ->
-                    new ResourceNotFoundException(
-                        "Department not found with id: " + request.getDepartment().getId()));
-
-    employee.setFirstName(request.getFirstName());
-    employee.setLastName(request.getLastName());
-    employee.setEmail(request.getEmail());
-    employee.setDepartment(department);
-    employee.setAge(request.getAge());
+      @PathVariable Long id,
+      @Valid @RequestBody EmployeeRequestDto request,
+      @RequestHeader(value = "Prefer", required = false) String prefer) {
+    if (prefersAsync(prefer) && employeeWriteBehindQueue.isEnabled()) {
+      employeeWriteBehindQueue.enqueue(id, request);
+      return ResponseEntity.accepted()
+          .header(HttpHeaders.LOCATION, "/api/employees/" + id)
+          .header("Preference-Applied", RESPOND_ASYNC)
+          .build();
+    }
+    // A queued update is older than this one and must not overwrite it
+    employeeWriteBehindQueue.discard(id);
+    EmployeeResponseDto updated = employeeService.updateEmployee(id, request);
+    return ResponseEntity.ok().eTag(versionETag(updated.getVersion())).body(updated);
+  }
 
-    Employee updatedEmployee = employeeService.saveEmployee(employee);
-    return ResponseEntity.ok(convertToDto(updatedEmployee));
+  /**
+   * Partially update an employee API. The update only applies while the employee still has the
+   * version in the {@code If-Match} ETag, which makes concurrent edits fail instead of overwriting
+   * each other.
+   *
+   * @param id ID of the employee to be updated
+   * @param patch The fields to change
+   * @param ifMatch The ETag of the expected version, or {@code *} for any version
+   * @return Updated employee record with its new version
+   */
+  @Operation(
+      summary = "Partially update an employee",
+      description =
+          "Change only the fields present in the body. If-Match must carry the employee's ETag,"
+              + " W/\"v<version>\" as returned by GET, PUT or PATCH /api/employees/{id}, or * to"
+              + " accept any version.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Employee updated"),
+        @ApiResponse(responseCode = "400", description = "Invalid or empty patch"),
+        @ApiResponse(responseCode = "404", description = "Employee or department not found"),
+        @ApiResponse(responseCode = "412", description = "Employee changed since that version"),
+        @ApiResponse(responseCode = "428", description = "If-Match missing")
+      })
+  @PatchMapping("/{id}")
+  public ResponseEntity<?> patchEmployee(
+      @PathVariable Long id,
+      @Valid @RequestBody EmployeePatchDto patch,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    if (ifMatch == null) {
+      return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED)
+          .body(Map.of("message", "If-Match with the employee's ETag is required"));
+    }
+    if (patch.isEmpty()) {
+      throw new BadRequestException("The patch must contain at least one field");
+    }
+    Long version = parseVersion(ifMatch);
+    employeeWriteBehindQueue.discard(id);
+    EmployeeResponseDto patched = employeeService.patchEmployee(id, version, patch);
+    return ResponseEntity.ok().eTag(versionETag(patched.getVersion())).body(patched);
   }
 
   /**
@@ -147,61 +579,91 @@ public class EmployeeController {
       })
   @DeleteMapping("/{id}")
   public ResponseEntity<Void> deleteEmployee(@PathVariable Long id) {
-    employeeService
-        .getEmployeeById(id)
-        .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
-
+    employeeWriteBehindQueue.discard(id);
     employeeService.deleteEmployee(id);
     return ResponseEntity.noContent().build();
   }
 
   /**
-   * Converts an {@link Employee} entity to an {@link EmployeeResponseDto}.
+   * Delete many employees API. Deletes either the listed employees or every employee of a
+   * department with a few set-based DELETE statements.
    *
-   * @param employee the employee entity to convert
-   * @return the corresponding response DTO, including a nested department DTO if present
+   * @param request Employee IDs or a department ID, but not both
+   * @return The number of employees deleted and the listed IDs that did not exist
    */
-  private EmployeeResponseDto convertToDto(Employee employee) {
-    EmployeeResponseDto dto = new EmployeeResponseDto();
-    dto.setId(employee.getId());
-    dto.setFirstName(employee.getFirstName());
-    dto.setLastName(employee.getLastName());
-    dto.setEmail(employee.getEmail());
-    dto.setAge(employee.getAge());
-    if (employee.getDepartment() != null) {
-      EmployeeResponseDto.DepartmentDto deptDto = new EmployeeResponseDto.DepartmentDto();
-      deptDto.setId(employee.getDepartment().getId());
-      deptDto.setName(employee.getDepartment().getName());
-      dto.setDepartment(deptDto);
+  @Operation(
+      summary = "Delete many employees",
+      description =
+          "Delete the listed employees, or every employee of departmentId, with chunked"
+              + " DELETE ... WHERE id IN (...) statements in one transaction. Listed IDs that do"
+              + " not exist are reported in notFound.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Employees deleted"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Neither or both of ids and departmentId given, or too many IDs"),
+        @ApiResponse(responseCode = "404", description = "Department not found")
+      })
+  @DeleteMapping
+  public EmployeeDeleteResultDto deleteEmployees(@RequestBody EmployeeDeleteRequestDto request) {
+    boolean byIds = request.getIds() != null;
+    if (byIds == (request.getDepartmentId() != null)) {
+      throw new BadRequestException("Give either ids or departmentId");
+    }
+    if (byIds
+        && (request.getIds().isEmpty()
+            || request.getIds().size() > maxBulkDeleteIds
+            || request.getIds().contains(null))) {
+      throw new BadRequestException("ids must list 1 to " + maxBulkDeleteIds + " IDs");
     }
-    return dto;
+    return employeeService.deleteEmployees(request, employeeWriteBehindQueue::discard);
   }
 
   /**
-   * Converts an {@link EmployeeRequestDto} to an {@link Employee} entity, resolving the department
-   * reference.
+   * Builds the ETag of one version of an employee.
    *
-   * @param request the request DTO containing employee details
-   * @return the corresponding employee entity with its department association set
-   * @throws com.example.employeemanagement.exception.ResourceNotFoundException if the referenced
-   *     department does not exist
+   * @param version the employee's version
+   * @return the weak ETag {@code W/"v<version>"}
    */
-  private Employee convertToEntity(EmployeeRequestDto request) {
-    Employee employee = new Employee();
-    employee.setFirstName(request.getFirstName());
-    employee.setLastName(request.getLastName());
-    employee.setEmail(request.getEmail());
-    employee.setAge(request.getAge());
+  private static String versionETag(Long version) {
+    return "W/\"v" + version + "\"";
+  }
 
-    Department department =
-        departmentService
-            .getDepartmentById(request.getDepartment().getId())
-            .orElseThrow(
-                () ->
-                    new ResourceNotFoundException(
-                        "Department not found with id: " + request.getDepartment().getId()));
-    employee.setDepartment(department);
+  /**
+   * Parses the version from an {@code If-Match} header.
+   *
+   * @param ifMatch the header value: an ETag from {@link #versionETag}, or {@code *}
+   * @return the version, or {@code null} for {@code *}
+   * @throws BadRequestException if the value is neither
+   */
+  private static Long parseVersion(String ifMatch) {
+    String value = ifMatch.trim();
+    if (value.equals("*")) {
+      return null;
+    }
+    Matcher matcher = VERSION_ETAG.matcher(value);
+    if (!matcher.matches()) {
+      throw new BadRequestException("If-Match must be an employee ETag W/\"v<version>\" or *");
+    }
+    return Long.valueOf(matcher.group(1));
+  }
 
-    return employee;
+  /**
+   * Checks whether a {@code Prefer} header asks for asynchronous processing.
+   *
+   * @param prefer the header value, or {@code null}
+   * @return {@code true} if it contains the {@code respond-async} preference
+   */
+  private static boolean prefersAsync(String prefer) {
+    if (prefer == null) {
+      return false;
+    }
+    for (String preference : prefer.split(",")) {
+      if (preference.split(";", 2)[0].trim().equalsIgnoreCase(RESPOND_ASYNC)) {
+        return true;
+      }
+    }
+    return false;
   }
 }
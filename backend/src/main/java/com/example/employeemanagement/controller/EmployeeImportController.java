@@ -0,0 +1,83 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.dto.ImportJobDto;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.example.employeemanagement.service.EmployeeImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+/** This class represents the REST API controller for CSV employee import jobs. */
+@RestController
+@RequestMapping("/api/employees/import")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "Employees APIs", description = "API Operations related to managing employees")
+public class EmployeeImportController {
+
+  /** Service running the import jobs. */
+  @Autowired private EmployeeImportService employeeImportService;
+
+  /**
+   * Start a CSV import API. The file is parsed in the background; poll the returned job for
+   * progress.
+   *
+   * @param file CSV file with a header row naming firstName, lastName, email, age and department
+   * @return The queued job, with its status URL in the Location header
+   */
+  @Operation(
+      summary = "Import employees from CSV",
+      description =
+          "Upload a CSV file with the columns firstName, lastName, email, age and department (a"
+              + " department name). Rows are validated in parallel and committed in chunks in the"
+              + " background; invalid rows are reported and skipped.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "202", description = "Import job queued"),
+        @ApiResponse(responseCode = "400", description = "Missing or empty file")
+      })
+  @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<ImportJobDto> importEmployees(
+      @Parameter(description = "CSV file to import") @RequestParam("file") MultipartFile file) {
+    ImportJobDto job = employeeImportService.startImport(file);
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .location(URI.create("/api/employees/import/" + job.getId()))
+        .body(job);
+  }
+
+  /**
+   * Get import job status API.
+   *
+   * @param id ID of the import job
+   * @return Rows processed, throughput and rejected rows of the job
+   */
+  @Operation(
+      summary = "Get import job status",
+      description = "Report rows processed, rows per second and the rejected rows of an import")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Job found"),
+        @ApiResponse(responseCode = "404", description = "Job not found or expired")
+      })
+  @GetMapping("/{id}")
+  public ImportJobDto getImportJob(
+      @Parameter(description = "ID of the import job") @PathVariable String id) {
+    return employeeImportService
+        .getJob(id)
+        .orElseThrow(() -> new ResourceNotFoundException("Import job not found with id: " + id));
+  }
+}
@@ -0,0 +1,123 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.security.JwtTokenUtil;
+import com.example.employeemanagement.security.LoginRateLimiter;
+import com.example.employeemanagement.security.PasswordHashingExecutor;
+import com.example.employeemanagement.security.UserStatusCache;
+import com.example.employeemanagement.security.UsernameFilter;
+import com.example.employeemanagement.service.EntityCacheService;
+import com.example.employeemanagement.service.IdempotencyService;
+import com.example.employeemanagement.service.ResponseBodyCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** This class represents the REST API controller for operational metrics. */
+@RestController
+@RequestMapping("/api/metrics")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "Metrics APIs", description = "API Operations related to runtime metrics")
+public class MetricsController {
+
+  /** Service owning the entity caches. */
+  @Autowired private EntityCacheService entityCacheService;
+
+  /** Cache of serialized collection responses. */
+  @Autowired private ResponseBodyCache responseBodyCache;
+
+  /** Recorded responses of requests sent with an idempotency key. */
+  @Autowired private IdempotencyService idempotencyService;
+
+  /** Verifies tokens, remembering the ones already verified. */
+  @Autowired private JwtTokenUtil jwtTokenUtil;
+
+  /** Account existence checks behind token authentication, with authentication counters. */
+  @Autowired private UserStatusCache userStatusCache;
+
+  /** The bounded pool running password hashing. */
+  @Autowired private PasswordHashingExecutor passwordHashingExecutor;
+
+  /** The throttle on logins and password resets. */
+  @Autowired private LoginRateLimiter loginRateLimiter;
+
+  /** The Bloom filter of usernames. */
+  @Autowired private UsernameFilter usernameFilter;
+
+  /**
+   * Get cache metrics API.
+   *
+   * @return Size, weight, hit, miss and eviction counters for each cache
+   */
+  @Operation(
+      summary = "Get cache metrics",
+      description =
+          "Retrieve size, weight, hit, miss, eviction and expiration counters for each cache. The"
+              + " weight of the response cache is in bytes; other caches weigh one per entry.")
+  @GetMapping("/caches")
+  public Map<String, Map<String, Object>> getCacheMetrics() {
+    Map<String, Map<String, Object>> stats = new LinkedHashMap<>(entityCacheService.stats());
+    stats.put(responseBodyCache.getName(), responseBodyCache.stats());
+    stats.put(idempotencyService.getName(), idempotencyService.stats());
+    stats.put(jwtTokenUtil.getName(), jwtTokenUtil.stats());
+    stats.put(userStatusCache.getName(), userStatusCache.stats());
+    return stats;
+  }
+
+  /**
+   * Get worker pool metrics API.
+   *
+   * @return Size, queue depth, shed tasks, and wait and run times for each dedicated pool
+   */
+  @Operation(
+      summary = "Get worker pool metrics",
+      description =
+          "Retrieve thread count, active threads, queue depth and capacity, completed and rejected"
+              + " tasks, and average and maximum queue wait and run times for each dedicated pool.")
+  @GetMapping("/pools")
+  public Map<String, Map<String, Object>> getPoolMetrics() {
+    Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+    stats.put(passwordHashingExecutor.getName(), passwordHashingExecutor.stats());
+    return stats;
+  }
+
+  /**
+   * Get rate limiter metrics API.
+   *
+   * @return Allowed and rejected requests and tracked keys for each rate limiter
+   */
+  @Operation(
+      summary = "Get rate limiter metrics",
+      description =
+          "Retrieve allowed requests, requests rejected per limit, tracked keys and evicted keys"
+              + " for each rate limiter.")
+  @GetMapping("/rate-limits")
+  public Map<String, Map<String, Object>> getRateLimitMetrics() {
+    Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+    stats.put(loginRateLimiter.getName(), loginRateLimiter.stats());
+    return stats;
+  }
+
+  /**
+   * Get membership filter metrics API.
+   *
+   * @return Size, accuracy and saved queries for each membership filter
+   */
+  @Operation(
+      summary = "Get membership filter metrics",
+      description =
+          "Retrieve memory, hash functions, insertions, target and expected false-positive rates,"
+              + " lookups, skipped queries, false positives and rebuilds for each membership"
+              + " filter.")
+  @GetMapping("/filters")
+  public Map<String, Map<String, Object>> getFilterMetrics() {
+    Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+    stats.put(usernameFilter.getName(), usernameFilter.stats());
+    return stats;
+  }
+}
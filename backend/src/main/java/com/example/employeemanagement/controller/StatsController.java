@@ -0,0 +1,37 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.dto.DashboardStatsDto;
+import com.example.employeemanagement.service.DashboardStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** This class represents the REST API controller for dashboard statistics. */
+@RestController
+@RequestMapping("/api/stats")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "Statistics APIs", description = "API Operations related to dashboard statistics")
+public class StatsController {
+
+  /** Service holding the incrementally maintained statistics. */
+  @Autowired private DashboardStatsService dashboardStatsService;
+
+  /**
+   * Get dashboard statistics API.
+   *
+   * @return Employee and department statistics
+   */
+  @Operation(
+      summary = "Get dashboard statistics",
+      description =
+          "Retrieve headcount, average age, age distribution and department headcounts without"
+              + " downloading every employee")
+  @GetMapping
+  public DashboardStatsDto getStats() {
+    return dashboardStatsService.getStats();
+  }
+}
@@ -0,0 +1,42 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object reporting the outcome of a bulk employee creation.
+ *
+ * <p>Rows are validated independently: invalid rows are reported in {@link #errors} and skipped,
+ * while every valid row is inserted. {@link #ids} lines up with the request, so a client can match
+ * each submitted employee to the ID it was given.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResultDto {
+
+  /** The number of employees created. */
+  private int created;
+
+  /** The ID of each submitted employee in request order, or {@code null} where it was rejected. */
+  private List<Long> ids;
+
+  /** The rejected rows, in request order. */
+  private List<RowError> errors;
+
+  /** The validation errors of one rejected row. */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class RowError {
+
+    /** The zero-based position of the row in the request. */
+    private int index;
+
+    /** Error messages keyed by field name, in the same shape as a single-employee 400. */
+    private Map<String, String> errors;
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the dashboard statistics.
+ *
+ * <p>Aggregates computed on the server so the dashboard does not need to download every employee
+ * and department to derive them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStatsDto {
+
+  /** The total number of employees. */
+  private long employeeCount;
+
+  /** The total number of departments. */
+  private int departmentCount;
+
+  /** The average employee age, or {@code 0} when there are no employees. */
+  private double averageAge;
+
+  /** Employee counts per age range (e.g. {@code "30-39"}), in ascending order of age. */
+  private Map<String, Long> ageRanges;
+
+  /** Every department with its headcount, largest first. */
+  private List<DepartmentResponseDto> departments;
+
+  /** The largest departments by headcount. */
+  private List<DepartmentResponseDto> topDepartments;
+
+  /** The most recently created employees, newest first. */
+  private List<EmployeeResponseDto> recentEmployees;
+}
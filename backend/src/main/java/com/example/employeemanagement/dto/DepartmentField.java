@@ -0,0 +1,81 @@
+package com.example.employeemanagement.dto;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields of a department response that a client can select with {@code fields=}. Responses
+ * list selected fields in declaration order.
+ */
+public enum DepartmentField {
+  /** The department ID. */
+  ID("id"),
+
+  /** The department name. */
+  NAME("name"),
+
+  /** The number of employees in the department. */
+  EMPLOYEE_COUNT("employeeCount");
+
+  /** The name used in requests and as the JSON property. */
+  private final String name;
+
+  /**
+   * Creates a field.
+   *
+   * @param name the name used in requests and as the JSON property
+   */
+  DepartmentField(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets the name used in requests and as the JSON property.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Parses a {@code fields=} parameter.
+   *
+   * @param fields comma-separated field names
+   * @return the selected fields
+   * @throws com.example.employeemanagement.exception.BadRequestException if a name is unknown
+   */
+  public static EnumSet<DepartmentField> parse(String fields) {
+    return FieldSets.parse(fields, DepartmentField.class, DepartmentField::getName);
+  }
+
+  /**
+   * Copies the selected fields of a department into a JSON object.
+   *
+   * @param department the department
+   * @param fields the fields to copy
+   * @return the selected fields by name, in declaration order
+   */
+  public static Map<String, Object> select(
+      DepartmentResponseDto department, Set<DepartmentField> fields) {
+    Map<String, Object> selected = new LinkedHashMap<>();
+    for (DepartmentField field : fields) {
+      switch (field) {
+        case ID:
+          selected.put(field.name, department.getId());
+          break;
+        case NAME:
+          selected.put(field.name, department.getName());
+          break;
+        case EMPLOYEE_COUNT:
+          selected.put(field.name, department.getEmployeeCount());
+          break;
+        default:
+          throw new IllegalStateException("Unhandled field " + field);
+      }
+    }
+    return selected;
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data Transfer Object reporting the outcome of purging empty departments. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentPurgeResultDto {
+
+  /** The number of departments deleted. */
+  private int deleted;
+
+  /** The IDs of the deleted departments. */
+  private List<Long> ids;
+}
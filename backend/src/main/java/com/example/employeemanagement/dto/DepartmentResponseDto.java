@@ -21,4 +21,18 @@ public class DepartmentResponseDto {
 
   /** The number of employees currently assigned to this department. */
   private int employeeCount;
+
+  /**
+   * Creates a department response from an aggregate query row. Used by JPQL constructor
+   * expressions, which pass {@code COUNT(...)} results as {@link Long}.
+   *
+   * @param id the department ID
+   * @param name the department name
+   * @param employeeCount the number of employees in the department
+   */
+  public DepartmentResponseDto(Long id, String name, Long employeeCount) {
+    this.id = id;
+    this.name = name;
+    this.employeeCount = employeeCount.intValue();
+  }
 }
@@ -0,0 +1,22 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for moving employees into a department.
+ *
+ * <p>Exactly one of {@link #employeeIds} and {@link #fromDepartmentId} must be given: either the
+ * listed employees or every employee of the source department is moved.
+ */
+@Data
+@NoArgsConstructor
+public class DepartmentTransferRequestDto {
+
+  /** The employees to move; IDs that do not exist are ignored. */
+  private List<Long> employeeIds;
+
+  /** The department whose employees are all moved. */
+  private Long fromDepartmentId;
+}
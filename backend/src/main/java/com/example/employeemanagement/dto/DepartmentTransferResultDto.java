@@ -0,0 +1,17 @@
+package com.example.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data Transfer Object reporting the outcome of a department transfer. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentTransferResultDto {
+
+  /**
+   * The number of employees moved. Employees already in the target department are not counted.
+   */
+  private int transferred;
+}
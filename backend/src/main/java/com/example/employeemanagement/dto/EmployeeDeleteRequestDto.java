@@ -0,0 +1,22 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for deleting many employees at once.
+ *
+ * <p>Exactly one of {@link #ids} and {@link #departmentId} must be given: either the listed
+ * employees or every employee of the department is deleted.
+ */
+@Data
+@NoArgsConstructor
+public class EmployeeDeleteRequestDto {
+
+  /** The employees to delete; IDs that do not exist are reported back. */
+  private List<Long> ids;
+
+  /** The department whose employees are all deleted. */
+  private Long departmentId;
+}
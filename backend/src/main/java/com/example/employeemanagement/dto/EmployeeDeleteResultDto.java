@@ -0,0 +1,19 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data Transfer Object reporting the outcome of a bulk employee deletion. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeDeleteResultDto {
+
+  /** The number of employees deleted. */
+  private int deleted;
+
+  /** The requested IDs for which no employee existed, in request order. */
+  private List<Long> notFound;
+}
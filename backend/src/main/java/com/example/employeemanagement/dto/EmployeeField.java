@@ -0,0 +1,99 @@
+package com.example.employeemanagement.dto;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields of an employee response that a client can select with {@code fields=}. Responses list
+ * selected fields in declaration order.
+ */
+public enum EmployeeField {
+  /** The employee ID. */
+  ID("id"),
+
+  /** The first name. */
+  FIRST_NAME("firstName"),
+
+  /** The last name. */
+  LAST_NAME("lastName"),
+
+  /** The email address. */
+  EMAIL("email"),
+
+  /** The age. */
+  AGE("age"),
+
+  /** The nested department, with its ID and name. */
+  DEPARTMENT("department");
+
+  /** The name used in requests and as the JSON property. */
+  private final String name;
+
+  /**
+   * Creates a field.
+   *
+   * @param name the name used in requests and as the JSON property
+   */
+  EmployeeField(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Gets the name used in requests and as the JSON property.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Parses a {@code fields=} parameter.
+   *
+   * @param fields comma-separated field names
+   * @return the selected fields
+   * @throws com.example.employeemanagement.exception.BadRequestException if a name is unknown
+   */
+  public static EnumSet<EmployeeField> parse(String fields) {
+    return FieldSets.parse(fields, EmployeeField.class, EmployeeField::getName);
+  }
+
+  /**
+   * Copies the selected fields of an employee into a JSON object.
+   *
+   * @param employee the employee
+   * @param fields the fields to copy
+   * @return the selected fields by name, in declaration order
+   */
+  public static Map<String, Object> select(
+      EmployeeResponseDto employee, Set<EmployeeField> fields) {
+    Map<String, Object> selected = new LinkedHashMap<>();
+    for (EmployeeField field : fields) {
+      switch (field) {
+        case ID:
+          selected.put(field.name, employee.getId());
+          break;
+        case FIRST_NAME:
+          selected.put(field.name, employee.getFirstName());
+          break;
+        case LAST_NAME:
+          selected.put(field.name, employee.getLastName());
+          break;
+        case EMAIL:
+          selected.put(field.name, employee.getEmail());
+          break;
+        case AGE:
+          selected.put(field.name, employee.getAge());
+          break;
+        case DEPARTMENT:
+          selected.put(field.name, employee.getDepartment());
+          break;
+        default:
+          throw new IllegalStateException("Unhandled field " + field);
+      }
+    }
+    return selected;
+  }
+}
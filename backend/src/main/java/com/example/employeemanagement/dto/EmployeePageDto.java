@@ -0,0 +1,27 @@
+package com.example.employeemanagement.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one page of a keyset-paginated employee listing.
+ *
+ * <p>Employees are ordered by last name, first name and ID. To fetch the following page, the client
+ * passes {@link #nextCursor} back unchanged; a {@code null} cursor means the listing is exhausted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePageDto {
+
+  /** The employees on this page, in listing order. */
+  private List<EmployeeResponseDto> items;
+
+  /** The opaque token for the next page, or {@code null} if this is the last page. */
+  private String nextCursor;
+
+  /** The page size that was applied to this request. */
+  private int size;
+}
@@ -0,0 +1,63 @@
+package com.example.employeemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import javax.validation.Valid;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for partial employee updates.
+ *
+ * <p>Every field is optional; only the fields present are changed. Present fields are validated
+ * like their counterparts in {@link EmployeeRequestDto}.
+ */
+@Data
+@NoArgsConstructor
+public class EmployeePatchDto {
+
+  /** Matches strings with at least one non-whitespace character. */
+  private static final String NOT_BLANK = ".*\\S.*";
+
+  /** The new first name, or {@code null} to keep it. Must not be blank. */
+  @Pattern(regexp = NOT_BLANK, message = "First name must not be blank")
+  @Size(max = 255, message = "First name must be at most 255 characters")
+  private String firstName;
+
+  /** The new last name, or {@code null} to keep it. Must not be blank. */
+  @Pattern(regexp = NOT_BLANK, message = "Last name must not be blank")
+  @Size(max = 255, message = "Last name must be at most 255 characters")
+  private String lastName;
+
+  /** The new email address, or {@code null} to keep it. Must be a valid email format. */
+  @Pattern(regexp = NOT_BLANK, message = "Email must not be blank")
+  @Email(message = "Email must be valid")
+  @Size(max = 255, message = "Email must be at most 255 characters")
+  private String email;
+
+  /** The new age, or {@code null} to keep it. Must be between 18 and 65 inclusive. */
+  @Min(value = 18, message = "Age must be at least 18")
+  @Max(value = 65, message = "Age must be at most 65")
+  private Integer age;
+
+  /** A reference to the new department, or {@code null} to keep it. */
+  @Valid private EmployeeRequestDto.DepartmentRef department;
+
+  /**
+   * Checks whether the patch changes anything.
+   *
+   * @return {@code true} if no field is present
+   */
+  @JsonIgnore
+  public boolean isEmpty() {
+    return firstName == null
+        && lastName == null
+        && email == null
+        && age == null
+        && department == null;
+  }
+}
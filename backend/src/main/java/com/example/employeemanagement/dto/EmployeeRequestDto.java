@@ -6,6 +6,7 @@ import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -21,15 +22,18 @@ public class EmployeeRequestDto {
 
   /** The first name of the employee. Must not be blank. */
   @NotBlank(message = "First name is required")
+  @Size(max = 255, message = "First name must be at most 255 characters")
   private String firstName;
 
   /** The last name of the employee. Must not be blank. */
   @NotBlank(message = "Last name is required")
+  @Size(max = 255, message = "Last name must be at most 255 characters")
   private String lastName;
 
   /** The email address of the employee. Must be a valid email format and not blank. */
   @NotBlank(message = "Email is required")
   @Email(message = "Email must be valid")
+  @Size(max = 255, message = "Email must be at most 255 characters")
   private String email;
 
   /** The age of the employee. Must be between 18 and 65 inclusive. */
@@ -1,5 +1,6 @@
 package com.example.employeemanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -31,6 +32,68 @@ public class EmployeeResponseDto {
   /** The department the employee belongs to. */
   private DepartmentDto department;
 
+  /**
+   * The optimistic-lock version, behind the ETag of single-employee responses. Only single-employee
+   * reads and writes include it; it is omitted from the JSON when unknown.
+   */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Long version;
+
+  /**
+   * Creates an employee response from a flat query row. Used by JPQL constructor expressions so
+   * read queries can produce DTOs directly, without hydrating managed entities.
+   *
+   * @param id the employee ID
+   * @param firstName the first name
+   * @param lastName the last name
+   * @param email the email address
+   * @param age the age
+   * @param departmentId the ID of the employee's department
+   * @param departmentName the name of the employee's department
+   */
+  public EmployeeResponseDto(
+      Long id,
+      String firstName,
+      String lastName,
+      String email,
+      int age,
+      Long departmentId,
+      String departmentName) {
+    this.id = id;
+    this.firstName = firstName;
+    this.lastName = lastName;
+    this.email = email;
+    this.age = age;
+    this.department = new DepartmentDto();
+    this.department.setId(departmentId);
+    this.department.setName(departmentName);
+  }
+
+  /**
+   * Creates an employee response from a flat query row that includes the version.
+   *
+   * @param id the employee ID
+   * @param firstName the first name
+   * @param lastName the last name
+   * @param email the email address
+   * @param age the age
+   * @param departmentId the ID of the employee's department
+   * @param departmentName the name of the employee's department
+   * @param version the optimistic-lock version
+   */
+  public EmployeeResponseDto(
+      Long id,
+      String firstName,
+      String lastName,
+      String email,
+      int age,
+      Long departmentId,
+      String departmentName,
+      Long version) {
+    this(id, firstName, lastName, email, age, departmentId, departmentName);
+    this.version = version;
+  }
+
   /**
    * Nested DTO representing department information within an employee response.
    *
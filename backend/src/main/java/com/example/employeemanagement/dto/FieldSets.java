@@ -0,0 +1,47 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.exception.BadRequestException;
+import java.util.EnumSet;
+import java.util.function.Function;
+
+/** Parses the {@code fields=} parameter of sparse fieldset requests. */
+public final class FieldSets {
+
+  /** Utility class; not instantiable. */
+  private FieldSets() {}
+
+  /**
+   * Parses a comma-separated list of field names.
+   *
+   * @param fields the parameter value
+   * @param type the enum listing the selectable fields
+   * @param nameOf maps each field to the name clients use for it
+   * @param <E> the field type
+   * @return the selected fields
+   * @throws BadRequestException if the list is empty or names an unknown field
+   */
+  public static <E extends Enum<E>> EnumSet<E> parse(
+      String fields, Class<E> type, Function<E, String> nameOf) {
+    EnumSet<E> selected = EnumSet.noneOf(type);
+    for (String name : fields.split(",")) {
+      String trimmed = name.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      E match = null;
+      for (E candidate : type.getEnumConstants()) {
+        if (nameOf.apply(candidate).equals(trimmed)) {
+          match = candidate;
+        }
+      }
+      if (match == null) {
+        throw new BadRequestException("Unknown field: " + trimmed);
+      }
+      selected.add(match);
+    }
+    if (selected.isEmpty()) {
+      throw new BadRequestException("fields must name at least one field");
+    }
+    return selected;
+  }
+}
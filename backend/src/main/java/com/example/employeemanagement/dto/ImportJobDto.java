@@ -0,0 +1,57 @@
+package com.example.employeemanagement.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data Transfer Object reporting the progress of a CSV employee import job. */
+@Data
+@NoArgsConstructor
+public class ImportJobDto {
+
+  /** The job ID. */
+  private String id;
+
+  /** The job state: {@code QUEUED}, {@code RUNNING}, {@code COMPLETED} or {@code FAILED}. */
+  private String status;
+
+  /** The number of data rows validated and committed or rejected so far. */
+  private long rowsProcessed;
+
+  /** The number of employees created so far. */
+  private long rowsCreated;
+
+  /** The number of rows rejected so far. */
+  private long rowsRejected;
+
+  /** The average throughput since the job started, in processed rows per second. */
+  private double rowsPerSecond;
+
+  /** When the job started running, or {@code null} while it is queued. */
+  private Instant startedAt;
+
+  /** When the job finished, or {@code null} while it is queued or running. */
+  private Instant finishedAt;
+
+  /** Why the job failed, or {@code null} unless it failed. */
+  private String error;
+
+  /** The first rejected rows, in file order; capped, so it may be shorter than rowsRejected. */
+  private List<RejectedRow> rejectedRows;
+
+  /** The validation errors of one rejected CSV row. */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class RejectedRow {
+
+    /** The line of the file on which the row starts; the header is line 1. */
+    private long line;
+
+    /** Error messages keyed by column name. */
+    private Map<String, String> errors;
+  }
+}
@@ -0,0 +1,104 @@
+package com.example.employeemanagement.event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Published by the department write paths once per operation, listing every department it created,
+ * renamed or deleted.
+ *
+ * <p>Listeners that keep derived in-memory state should consume it with a transactional event
+ * listener, so they only ever observe committed data.
+ */
+public class DepartmentChangeEvent {
+
+  /** The changed departments, in the order they were written. */
+  private final List<Change> changes;
+
+  /**
+   * Creates an event for a batch of changes.
+   *
+   * @param changes the changed departments
+   */
+  public DepartmentChangeEvent(List<Change> changes) {
+    this.changes = Collections.unmodifiableList(changes);
+  }
+
+  /**
+   * Creates an event for a department that was created or renamed.
+   *
+   * @param id the department ID
+   * @param name the department's current name
+   * @return the event
+   */
+  public static DepartmentChangeEvent saved(Long id, String name) {
+    return new DepartmentChangeEvent(Collections.singletonList(new Change(id, name)));
+  }
+
+  /**
+   * Creates an event for a department that was deleted.
+   *
+   * @param id the department ID
+   * @return the event
+   */
+  public static DepartmentChangeEvent deleted(Long id) {
+    return new DepartmentChangeEvent(Collections.singletonList(new Change(id, null)));
+  }
+
+  /**
+   * Gets the changed departments.
+   *
+   * @return the changes
+   */
+  public List<Change> getChanges() {
+    return changes;
+  }
+
+  /** A single department that was saved or deleted. */
+  public static final class Change {
+
+    /** The department ID. */
+    private final Long id;
+
+    /** The department's name after the write, or {@code null} if it was deleted. */
+    private final String name;
+
+    /**
+     * Creates a change.
+     *
+     * @param id the department ID
+     * @param name the name after the write, or {@code null} if the department was deleted
+     */
+    public Change(Long id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    /**
+     * Gets the department ID.
+     *
+     * @return the department ID
+     */
+    public Long getId() {
+      return id;
+    }
+
+    /**
+     * Gets the department's name after the write.
+     *
+     * @return the name, or {@code null} if the department was deleted
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Indicates whether the department was deleted.
+     *
+     * @return {@code true} if deleted
+     */
+    public boolean isDeleted() {
+      return name == null;
+    }
+  }
+}
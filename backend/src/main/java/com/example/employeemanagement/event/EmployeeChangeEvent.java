@@ -0,0 +1,95 @@
+package com.example.employeemanagement.event;
+
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Published by the employee write paths once per operation, listing every employee row it created,
+ * updated or deleted.
+ *
+ * <p>Listeners that keep derived in-memory state (aggregates, caches, indexes) should consume it
+ * with {@code @TransactionalEventListener}, so they only ever observe committed data.
+ */
+public class EmployeeChangeEvent {
+
+  /** The changed rows, in the order they were written. */
+  private final List<Change> changes;
+
+  /**
+   * Creates an event for a batch of changes.
+   *
+   * @param changes the changed rows
+   */
+  public EmployeeChangeEvent(List<Change> changes) {
+    this.changes = Collections.unmodifiableList(changes);
+  }
+
+  /**
+   * Creates an event for a single change.
+   *
+   * @param before the row before the write, or {@code null} if it was created
+   * @param after the row after the write, or {@code null} if it was deleted
+   * @return the event
+   */
+  public static EmployeeChangeEvent of(EmployeeResponseDto before, EmployeeResponseDto after) {
+    return new EmployeeChangeEvent(Collections.singletonList(new Change(before, after)));
+  }
+
+  /**
+   * Gets the changed rows.
+   *
+   * @return the changes
+   */
+  public List<Change> getChanges() {
+    return changes;
+  }
+
+  /** The before and after image of a single employee row. */
+  public static final class Change {
+
+    /** The row before the write, or {@code null} if it was created. */
+    private final EmployeeResponseDto before;
+
+    /** The row after the write, or {@code null} if it was deleted. */
+    private final EmployeeResponseDto after;
+
+    /**
+     * Creates a change.
+     *
+     * @param before the row before the write, or {@code null} if it was created
+     * @param after the row after the write, or {@code null} if it was deleted
+     */
+    public Change(EmployeeResponseDto before, EmployeeResponseDto after) {
+      this.before = before;
+      this.after = after;
+    }
+
+    /**
+     * Gets the row before the write.
+     *
+     * @return the before image, or {@code null} if the employee was created
+     */
+    public EmployeeResponseDto getBefore() {
+      return before;
+    }
+
+    /**
+     * Gets the row after the write.
+     *
+     * @return the after image, or {@code null} if the employee was deleted
+     */
+    public EmployeeResponseDto getAfter() {
+      return after;
+    }
+
+    /**
+     * Gets the ID of the changed employee.
+     *
+     * @return the employee ID
+     */
+    public Long getId() {
+      return after != null ? after.getId() : before.getId();
+    }
+  }
+}
@@ -4,6 +4,7 @@ import com.example.employeemanagement.webauthn.PasskeyException;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -59,6 +60,52 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
   }
 
+  /**
+   * Handles {@link BadRequestException} when a request parameter cannot be interpreted.
+   *
+   * @param ex the exception containing the validation message
+   * @return a {@code 400 Bad Request} response with the error message
+   */
+  @ExceptionHandler(BadRequestException.class)
+  public ResponseEntity<Map<String, String>> handleBadRequestException(BadRequestException ex) {
+
+    Map<String, String> error = new HashMap<>();
+    error.put("message", ex.getMessage());
+
+    return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Handles {@link ConflictException} when a write is not possible in the resource's current state.
+   *
+   * @param ex the exception containing the conflict message
+   * @return a {@code 409 Conflict} response with the error message
+   */
+  @ExceptionHandler(ConflictException.class)
+  public ResponseEntity<Map<String, String>> handleConflictException(ConflictException ex) {
+
+    Map<String, String> error = new HashMap<>();
+    error.put("message", ex.getMessage());
+
+    return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+  }
+
+  /**
+   * Handles {@link PreconditionFailedException} when a conditional update targets a stale version.
+   *
+   * @param ex the exception containing the conflict message
+   * @return a {@code 412 Precondition Failed} response with the error message
+   */
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<Map<String, String>> handlePreconditionFailedException(
+      PreconditionFailedException ex) {
+
+    Map<String, String> error = new HashMap<>();
+    error.put("message", ex.getMessage());
+
+    return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+  }
+
   /**
    * Handles data integrity violations such as unique-constraint or foreign-key conflicts.
    *
@@ -136,6 +183,40 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(error, ex.getStatus());
   }
 
+  /**
+   * Handles {@link IdempotencyException} when an {@code Idempotency-Key} cannot be honored,
+   * returning the status carried by the exception.
+   *
+   * @param ex the idempotency exception
+   * @return a response with the exception's status and message
+   */
+  @ExceptionHandler(IdempotencyException.class)
+  public ResponseEntity<Map<String, String>> handleIdempotencyException(IdempotencyException ex) {
+
+    Map<String, String> error = new HashMap<>();
+    error.put("message", ex.getMessage());
+
+    return new ResponseEntity<>(error, ex.getStatus());
+  }
+
+  /**
+   * Handles {@link TooManyRequestsException} when a request is shed under load.
+   *
+   * @param ex the exception carrying the retry delay
+   * @return a {@code 429 Too Many Requests} response with a {@code Retry-After} header
+   */
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<Map<String, String>> handleTooManyRequestsException(
+      TooManyRequestsException ex) {
+
+    Map<String, String> error = new HashMap<>();
+    error.put("message", ex.getMessage());
+
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(error);
+  }
+
   /**
    * Catch-all handler for any uncaught exceptions not matched by the more specific handlers above.
    *
@@ -0,0 +1,33 @@
+package com.example.employeemanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception for a request whose {@code Idempotency-Key} cannot be honored. Carries the HTTP status
+ * that should be returned to the client.
+ */
+public class IdempotencyException extends RuntimeException {
+
+  /** The HTTP status to return for this error. */
+  private final HttpStatus status;
+
+  /**
+   * Creates an idempotency exception.
+   *
+   * @param status the HTTP status to return
+   * @param message a client-safe error message
+   */
+  public IdempotencyException(HttpStatus status, String message) {
+    super(message);
+    this.status = status;
+  }
+
+  /**
+   * Gets the HTTP status to return.
+   *
+   * @return the status
+   */
+  public HttpStatus getStatus() {
+    return status;
+  }
+}
@@ -0,0 +1,31 @@
+package com.example.employeemanagement.exception;
+
+/**
+ * Exception for a request shed because the server is at capacity for its kind of work. Carries the
+ * number of seconds after which the client may retry.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+  /** Seconds the client should wait before retrying. */
+  private final long retryAfterSeconds;
+
+  /**
+   * Creates the exception.
+   *
+   * @param message a client-safe error message
+   * @param retryAfterSeconds seconds the client should wait before retrying
+   */
+  public TooManyRequestsException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  /**
+   * Gets the number of seconds the client should wait before retrying.
+   *
+   * @return the delay in seconds
+   */
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.employeemanagement.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The single row holding the persisted part of the data version: an epoch that is incremented every
+ * time the application starts, so versions handed out by one run are never reused by the next.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "data_version")
+public class DataVersion {
+
+  /** Primary key; the table only ever holds the row with ID {@code 1}. */
+  @Id private Long id;
+
+  /** Number of application starts recorded so far. */
+  @Column(nullable = false)
+  private long epoch;
+}
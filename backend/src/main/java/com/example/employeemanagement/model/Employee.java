@@ -51,4 +51,12 @@ public class Employee {
   @Min(value = 18, message = "Age must be at least 18")
   @Max(value = 65, message = "Age must be at most 65")
   private int age;
+
+  /**
+   * The optimistic-lock version of the employee, incremented by every update. Bulk and JDBC
+   * updates increment it explicitly.
+   */
+  @Version
+  @Column(nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+  private long version;
 }
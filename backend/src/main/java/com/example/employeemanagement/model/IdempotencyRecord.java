@@ -0,0 +1,46 @@
+package com.example.employeemanagement.model;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The recorded response of a POST request sent with an {@code Idempotency-Key} header, shared by
+ * all instances when idempotency records are persisted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord {
+
+  /** The endpoint and the client-supplied key. */
+  @Id
+  @Column(name = "idempotency_key")
+  private String key;
+
+  /** SHA-256 of the request body, as hex. */
+  @Column(nullable = false, length = 64)
+  private String fingerprint;
+
+  /** HTTP status of the response, or {@code null} while the request is in progress. */
+  private Integer status;
+
+  /** {@code Location} header of the response, if any. */
+  @Column(length = 2048)
+  private String location;
+
+  /** JSON response body. */
+  @Lob private byte[] body;
+
+  /** When the request was first received. */
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+}
@@ -0,0 +1,22 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.model.DataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+/** This interface represents the repository for the persisted data version. */
+public interface DataVersionRepository extends JpaRepository<DataVersion, Long> {
+
+  /**
+   * Atomically increments the epoch of a data version row.
+   *
+   * @param id the ID of the row
+   * @return the number of rows updated, {@code 0} if the row does not exist yet
+   */
+  @Modifying(clearAutomatically = true)
+  @Transactional
+  @Query("UPDATE DataVersion v SET v.epoch = v.epoch + 1 WHERE v.id = :id")
+  int incrementEpoch(Long id);
+}
@@ -0,0 +1,184 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.DepartmentField;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/** Plain JDBC access to the departments table for queries whose shape depends on the request. */
+@Repository
+public class DepartmentJdbcRepository {
+
+  /** The JDBC template backed by the application's data source. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Looks up the names of the given departments in one query.
+   *
+   * @param ids the department IDs
+   * @return the name of each department that exists, by ID
+   */
+  public Map<Long, String> findNamesByIds(Collection<Long> ids) {
+    Map<Long, String> names = new HashMap<>();
+    if (ids.isEmpty()) {
+      return names;
+    }
+    String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+    jdbcTemplate.query(
+        "SELECT id, name FROM departments WHERE id IN (" + placeholders + ")",
+        (RowCallbackHandler)
+            resultSet -> names.put(resultSet.getLong(1), resultSet.getString(2)),
+        ids.toArray());
+    return names;
+  }
+
+  /**
+   * Finds a department by name through {@code idx_departments_name}. Names are not unique; when
+   * several departments share one, the oldest is returned.
+   *
+   * @param name the exact department name
+   * @return the department's ID and name, or empty if no department has that name
+   */
+  public Optional<EmployeeResponseDto.DepartmentDto> findByName(String name) {
+    List<EmployeeResponseDto.DepartmentDto> departments =
+        jdbcTemplate.query(
+            "SELECT id, name FROM departments WHERE name = ? ORDER BY id LIMIT 1",
+            (resultSet, rowNum) -> {
+              EmployeeResponseDto.DepartmentDto department =
+                  new EmployeeResponseDto.DepartmentDto();
+              department.setId(resultSet.getLong(1));
+              department.setName(resultSet.getString(2));
+              return department;
+            },
+            name);
+    return departments.stream().findFirst();
+  }
+
+  /**
+   * Deletes a department with a single conditional DELETE that only matches while no employee
+   * references it. The existence check runs inside the statement, so an employee inserted
+   * concurrently either commits first and prevents the delete, or waits on the department row and
+   * then fails its foreign key check.
+   *
+   * @param id the department ID
+   * @return {@code 1} if the department was deleted, {@code 0} if it does not exist or still has
+   *     employees
+   */
+  public int deleteIfEmpty(Long id) {
+    return jdbcTemplate.update(
+        "DELETE FROM departments WHERE id = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM employees e WHERE e.department_id = ?)",
+        id,
+        id);
+  }
+
+  /**
+   * Reads and locks every department without employees, so they can be deleted without another
+   * transaction adding employees in between. Must run in a transaction.
+   *
+   * @return the IDs of the empty departments
+   */
+  public List<Long> lockEmpty() {
+    return jdbcTemplate.queryForList(
+        "SELECT d.id FROM departments d "
+            + "WHERE NOT EXISTS (SELECT 1 FROM employees e WHERE e.department_id = d.id) "
+            + "FOR UPDATE",
+        Long.class);
+  }
+
+  /**
+   * Deletes the listed departments with a single DELETE, keeping any that gained employees.
+   *
+   * @param ids the department IDs
+   * @return the number of departments deleted
+   */
+  public int deleteAllIfEmpty(Collection<Long> ids) {
+    String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+    return jdbcTemplate.update(
+        "DELETE FROM departments WHERE id IN ("
+            + placeholders
+            + ") AND NOT EXISTS (SELECT 1 FROM employees e WHERE e.department_id = departments.id)",
+        ids.toArray());
+  }
+
+  /**
+   * Reads the selected fields of every department. Employees are joined and grouped only when the
+   * employee count is requested.
+   *
+   * @param fields the fields to read
+   * @return one JSON object per department, ordered by ID
+   */
+  public List<Map<String, Object>> findAllFields(Set<DepartmentField> fields) {
+    StringBuilder sql = new StringBuilder("SELECT ");
+    String separator = "";
+    for (DepartmentField field : fields) {
+      sql.append(separator).append(column(field));
+      separator = ", ";
+    }
+    sql.append(" FROM departments d");
+    if (fields.contains(DepartmentField.EMPLOYEE_COUNT)) {
+      sql.append(" LEFT JOIN employees e ON e.department_id = d.id GROUP BY d.id, d.name");
+    }
+    sql.append(" ORDER BY d.id");
+    return jdbcTemplate.query(sql.toString(), fieldsMapper(fields));
+  }
+
+  /**
+   * Gets the select-list expression backing a field.
+   *
+   * @param field the field
+   * @return the column expression
+   */
+  private static String column(DepartmentField field) {
+    switch (field) {
+      case ID:
+        return "d.id";
+      case NAME:
+        return "d.name";
+      case EMPLOYEE_COUNT:
+        return "COUNT(e.id)";
+      default:
+        throw new IllegalStateException("Unhandled field " + field);
+    }
+  }
+
+  /**
+   * Creates a row mapper reading columns by position in the order the fields were selected.
+   *
+   * @param fields the selected fields
+   * @return the row mapper
+   */
+  private static RowMapper<Map<String, Object>> fieldsMapper(Set<DepartmentField> fields) {
+    return (resultSet, rowNum) -> {
+      Map<String, Object> row = new LinkedHashMap<>();
+      int column = 1;
+      for (DepartmentField field : fields) {
+        switch (field) {
+          case ID:
+            row.put(field.getName(), resultSet.getLong(column++));
+            break;
+          case NAME:
+            row.put(field.getName(), resultSet.getString(column++));
+            break;
+          case EMPLOYEE_COUNT:
+            row.put(field.getName(), resultSet.getInt(column++));
+            break;
+          default:
+            throw new IllegalStateException("Unhandled field " + field);
+        }
+      }
+      return row;
+    };
+  }
+}
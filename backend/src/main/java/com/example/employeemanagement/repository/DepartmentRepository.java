@@ -1,5 +1,6 @@
 package com.example.employeemanagement.repository;
 
+import com.example.employeemanagement.dto.DepartmentResponseDto;
 import com.example.employeemanagement.model.Department;
 import java.util.List;
 import java.util.Optional;
@@ -27,4 +28,41 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
    */
   @Query("SELECT d FROM Department d LEFT JOIN FETCH d.employees WHERE d.id = :id")
   Optional<Department> findByIdWithEmployees(Long id);
+
+  /**
+   * Retrieves every department with its employee count, aggregated in SQL like the {@code
+   * v_department_summary} view. No {@code Employee} rows are loaded.
+   *
+   * @return a list of department summaries ordered by ID
+   */
+  @Query(
+      "SELECT new com.example.employeemanagement.dto.DepartmentResponseDto("
+          + "d.id, d.name, COUNT(e.id)) "
+          + "FROM Department d LEFT JOIN d.employees e "
+          + "GROUP BY d.id, d.name ORDER BY d.id")
+  List<DepartmentResponseDto> findAllSummaries();
+
+  /**
+   * Retrieves a single department with its employee count, aggregated in SQL.
+   *
+   * @param id the department ID
+   * @return an {@link Optional} containing the department summary if found, or empty otherwise
+   */
+  @Query(
+      "SELECT new com.example.employeemanagement.dto.DepartmentResponseDto("
+          + "d.id, d.name, COUNT(e.id)) "
+          + "FROM Department d LEFT JOIN d.employees e "
+          + "WHERE d.id = :id GROUP BY d.id, d.name")
+  Optional<DepartmentResponseDto> findSummaryById(Long id);
+
+  /**
+   * Counts employees per department and age in one pass. Departments without employees appear
+   * once with a {@code null} age and a count of zero, so every department is represented.
+   *
+   * @return rows of {@code [departmentId, departmentName, age, count]}
+   */
+  @Query(
+      "SELECT d.id, d.name, e.age, COUNT(e.id) FROM Department d LEFT JOIN d.employees e "
+          + "GROUP BY d.id, d.name, e.age")
+  List<Object[]> countEmployeesByDepartmentAndAge();
 }
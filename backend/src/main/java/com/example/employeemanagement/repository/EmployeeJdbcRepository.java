@@ -0,0 +1,516 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeField;
+import com.example.employeemanagement.dto.EmployeePatchDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC access to the employees table for workloads where managed JPA entities would be pure
+ * overhead, such as scanning every row once.
+ */
+@Repository
+public class EmployeeJdbcRepository {
+
+  /** Flattened employee/department row, in the same shape as {@code v_employees_with_department}. */
+  private static final String SELECT_ALL_WITH_DEPARTMENT =
+      "SELECT e.id, e.first_name, e.last_name, e.email, e.age, "
+          + "d.id AS department_id, d.name AS department_name "
+          + "FROM employees e JOIN departments d ON d.id = e.department_id "
+          + "ORDER BY e.id";
+
+  /** Single-row insert, batched by the driver; MySQL rewrites a batch into multi-row INSERTs. */
+  private static final String INSERT =
+      "INSERT INTO employees (first_name, last_name, email, age, department_id) "
+          + "VALUES (?, ?, ?, ?, ?)";
+
+  /** Single-row update by ID, batched by the driver. */
+  private static final String UPDATE =
+      "UPDATE employees SET first_name = ?, last_name = ?, email = ?, age = ?, department_id = ?, "
+          + "version = version + 1 WHERE id = ?";
+
+  /** The JDBC template backed by the application's data source. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Streams every employee, with its department, through a forward-only, read-only cursor.
+   *
+   * <p>Rows are mapped one at a time and handed to {@code consumer} before the next one is read, so
+   * no more than {@code fetchSize} rows are ever buffered by the driver. Connector/J ignores a
+   * positive fetch size unless the whole connection uses server-side cursors, so on MySQL this one
+   * statement asks for a row-by-row result stream instead; the connection cannot run other
+   * statements until the scan has finished.
+   *
+   * @param fetchSize the number of rows the driver should fetch per round-trip, where supported
+   * @param consumer receives each employee as soon as it has been mapped
+   */
+  public void streamAllWithDepartments(int fetchSize, Consumer<EmployeeResponseDto> consumer) {
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement =
+              connection.prepareStatement(
+                  SELECT_ALL_WITH_DEPARTMENT,
+                  ResultSet.TYPE_FORWARD_ONLY,
+                  ResultSet.CONCUR_READ_ONLY);
+          statement.setFetchSize(
+              "MySQL".equals(connection.getMetaData().getDatabaseProductName())
+                  ? Integer.MIN_VALUE
+                  : fetchSize);
+          return statement;
+        },
+        (RowCallbackHandler) resultSet -> consumer.accept(mapEmployee(resultSet)));
+  }
+
+  /**
+   * Inserts employees through JDBC batches of {@code batchSize} rows and assigns each DTO the ID
+   * the database generated for it.
+   *
+   * <p>This bypasses Hibernate, whose {@code IDENTITY} ID generation disables insert batching and
+   * costs one round-trip per row. With MySQL, {@code rewriteBatchedStatements=true} on the
+   * connection URL turns each batch into multi-row INSERT statements. The statement joins the
+   * caller's transaction.
+   *
+   * @param employees the employees to insert, each with its department ID set
+   * @param batchSize the number of rows sent per batch
+   */
+  public void insertAll(List<EmployeeResponseDto> employees, int batchSize) {
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              try (PreparedStatement statement =
+                  connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS)) {
+                for (int start = 0; start < employees.size(); start += batchSize) {
+                  int end = Math.min(employees.size(), start + batchSize);
+                  insertBatch(statement, employees.subList(start, end));
+                }
+              }
+              return null;
+            });
+  }
+
+  /**
+   * Executes one batch of inserts and copies the generated keys back onto the DTOs.
+   *
+   * @param statement the insert statement, prepared to return generated keys
+   * @param batch the employees to insert
+   * @throws SQLException if the batch fails
+   */
+  private static void insertBatch(PreparedStatement statement, List<EmployeeResponseDto> batch)
+      throws SQLException {
+    for (EmployeeResponseDto employee : batch) {
+      statement.setString(1, employee.getFirstName());
+      statement.setString(2, employee.getLastName());
+      statement.setString(3, employee.getEmail());
+      statement.setInt(4, employee.getAge());
+      statement.setLong(5, employee.getDepartment().getId());
+      statement.addBatch();
+    }
+    statement.executeBatch();
+    try (ResultSet keys = statement.getGeneratedKeys()) {
+      for (EmployeeResponseDto employee : batch) {
+        if (!keys.next()) {
+          throw new IllegalStateException("Driver returned fewer generated keys than rows");
+        }
+        employee.setId(keys.getLong(1));
+      }
+    }
+  }
+
+  /**
+   * Updates employees through a single JDBC batch. The statement joins the caller's transaction.
+   *
+   * @param employees the new state of each employee, with its ID and department ID set
+   * @return the number of rows updated per employee, in order; {@code 0} for IDs that no longer
+   *     exist
+   */
+  public int[] updateAll(List<EmployeeResponseDto> employees) {
+    List<Object[]> args = new ArrayList<>(employees.size());
+    for (EmployeeResponseDto employee : employees) {
+      args.add(
+          new Object[] {
+            employee.getFirstName(),
+            employee.getLastName(),
+            employee.getEmail(),
+            employee.getAge(),
+            employee.getDepartment().getId(),
+            employee.getId()
+          });
+    }
+    return jdbcTemplate.batchUpdate(UPDATE, args);
+  }
+
+  /**
+   * Changes the given columns of an employee with a single conditional UPDATE that also increments
+   * its version. The statement joins the caller's transaction.
+   *
+   * @param id the employee ID
+   * @param version the version the employee must still have
+   * @param patch the columns to change; absent fields are left as they are
+   * @return the number of rows updated, {@code 0} if the employee does not exist or its version
+   *     differs
+   */
+  public int patch(Long id, long version, EmployeePatchDto patch) {
+    StringBuilder sql = new StringBuilder("UPDATE employees SET ");
+    List<Object> args = new ArrayList<>();
+    if (patch.getFirstName() != null) {
+      sql.append("first_name = ?, ");
+      args.add(patch.getFirstName());
+    }
+    if (patch.getLastName() != null) {
+      sql.append("last_name = ?, ");
+      args.add(patch.getLastName());
+    }
+    if (patch.getEmail() != null) {
+      sql.append("email = ?, ");
+      args.add(patch.getEmail());
+    }
+    if (patch.getAge() != null) {
+      sql.append("age = ?, ");
+      args.add(patch.getAge());
+    }
+    if (patch.getDepartment() != null) {
+      sql.append("department_id = ?, ");
+      args.add(patch.getDepartment().getId());
+    }
+    sql.append("version = version + 1 WHERE id = ? AND version = ?");
+    args.add(id);
+    args.add(version);
+    return jdbcTemplate.update(sql.toString(), args.toArray());
+  }
+
+  /**
+   * Reads and locks the listed employees that are not yet in a department, so they can be moved
+   * there without another transaction changing them in between. Must run in a transaction.
+   *
+   * @param ids the employee IDs; IDs that do not exist are skipped
+   * @param departmentId the target department
+   * @return the employees to move, without their department names
+   */
+  public List<EmployeeResponseDto> lockForTransfer(Collection<Long> ids, Long departmentId) {
+    List<Object> args = new ArrayList<>(ids);
+    args.add(departmentId);
+    return jdbcTemplate.query(
+        "SELECT id, first_name, last_name, email, age, department_id FROM employees "
+            + "WHERE id IN ("
+            + placeholders(ids.size())
+            + ") AND department_id <> ? FOR UPDATE",
+        (resultSet, rowNum) -> mapLockedRow(resultSet),
+        args.toArray());
+  }
+
+  /**
+   * Reads and locks every employee of a department, so the set cannot change before it is moved.
+   * Must run in a transaction.
+   *
+   * @param departmentId the source department
+   * @return the department's employees, without their department names
+   */
+  public List<EmployeeResponseDto> lockDepartmentStaff(Long departmentId) {
+    return jdbcTemplate.query(
+        "SELECT id, first_name, last_name, email, age, department_id FROM employees "
+            + "WHERE department_id = ? FOR UPDATE",
+        (resultSet, rowNum) -> mapLockedRow(resultSet),
+        departmentId);
+  }
+
+  /**
+   * Reads and locks one employee, so it can be updated from a before image that no other
+   * transaction can change until the caller commits. Must run in a transaction.
+   *
+   * @param id the employee ID
+   * @return the employee with its version but without its department name, or empty if it does
+   *     not exist
+   */
+  public Optional<EmployeeResponseDto> lockById(Long id) {
+    return jdbcTemplate
+        .query(
+            "SELECT id, first_name, last_name, email, age, department_id, version FROM employees "
+                + "WHERE id = ? FOR UPDATE",
+            (resultSet, rowNum) -> {
+              EmployeeResponseDto employee = mapLockedRow(resultSet);
+              employee.setVersion(resultSet.getLong(7));
+              return employee;
+            },
+            id)
+        .stream()
+        .findFirst();
+  }
+
+  /**
+   * Reads and locks the listed employees, so they can be deleted without another transaction
+   * changing them in between. The IDs are sent in chunks of {@code chunkSize}. Must run in a
+   * transaction.
+   *
+   * @param ids the employee IDs; IDs that do not exist are skipped
+   * @param chunkSize the number of IDs per statement
+   * @return the existing employees, without their department names
+   */
+  public List<EmployeeResponseDto> lockAll(List<Long> ids, int chunkSize) {
+    List<EmployeeResponseDto> locked = new ArrayList<>(ids.size());
+    for (int start = 0; start < ids.size(); start += chunkSize) {
+      List<Long> chunk = ids.subList(start, Math.min(ids.size(), start + chunkSize));
+      locked.addAll(
+          jdbcTemplate.query(
+              "SELECT id, first_name, last_name, email, age, department_id FROM employees "
+                  + "WHERE id IN ("
+                  + placeholders(chunk.size())
+                  + ") FOR UPDATE",
+              (resultSet, rowNum) -> mapLockedRow(resultSet),
+              chunk.toArray()));
+    }
+    return locked;
+  }
+
+  /**
+   * Deletes the listed employees with one {@code DELETE ... WHERE id IN (...)} per chunk of {@code
+   * chunkSize} IDs. The statements join the caller's transaction.
+   *
+   * @param ids the employee IDs
+   * @param chunkSize the number of IDs per statement
+   * @return the number of employees deleted
+   */
+  public int deleteAll(List<Long> ids, int chunkSize) {
+    int deleted = 0;
+    for (int start = 0; start < ids.size(); start += chunkSize) {
+      List<Long> chunk = ids.subList(start, Math.min(ids.size(), start + chunkSize));
+      deleted +=
+          jdbcTemplate.update(
+              "DELETE FROM employees WHERE id IN (" + placeholders(chunk.size()) + ")",
+              chunk.toArray());
+    }
+    return deleted;
+  }
+
+  /**
+   * Deletes every employee of a department with a single DELETE.
+   *
+   * @param departmentId the department
+   * @return the number of employees deleted
+   */
+  public int deleteDepartmentStaff(Long departmentId) {
+    return jdbcTemplate.update("DELETE FROM employees WHERE department_id = ?", departmentId);
+  }
+
+  /**
+   * Moves the listed employees into a department with a single UPDATE.
+   *
+   * @param ids the employee IDs
+   * @param departmentId the target department
+   * @return the number of employees moved
+   */
+  public int moveToDepartment(Collection<Long> ids, Long departmentId) {
+    List<Object> args = new ArrayList<>(ids.size() + 2);
+    args.add(departmentId);
+    args.addAll(ids);
+    args.add(departmentId);
+    return jdbcTemplate.update(
+        "UPDATE employees SET department_id = ?, version = version + 1 WHERE id IN ("
+            + placeholders(ids.size())
+            + ") AND department_id <> ?",
+        args.toArray());
+  }
+
+  /**
+   * Moves every employee of one department into another with a single UPDATE.
+   *
+   * @param fromDepartmentId the source department
+   * @param toDepartmentId the target department
+   * @return the number of employees moved
+   */
+  public int moveDepartmentStaff(Long fromDepartmentId, Long toDepartmentId) {
+    return jdbcTemplate.update(
+        "UPDATE employees SET department_id = ?, version = version + 1 WHERE department_id = ?",
+        toDepartmentId,
+        fromDepartmentId);
+  }
+
+  /**
+   * Builds a comma-separated list of JDBC placeholders.
+   *
+   * @param count the number of placeholders
+   * @return the placeholders, e.g. {@code ?, ?, ?}
+   */
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  /**
+   * Maps an employee row read for a transfer or a delete. Only the department ID is set on the
+   * nested department; callers fill in the name.
+   *
+   * @param resultSet the result set positioned on a row
+   * @return the employee DTO
+   * @throws SQLException if a column cannot be read
+   */
+  private static EmployeeResponseDto mapLockedRow(ResultSet resultSet) throws SQLException {
+    return new EmployeeResponseDto(
+        resultSet.getLong(1),
+        resultSet.getString(2),
+        resultSet.getString(3),
+        resultSet.getString(4),
+        resultSet.getInt(5),
+        resultSet.getLong(6),
+        null);
+  }
+
+  /**
+   * Reads the selected fields of every employee. Only the columns backing those fields are
+   * selected, and the departments table is joined only when the department is requested.
+   *
+   * @param fields the fields to read
+   * @return one JSON object per employee, ordered by ID
+   */
+  public List<Map<String, Object>> findAllFields(Set<EmployeeField> fields) {
+    return jdbcTemplate.query(selectFields(fields) + " ORDER BY e.id", fieldsMapper(fields));
+  }
+
+  /**
+   * Reads the selected fields of one page of employees ordered by last name, first name and ID,
+   * with the same keyset predicate as {@link EmployeeRepository#findPageAfter}.
+   *
+   * @param fields the fields to read
+   * @param lastName last name of the previous page's final employee, or {@code null} for page one
+   * @param firstName first name of the previous page's final employee
+   * @param id ID of the previous page's final employee
+   * @param limit the maximum number of employees to return
+   * @return one JSON object per employee
+   */
+  public List<Map<String, Object>> findPageFields(
+      Set<EmployeeField> fields, String lastName, String firstName, Long id, int limit) {
+    String order = " ORDER BY e.last_name, e.first_name, e.id LIMIT ?";
+    if (lastName == null) {
+      return jdbcTemplate.query(selectFields(fields) + order, fieldsMapper(fields), limit);
+    }
+    String sql =
+        selectFields(fields)
+            + " WHERE e.last_name > ?"
+            + " OR (e.last_name = ? AND e.first_name > ?)"
+            + " OR (e.last_name = ? AND e.first_name = ? AND e.id > ?)"
+            + order;
+    return jdbcTemplate.query(
+        sql, fieldsMapper(fields), lastName, lastName, firstName, lastName, firstName, id, limit);
+  }
+
+  /**
+   * Builds the SELECT and FROM clauses for a set of fields. Column names come from a fixed
+   * whitelist, never from the request.
+   *
+   * @param fields the fields to read
+   * @return the SQL, without WHERE or ORDER BY clauses
+   */
+  private static String selectFields(Set<EmployeeField> fields) {
+    StringBuilder sql = new StringBuilder("SELECT ");
+    String separator = "";
+    for (EmployeeField field : fields) {
+      sql.append(separator).append(column(field));
+      separator = ", ";
+    }
+    sql.append(" FROM employees e");
+    if (fields.contains(EmployeeField.DEPARTMENT)) {
+      sql.append(" JOIN departments d ON d.id = e.department_id");
+    }
+    return sql.toString();
+  }
+
+  /**
+   * Gets the select-list expression backing a field.
+   *
+   * @param field the field
+   * @return the column or columns, in result-set order
+   */
+  private static String column(EmployeeField field) {
+    switch (field) {
+      case ID:
+        return "e.id";
+      case FIRST_NAME:
+        return "e.first_name";
+      case LAST_NAME:
+        return "e.last_name";
+      case EMAIL:
+        return "e.email";
+      case AGE:
+        return "e.age";
+      case DEPARTMENT:
+        return "d.id AS department_id, d.name AS department_name";
+      default:
+        throw new IllegalStateException("Unhandled field " + field);
+    }
+  }
+
+  /**
+   * Creates a row mapper for a result set built by {@link #selectFields}, reading columns by
+   * position in the order the fields were selected.
+   *
+   * @param fields the selected fields
+   * @return the row mapper
+   */
+  private static RowMapper<Map<String, Object>> fieldsMapper(Set<EmployeeField> fields) {
+    return (resultSet, rowNum) -> {
+      Map<String, Object> row = new LinkedHashMap<>();
+      int column = 1;
+      for (EmployeeField field : fields) {
+        switch (field) {
+          case ID:
+            row.put(field.getName(), resultSet.getLong(column++));
+            break;
+          case FIRST_NAME:
+          case LAST_NAME:
+          case EMAIL:
+            row.put(field.getName(), resultSet.getString(column++));
+            break;
+          case AGE:
+            row.put(field.getName(), resultSet.getInt(column++));
+            break;
+          case DEPARTMENT:
+            EmployeeResponseDto.DepartmentDto deptDto = new EmployeeResponseDto.DepartmentDto();
+            deptDto.setId(resultSet.getLong(column++));
+            deptDto.setName(resultSet.getString(column++));
+            row.put(field.getName(), deptDto);
+            break;
+          default:
+            throw new IllegalStateException("Unhandled field " + field);
+        }
+      }
+      return row;
+    };
+  }
+
+  /**
+   * Maps the current row of a flattened employee/department result set.
+   *
+   * @param resultSet the result set positioned on a row
+   * @return the employee DTO, including its nested department
+   * @throws SQLException if a column cannot be read
+   */
+  private static EmployeeResponseDto mapEmployee(ResultSet resultSet) throws SQLException {
+    EmployeeResponseDto dto = new EmployeeResponseDto();
+    dto.setId(resultSet.getLong("id"));
+    dto.setFirstName(resultSet.getString("first_name"));
+    dto.setLastName(resultSet.getString("last_name"));
+    dto.setEmail(resultSet.getString("email"));
+    dto.setAge(resultSet.getInt("age"));
+    EmployeeResponseDto.DepartmentDto deptDto = new EmployeeResponseDto.DepartmentDto();
+    deptDto.setId(resultSet.getLong("department_id"));
+    deptDto.setName(resultSet.getString("department_name"));
+    dto.setDepartment(deptDto);
+    return dto;
+  }
+}
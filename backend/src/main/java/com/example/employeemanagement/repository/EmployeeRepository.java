@@ -1,10 +1,16 @@
 package com.example.employeemanagement.repository;
 
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.model.Department;
 import com.example.employeemanagement.model.Employee;
 import java.util.List;
 import java.util.Optional;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /** This interface represents a repository for employees. */
@@ -28,6 +34,124 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
   @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department WHERE e.id = :id")
   Optional<Employee> findByIdWithDepartment(Long id);
 
+  /**
+   * Find all employees with their departments as response DTOs. The rows are read straight into
+   * DTOs, so no entities are registered in the persistence context.
+   *
+   * @return List of all employees with their departments
+   */
+  @Query(
+      "SELECT new com.example.employeemanagement.dto.EmployeeResponseDto("
+          + "e.id, e.firstName, e.lastName, e.email, e.age, d.id, d.name) "
+          + "FROM Employee e JOIN e.department d")
+  List<EmployeeResponseDto> findAllDtos();
+
+  /**
+   * Retrieves a single employee with its department as a response DTO.
+   *
+   * @param id the employee ID
+   * @return an {@link Optional} containing the employee if found, or empty otherwise
+   */
+  @Query(
+      "SELECT new com.example.employeemanagement.dto.EmployeeResponseDto("
+          + "e.id, e.firstName, e.lastName, e.email, e.age, d.id, d.name, e.version) "
+          + "FROM Employee e JOIN e.department d WHERE e.id = :id")
+  Optional<EmployeeResponseDto> findDtoById(Long id);
+
+  /**
+   * Retrieves the committed state of an employee as a response DTO, without flushing pending
+   * changes first. Write paths use it to capture the row as it was before they modify it.
+   *
+   * @param id the employee ID
+   * @return an {@link Optional} containing the stored employee if found, or empty otherwise
+   */
+  @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+  @Query(
+      "SELECT new com.example.employeemanagement.dto.EmployeeResponseDto("
+          + "e.id, e.firstName, e.lastName, e.email, e.age, d.id, d.name, e.version) "
+          + "FROM Employee e JOIN e.department d WHERE e.id = :id")
+  Optional<EmployeeResponseDto> findCommittedDtoById(Long id);
+
+  /**
+   * Retrieves the most recently created employees, newest first.
+   *
+   * @param pageable the page request; only its size is used
+   * @return up to {@code pageable.getPageSize()} employees with their departments
+   */
+  @Query(
+      "SELECT new com.example.employeemanagement.dto.EmployeeResponseDto("
+          + "e.id, e.firstName, e.lastName, e.email, e.age, d.id, d.name) "
+          + "FROM Employee e JOIN e.department d "
+          + "ORDER BY e.id DESC")
+  List<EmployeeResponseDto> findNewest(Pageable pageable);
+
+  /**
+   * Retrieves the first page of employees in {@code (lastName, firstName, id)} order.
+   *
+   * @param pageable the page request; only its size is used
+   * @return up to {@code pageable.getPageSize()} employees with their departments
+   */
+  @Query(
+      "SELECT new com.example.employeemanagement.dto.EmployeeResponseDto("
+          + "e.id, e.firstName, e.lastName, e.email, e.age, d.id, d.name) "
+          + "FROM Employee e JOIN e.department d "
+          + "ORDER BY e.lastName, e.firstName, e.id")
+  List<EmployeeResponseDto> findFirstPage(Pageable pageable);
+
+  /**
+   * Retrieves the page of employees that follows the given sort key in {@code (lastName, firstName,
+   * id)} order.
+   *
+   * <p>The predicate seeks into {@code idx_employees_last_first} (InnoDB secondary indexes carry the
+   * primary key, so the index is ordered by all three columns) instead of skipping rows with an
+   * offset, which keeps the cost of a page independent of how deep into the listing it is.
+   *
+   * @param lastName the last name of the last employee on the previous page
+   * @param firstName the first name of the last employee on the previous page
+   * @param id the ID of the last employee on the previous page
+   * @param pageable the page request; only its size is used
+   * @return up to {@code pageable.getPageSize()} employees with their departments
+   */
+  @Query(
+      "SELECT new com.example.employeemanagement.dto.EmployeeResponseDto("
+          + "e.id, e.firstName, e.lastName, e.email, e.age, d.id, d.name) "
+          + "FROM Employee e JOIN e.department d "
+          + "WHERE e.lastName > :lastName "
+          + "OR (e.lastName = :lastName AND e.firstName > :firstName) "
+          + "OR (e.lastName = :lastName AND e.firstName = :firstName AND e.id > :id) "
+          + "ORDER BY e.lastName, e.firstName, e.id")
+  List<EmployeeResponseDto> findPageAfter(
+      String lastName, String firstName, Long id, Pageable pageable);
+
+  /**
+   * Overwrites every column of an employee in a single UPDATE statement, without loading the row
+   * or its department first. The update only applies while the employee still has the given
+   * version, which is incremented like any other update's.
+   *
+   * @param id the employee ID
+   * @param version the version the employee must still have
+   * @param firstName the new first name
+   * @param lastName the new last name
+   * @param email the new email
+   * @param age the new age
+   * @param department the new department; an uninitialized reference is enough
+   * @return the number of rows updated, {@code 0} if the employee does not exist or its version
+   *     differs
+   */
+  @Modifying
+  @Query(
+      "UPDATE Employee e SET e.firstName = :firstName, e.lastName = :lastName, "
+          + "e.email = :email, e.age = :age, e.department = :department, "
+          + "e.version = e.version + 1 WHERE e.id = :id AND e.version = :version")
+  int updateById(
+      Long id,
+      long version,
+      String firstName,
+      String lastName,
+      String email,
+      int age,
+      Department department);
+
   /**
    * Counts the number of employees assigned to the given department.
    *
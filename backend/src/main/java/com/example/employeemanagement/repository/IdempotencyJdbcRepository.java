@@ -0,0 +1,91 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.model.IdempotencyRecord;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC access to the idempotency keys table. A key is claimed with a bare INSERT, so a
+ * concurrent claim of the same key on another instance blocks on the primary key until the first
+ * transaction ends, then fails with a duplicate key error if it committed.
+ */
+@Repository
+public class IdempotencyJdbcRepository {
+
+  /** The JDBC template backed by the application's data source. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Finds the record of a key.
+   *
+   * @param key the endpoint and client-supplied key
+   * @param notBefore records created before this instant are treated as absent
+   * @return the record, or empty if there is none or it has expired
+   */
+  public Optional<IdempotencyRecord> find(String key, Instant notBefore) {
+    List<IdempotencyRecord> records =
+        jdbcTemplate.query(
+            "SELECT idempotency_key, fingerprint, status, location, body, created_at "
+                + "FROM idempotency_keys WHERE idempotency_key = ? AND created_at >= ?",
+            (resultSet, rowNum) ->
+                new IdempotencyRecord(
+                    resultSet.getString(1),
+                    resultSet.getString(2),
+                    resultSet.getObject(3, Integer.class),
+                    resultSet.getString(4),
+                    resultSet.getBytes(5),
+                    resultSet.getTimestamp(6).toInstant()),
+            key,
+            Timestamp.from(notBefore));
+    return records.stream().findFirst();
+  }
+
+  /**
+   * Deletes the record of a key if it has expired, so the key can be claimed again.
+   *
+   * @param key the endpoint and client-supplied key
+   * @param notBefore records created before this instant have expired
+   */
+  public void deleteExpired(String key, Instant notBefore) {
+    jdbcTemplate.update(
+        "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND created_at < ?",
+        key,
+        Timestamp.from(notBefore));
+  }
+
+  /**
+   * Claims a key by inserting an in-progress record. Must run in the transaction that performs the
+   * request, so the claim is released if the request fails.
+   *
+   * @param key the endpoint and client-supplied key
+   * @param fingerprint SHA-256 of the request body, as hex
+   * @param createdAt when the request was received
+   * @throws org.springframework.dao.DuplicateKeyException if the key is already claimed
+   */
+  public void insertPending(String key, String fingerprint, Instant createdAt) {
+    jdbcTemplate.update(
+        "INSERT INTO idempotency_keys (idempotency_key, fingerprint, created_at) VALUES (?, ?, ?)",
+        key,
+        fingerprint,
+        Timestamp.from(createdAt));
+  }
+
+  /**
+   * Stores the response of a claimed key.
+   *
+   * @param record the record holding the key and the response
+   */
+  public void complete(IdempotencyRecord record) {
+    jdbcTemplate.update(
+        "UPDATE idempotency_keys SET status = ?, location = ?, body = ? WHERE idempotency_key = ?",
+        record.getStatus(),
+        record.getLocation(),
+        record.getBody(),
+        record.getKey());
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.employeemanagement.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/** Plain JDBC access to the users table for scans that need no entities. */
+@Repository
+public class UserJdbcRepository {
+
+  /** The JDBC template backed by the application's data source. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Counts the users.
+   *
+   * @return the number of users
+   */
+  public long count() {
+    Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+    return count != null ? count : 0;
+  }
+
+  /**
+   * Streams every username through a forward-only, read-only cursor, so no more than {@code
+   * fetchSize} rows are buffered by the driver.
+   *
+   * @param fetchSize the number of rows the driver should fetch per round-trip
+   * @param consumer receives each username
+   */
+  public void streamUsernames(int fetchSize, Consumer<String> consumer) {
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement =
+              connection.prepareStatement(
+                  "SELECT username FROM users",
+                  ResultSet.TYPE_FORWARD_ONLY,
+                  ResultSet.CONCUR_READ_ONLY);
+          statement.setFetchSize(fetchSize);
+          return statement;
+        },
+        (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getString(1)));
+  }
+}
@@ -14,6 +14,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
    */
   Optional<User> findByUsername(String username);
 
+  /**
+   * Checks whether a user with the given username exists, without loading it.
+   *
+   * @param username the username to search for
+   * @return {@code true} if such a user exists
+   */
+  boolean existsByUsername(String username);
+
   /**
    * Finds a user by their stable WebAuthn user handle.
    *
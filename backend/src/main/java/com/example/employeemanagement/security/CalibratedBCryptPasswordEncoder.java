@@ -0,0 +1,162 @@
+package com.example.employeemanagement.security;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * A BCrypt encoder whose strength is chosen at startup from the measured cost of a hash on this
+ * machine.
+ *
+ * <p>Hashes weaker than the current strength are re-encoded on the user's next successful login,
+ * so raising the strength needs no migration. Stronger hashes are kept as they are: a login never
+ * lowers the cost protecting a stored password. A strength below the hashes already stored
+ * therefore only speeds up hashing of passwords set from then on.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+  /** Logger for the calibration result. */
+  private static final Logger log = LoggerFactory.getLogger(CalibratedBCryptPasswordEncoder.class);
+
+  /** Matches a BCrypt hash, capturing its strength. */
+  private static final Pattern BCRYPT_PATTERN =
+      Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+  /** The lowest strength BCrypt supports. */
+  private static final int BCRYPT_MIN_STRENGTH = 4;
+
+  /** The highest strength BCrypt supports. */
+  private static final int BCRYPT_MAX_STRENGTH = 31;
+
+  /** Timed hashes per strength; the fastest one counts. */
+  private static final int SAMPLES = 2;
+
+  /** The strength new hashes are made with. */
+  private final int strength;
+
+  /**
+   * Creates the encoder.
+   *
+   * @param strength the strength new hashes are made with
+   */
+  public CalibratedBCryptPasswordEncoder(int strength) {
+    super(strength);
+    this.strength = strength;
+  }
+
+  /**
+   * Gets the strength new hashes are made with.
+   *
+   * @return the strength
+   */
+  public int getStrength() {
+    return strength;
+  }
+
+  /**
+   * Checks whether a hash is weaker than this encoder's strength and should be re-encoded.
+   *
+   * @param encodedPassword the stored hash
+   * @return {@code true} if the hash is BCrypt with a lower strength than this encoder's; {@code
+   *     false} for stronger hashes and values that are not BCrypt
+   */
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+    return matcher.matches() && Integer.parseInt(matcher.group(1)) < strength;
+  }
+
+  /**
+   * Measures BCrypt on this machine and picks the highest strength whose hash fits the budget.
+   *
+   * @param budget the longest one hash should take
+   * @param minStrength the lowest strength allowed, used even if it exceeds the budget
+   * @param maxStrength the highest strength allowed
+   * @return the strength
+   * @throws IllegalArgumentException if the bounds are outside 4 to 31 or in the wrong order
+   */
+  public static int calibrate(Duration budget, int minStrength, int maxStrength) {
+    checkBounds(minStrength, maxStrength);
+    String salt = BCrypt.gensalt(minStrength);
+    // Warm up so the first measurement does not include class loading and interpretation
+    BCrypt.hashpw("calibration", salt);
+    int chosen =
+        chooseStrength(
+            budget.toNanos(),
+            minStrength,
+            maxStrength,
+            strength -> {
+              String strengthSalt = BCrypt.gensalt(strength);
+              long fastest = Long.MAX_VALUE;
+              for (int i = 0; i < SAMPLES; i++) {
+                long start = System.nanoTime();
+                BCrypt.hashpw("calibration", strengthSalt);
+                fastest = Math.min(fastest, System.nanoTime() - start);
+              }
+              return fastest;
+            });
+    log.info("BCrypt strength {} chosen for a {} ms hash budget", chosen, budget.toMillis());
+    return chosen;
+  }
+
+  /**
+   * Picks the highest strength whose measured hash time fits the budget.
+   *
+   * <p>Each strength step doubles the work, so strengths are tried upward and the search stops once
+   * the next step is predicted to exceed the budget; no hash far over budget is ever run.
+   *
+   * @param budgetNanos the longest one hash should take, in nanoseconds
+   * @param minStrength the lowest strength allowed, used even if it exceeds the budget
+   * @param maxStrength the highest strength allowed
+   * @param hashNanos measures one hash at a strength, in nanoseconds
+   * @return the strength
+   * @throws IllegalArgumentException if the bounds are outside 4 to 31 or in the wrong order
+   */
+  public static int chooseStrength(
+      long budgetNanos, int minStrength, int maxStrength, IntToLongFunction hashNanos) {
+    checkBounds(minStrength, maxStrength);
+    int strength = minStrength;
+    while (strength < maxStrength) {
+      long nanos = hashNanos.applyAsLong(strength);
+      if (nanos > budgetNanos) {
+        return Math.max(minStrength, strength - 1);
+      }
+      if (nanos * 2 > budgetNanos) {
+        return strength;
+      }
+      strength++;
+    }
+    return maxStrength;
+  }
+
+  /**
+   * Checks that calibration bounds are strengths BCrypt supports, in order.
+   *
+   * @param minStrength the lowest strength allowed
+   * @param maxStrength the highest strength allowed
+   * @throws IllegalArgumentException if the bounds are outside 4 to 31 or in the wrong order
+   */
+  private static void checkBounds(int minStrength, int maxStrength) {
+    if (minStrength < BCRYPT_MIN_STRENGTH
+        || maxStrength > BCRYPT_MAX_STRENGTH
+        || minStrength > maxStrength) {
+      throw new IllegalArgumentException(
+          "BCrypt strength bounds must satisfy "
+              + BCRYPT_MIN_STRENGTH
+              + " <= min <= max <= "
+              + BCRYPT_MAX_STRENGTH
+              + ", got "
+              + minStrength
+              + " and "
+              + maxStrength);
+    }
+  }
+}
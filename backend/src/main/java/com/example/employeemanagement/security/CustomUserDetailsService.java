@@ -5,13 +5,17 @@ import com.example.employeemanagement.repository.UserRepository;
 import java.util.ArrayList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-/** This class represents the custom user details service. */
+/**
+ * This class represents the custom user details service. It also stores re-encoded passwords,
+ * which the authentication provider hands over after a successful login with an outdated hash.
+ */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   /** The user repository. */
   @Autowired private UserRepository userRepository;
@@ -34,4 +38,25 @@ public class CustomUserDetailsService implements UserDetailsService {
     return new org.springframework.security.core.userdetails.User(
         user.getUsername(), user.getPassword(), new ArrayList<>());
   }
+
+  /**
+   * Store a password re-encoded with the current hash settings.
+   *
+   * @param user The authenticated user
+   * @param newPassword The new hash
+   * @return The user details carrying the new hash
+   */
+  @Override
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    userRepository
+        .findByUsername(user.getUsername())
+        .ifPresent(
+            stored -> {
+              stored.setPassword(newPassword);
+              userRepository.save(stored);
+            });
+    return org.springframework.security.core.userdetails.User.withUserDetails(user)
+        .password(newPassword)
+        .build();
+  }
 }
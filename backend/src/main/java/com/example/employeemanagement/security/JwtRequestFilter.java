@@ -1,13 +1,16 @@
 package com.example.employeemanagement.security;
 
 import java.io.IOException;
+import java.util.Collections;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -18,14 +21,29 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
+  /** The principal mode that loads the user from the database on every request. */
+  private static final String DATABASE_MODE = "database";
+
   /** The user details service. */
   @Autowired private UserDetailsService userDetailsService;
 
   /** The JWT token util. */
   @Autowired private JwtTokenUtil jwtTokenUtil;
 
+  /** Answers whether a token's user still exists, in claims mode. */
+  @Autowired private UserStatusCache userStatusCache;
+
+  /**
+   * How the principal is built: {@code claims} builds it from the verified token, checking only
+   * that the account still exists through {@link UserStatusCache}; {@code database} loads it
+   * through the {@link UserDetailsService} on every request.
+   */
+  @Value("${auth.principal-mode:claims}")
+  private String principalMode;
+
   /**
-   * Do filter internal.
+   * Do filter internal. The token is verified once per request, and not at all when the
+   * verified-token cache already knows it.
    *
    * @param request The HTTP servlet request
    * @param response The HTTP servlet response
@@ -40,26 +58,15 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     final String authorizationHeader = request.getHeader("Authorization");
 
-    String username = null;
-    String jwt = null;
-
-    if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-      jwt = authorizationHeader.substring(7);
-      try {
-        username = jwtTokenUtil.extractUsername(jwt);
-      } catch (Exception e) {
-        // Invalid/expired/malformed token — continue unauthenticated
-        chain.doFilter(request, response);
-        return;
-      }
-    }
-
-    if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+    if (authorizationHeader != null
+        && authorizationHeader.startsWith("Bearer ")
+        && SecurityContextHolder.getContext().getAuthentication() == null) {
+      // Invalid/expired/malformed tokens yield null — continue unauthenticated
+      JwtTokenUtil.VerifiedToken token = jwtTokenUtil.verify(authorizationHeader.substring(7));
 
-      UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-      if (jwtTokenUtil.validateToken(jwt, userDetails.getUsername())) {
+      UserDetails userDetails = token != null ? loadPrincipal(token.getSubject()) : null;
 
+      if (userDetails != null) {
         UsernamePasswordAuthenticationToken authenticationToken =
             new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
@@ -69,4 +76,22 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     }
     chain.doFilter(request, response);
   }
+
+  /**
+   * Builds the principal of a verified token.
+   *
+   * @param username The token's subject
+   * @return The principal, or {@code null} if the account no longer exists
+   */
+  private UserDetails loadPrincipal(String username) {
+    if (DATABASE_MODE.equals(principalMode)) {
+      userStatusCache.recordAuthentication(true);
+      return this.userDetailsService.loadUserByUsername(username);
+    }
+    if (!userStatusCache.isActive(username)) {
+      return null;
+    }
+    userStatusCache.recordAuthentication(false);
+    return new User(username, "", Collections.emptyList());
+  }
 }
@@ -1,14 +1,29 @@
 package com.example.employeemanagement.security;
 
+import com.example.employeemanagement.service.BoundedCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
 import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-/** This class represents the JWT token utility. */
+/**
+ * This class represents the JWT token utility.
+ *
+ * <p>Tokens that passed verification are remembered in a bounded cache keyed by the SHA-256 of the
+ * token, so a token reused across a burst of requests is parsed and its signature checked once;
+ * later requests cost one hash and one lookup. Raw tokens are never kept. A cached token is still
+ * rejected once its own expiration passes.
+ */
 @Component
 public class JwtTokenUtil {
 
@@ -16,6 +31,74 @@ public class JwtTokenUtil {
   @Value("${jwt.secret}")
   private String secret;
 
+  /** Verified tokens by the digest of the token. */
+  private final BoundedCache<String, VerifiedToken> verifiedTokens;
+
+  /**
+   * Creates the utility.
+   *
+   * @param cacheMaximumSize the maximum number of verified tokens remembered
+   * @param cacheTtlSeconds how long a verified token is remembered before it is verified again
+   */
+  public JwtTokenUtil(
+      @Value("${jwt.cache.maximum-size:10000}") int cacheMaximumSize,
+      @Value("${jwt.cache.ttl-seconds:300}") long cacheTtlSeconds) {
+    this.verifiedTokens =
+        new BoundedCache<>("jwt", cacheMaximumSize, Duration.ofSeconds(cacheTtlSeconds));
+  }
+
+  /**
+   * Verify a token once, answering repeated tokens from the verified-token cache.
+   *
+   * @param token The token
+   * @return The verified token, or {@code null} if it is malformed, wrongly signed, expired or has
+   *     no subject
+   */
+  public VerifiedToken verify(String token) {
+    String key = digest(token);
+    VerifiedToken verified = verifiedTokens.getIfPresent(key);
+    if (verified == null) {
+      Claims claims;
+      try {
+        claims = extractAllClaims(token);
+      } catch (JwtException | IllegalArgumentException e) {
+        return null;
+      }
+      if (claims.getSubject() == null) {
+        return null;
+      }
+      verified =
+          new VerifiedToken(
+              claims.getSubject(),
+              claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L,
+              claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE);
+      verifiedTokens.put(key, verified);
+    }
+    if (verified.getExpiresAtMillis() <= System.currentTimeMillis()) {
+      verifiedTokens.invalidate(key);
+      return null;
+    }
+    return verified;
+  }
+
+  /**
+   * Reports the verified-token cache's counters.
+   *
+   * @return the statistics, keyed by name
+   */
+  public Map<String, Object> stats() {
+    return verifiedTokens.stats();
+  }
+
+  /**
+   * Gets the verified-token cache's name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return verifiedTokens.getName();
+  }
+
   /**
    * Extract username.
    *
@@ -59,16 +142,6 @@ public class JwtTokenUtil {
     return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
   }
 
-  /**
-   * Determine if the token is expired.
-   *
-   * @param token The token
-   * @return True if the token is expired, false otherwise
-   */
-  private Boolean isTokenExpired(String token) {
-    return extractExpiration(token).before(new Date());
-  }
-
   /**
    * Generate JWT token.
    *
@@ -86,14 +159,84 @@ public class JwtTokenUtil {
   }
 
   /**
-   * Validate token.
+   * Validate token. The token is parsed and verified once.
    *
    * @param token The token
    * @param username The username
    * @return True if the token is valid, false otherwise
    */
   public Boolean validateToken(String token, String username) {
-    final String extractedUsername = extractUsername(token);
-    return (extractedUsername.equals(username) && !isTokenExpired(token));
+    VerifiedToken verified = verify(token);
+    return verified != null && verified.getSubject().equals(username);
+  }
+
+  /**
+   * Computes the cache key of a token.
+   *
+   * @param token The token
+   * @return The Base64 SHA-256 of the token
+   */
+  private static String digest(String token) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform implements SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** The claims of a token whose signature and expiration were verified. */
+  public static final class VerifiedToken {
+
+    /** The username the token was issued to. */
+    private final String subject;
+
+    /** When the token was issued, in epoch milliseconds; {@code 0} if it does not say. */
+    private final long issuedAtMillis;
+
+    /** When the token expires, in epoch milliseconds. */
+    private final long expiresAtMillis;
+
+    /**
+     * Creates a verified token.
+     *
+     * @param subject the username the token was issued to
+     * @param issuedAtMillis when the token was issued, in epoch milliseconds
+     * @param expiresAtMillis when the token expires, in epoch milliseconds
+     */
+    VerifiedToken(String subject, long issuedAtMillis, long expiresAtMillis) {
+      this.subject = subject;
+      this.issuedAtMillis = issuedAtMillis;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+
+    /**
+     * Gets the username the token was issued to.
+     *
+     * @return the username
+     */
+    public String getSubject() {
+      return subject;
+    }
+
+    /**
+     * Gets when the token was issued.
+     *
+     * @return the issue time in epoch milliseconds, or {@code 0} if the token does not say
+     */
+    public long getIssuedAtMillis() {
+      return issuedAtMillis;
+    }
+
+    /**
+     * Gets when the token expires.
+     *
+     * @return the expiration time in epoch milliseconds
+     */
+    public long getExpiresAtMillis() {
+      return expiresAtMillis;
+    }
   }
 }
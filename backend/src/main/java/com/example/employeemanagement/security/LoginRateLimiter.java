@@ -0,0 +1,133 @@
+package com.example.employeemanagement.security;
+
+import com.example.employeemanagement.exception.TooManyRequestsException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Throttles password logins and resets per client address and per username.
+ *
+ * <p>Checks run before any database access or hashing, so a credential-stuffing run is refused
+ * with {@code 429} and {@code Retry-After} instead of costing a user lookup and a BCrypt hash per
+ * attempt. The address limit caps what one client can try across many accounts. The username limit
+ * caps what many clients together can try against one account. Usernames are compared
+ * case-insensitively, so case variants of one name share a bucket.
+ */
+@Component
+public class LoginRateLimiter {
+
+  /** The name under which the limiter reports its statistics. */
+  private static final String NAME = "auth-rate-limit";
+
+  /** Whether requests are throttled at all. */
+  private final boolean enabled;
+
+  /** Buckets by client address. */
+  private final StripedTokenBuckets addresses;
+
+  /** Buckets by username. */
+  private final StripedTokenBuckets usernames;
+
+  /** Requests let through. */
+  private final LongAdder allowed = new LongAdder();
+
+  /** Requests refused because their client address was out of tokens. */
+  private final LongAdder rejectedByAddress = new LongAdder();
+
+  /** Requests refused because their username was out of tokens. */
+  private final LongAdder rejectedByUsername = new LongAdder();
+
+  /**
+   * Creates the limiter.
+   *
+   * @param enabled whether requests are throttled at all
+   * @param addressCapacity the attempts one client address may make at once
+   * @param addressPerMinute attempts per minute one client address regains
+   * @param usernameCapacity the attempts against one username that may be made at once
+   * @param usernamePerMinute attempts per minute one username regains
+   * @param maximumKeys the most addresses, and separately usernames, tracked at once
+   * @param stripes the number of independently locked stripes per key kind
+   */
+  public LoginRateLimiter(
+      @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+      @Value("${auth.rate-limit.address.capacity:20}") int addressCapacity,
+      @Value("${auth.rate-limit.address.per-minute:60}") int addressPerMinute,
+      @Value("${auth.rate-limit.username.capacity:5}") int usernameCapacity,
+      @Value("${auth.rate-limit.username.per-minute:5}") int usernamePerMinute,
+      @Value("${auth.rate-limit.maximum-keys:50000}") int maximumKeys,
+      @Value("${auth.rate-limit.stripes:64}") int stripes) {
+    this.enabled = enabled;
+    this.addresses =
+        new StripedTokenBuckets(addressCapacity, addressPerMinute, maximumKeys, stripes);
+    this.usernames =
+        new StripedTokenBuckets(usernameCapacity, usernamePerMinute, maximumKeys, stripes);
+  }
+
+  /**
+   * Takes one attempt from the client address and the username.
+   *
+   * @param username the username the request is for
+   * @param clientAddress the client's IP address
+   * @throws TooManyRequestsException if either is out of attempts
+   */
+  public void check(String username, String clientAddress) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.nanoTime();
+    long wait = addresses.tryAcquire(clientAddress != null ? clientAddress : "", now);
+    if (wait > 0) {
+      rejectedByAddress.increment();
+      throw rejected(wait);
+    }
+    String key = username != null ? username.toLowerCase(Locale.ROOT) : "";
+    wait = usernames.tryAcquire(key, now);
+    if (wait > 0) {
+      rejectedByUsername.increment();
+      throw rejected(wait);
+    }
+    allowed.increment();
+  }
+
+  /**
+   * Reports the limiter's counters and how many keys it tracks.
+   *
+   * @return the statistics, keyed by name
+   */
+  public Map<String, Object> stats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", enabled);
+    stats.put("allowed", allowed.sum());
+    stats.put("rejectedByAddress", rejectedByAddress.sum());
+    stats.put("rejectedByUsername", rejectedByUsername.sum());
+    stats.put("trackedAddresses", addresses.size());
+    stats.put("trackedUsernames", usernames.size());
+    stats.put("evictions", addresses.evictions() + usernames.evictions());
+    return stats;
+  }
+
+  /**
+   * Gets the limiter's name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return NAME;
+  }
+
+  /**
+   * Creates the exception for a refused request.
+   *
+   * @param waitNanos nanoseconds until an attempt is available
+   * @return the exception
+   */
+  private static TooManyRequestsException rejected(long waitNanos) {
+    long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / 1_000_000_000L);
+    return new TooManyRequestsException("Too many attempts; retry later", seconds);
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.employeemanagement.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * A password encoder that runs another encoder's hashing and verification on the {@link
+ * PasswordHashingExecutor}, so every caller, including Spring Security's authentication provider,
+ * shares the same bounded pool.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+  /** The encoder doing the work. */
+  private final PasswordEncoder delegate;
+
+  /** The pool the work runs on. */
+  private final PasswordHashingExecutor executor;
+
+  /**
+   * Creates the encoder.
+   *
+   * @param delegate the encoder doing the work
+   * @param executor the pool the work runs on
+   */
+  public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+    this.delegate = delegate;
+    this.executor = executor;
+  }
+
+  /**
+   * Hashes a password on the pool.
+   *
+   * @param rawPassword the password
+   * @return the hash
+   */
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return executor.run(() -> delegate.encode(rawPassword));
+  }
+
+  /**
+   * Verifies a password against a hash on the pool.
+   *
+   * @param rawPassword the password
+   * @param encodedPassword the stored hash
+   * @return {@code true} if they match
+   */
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return executor.run(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Checks whether a hash should be re-encoded. This only inspects the hash, so it runs inline.
+   *
+   * @param encodedPassword the stored hash
+   * @return {@code true} if the hash should be re-encoded
+   */
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+}
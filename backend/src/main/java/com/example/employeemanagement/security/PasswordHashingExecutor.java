@@ -0,0 +1,182 @@
+package com.example.employeemanagement.security;
+
+import com.example.employeemanagement.exception.TooManyRequestsException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs password hashing and verification on a small dedicated thread pool with a bounded queue.
+ *
+ * <p>BCrypt is deliberately slow, so a burst of logins run on request threads can take every CPU
+ * and starve ordinary requests. Here at most {@code threads} hashes run at once, at most {@code
+ * queue-capacity} more wait, and anything beyond that is shed at once with a {@link
+ * TooManyRequestsException}, which the API answers with {@code 429} and {@code Retry-After}. The
+ * calling thread waits for its own task, so the number of request threads tied up by hashing is
+ * bounded by the pool and queue sizes.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+  /** The name under which the pool reports its statistics. */
+  private static final String NAME = "password-hashing";
+
+  /** The pool. */
+  private final ThreadPoolExecutor executor;
+
+  /** Seconds a shed client is asked to wait. */
+  private final long retryAfterSeconds;
+
+  /** Tasks that ran to completion or failure. */
+  private final LongAdder completed = new LongAdder();
+
+  /** Tasks shed because the queue was full. */
+  private final LongAdder rejected = new LongAdder();
+
+  /** Total time tasks waited in the queue, in nanoseconds. */
+  private final LongAdder waitNanos = new LongAdder();
+
+  /** Longest time a task waited in the queue, in nanoseconds. */
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+  /** Total time tasks ran, in nanoseconds. */
+  private final LongAdder hashNanos = new LongAdder();
+
+  /** Longest time a task ran, in nanoseconds. */
+  private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Creates the pool.
+   *
+   * @param threads the number of hashing threads; {@code 0} uses half the available processors
+   * @param queueCapacity the number of tasks that may wait for a thread
+   * @param retryAfterSeconds seconds a shed client is asked to wait
+   */
+  public PasswordHashingExecutor(
+      @Value("${auth.hashing.threads:0}") int threads,
+      @Value("${auth.hashing.queue-capacity:32}") int queueCapacity,
+      @Value("${auth.hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+    int poolSize =
+        threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("password-hashing-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  /**
+   * Runs a hashing task on the pool and waits for its result.
+   *
+   * @param task the task
+   * @param <T> the result type
+   * @return the task's result
+   * @throws TooManyRequestsException if the queue is full
+   */
+  public <T> T run(Supplier<T> task) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future =
+          executor.submit(
+              () -> {
+                long startedAt = System.nanoTime();
+                waitNanos.add(startedAt - submittedAt);
+                maxWaitNanos.accumulate(startedAt - submittedAt);
+                try {
+                  return task.get();
+                } finally {
+                  long ranFor = System.nanoTime() - startedAt;
+                  hashNanos.add(ranFor);
+                  maxHashNanos.accumulate(ranFor);
+                  completed.increment();
+                }
+              });
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new TooManyRequestsException(
+          "Too many password operations in progress; retry later", retryAfterSeconds);
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Reports the pool's counters: its size, queue depth, shed tasks, and wait and hash times.
+   *
+   * @return the statistics, keyed by name
+   */
+  public Map<String, Object> stats() {
+    long completedCount = completed.sum();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("threads", executor.getMaximumPoolSize());
+    stats.put("active", executor.getActiveCount());
+    stats.put("queueDepth", executor.getQueue().size());
+    stats.put(
+        "queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+    stats.put("completed", completedCount);
+    stats.put("rejected", rejected.sum());
+    stats.put("averageWaitMillis", averageMillis(waitNanos.sum(), completedCount));
+    stats.put("maxWaitMillis", maxWaitNanos.get() / 1e6);
+    stats.put("averageHashMillis", averageMillis(hashNanos.sum(), completedCount));
+    stats.put("maxHashMillis", maxHashNanos.get() / 1e6);
+    return stats;
+  }
+
+  /**
+   * Gets the pool's name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return NAME;
+  }
+
+  /**
+   * Computes an average in milliseconds.
+   *
+   * @param totalNanos the total in nanoseconds
+   * @param count the number of samples
+   * @return the average, or {@code 0} without samples
+   */
+  private static double averageMillis(long totalNanos, long count) {
+    return count == 0 ? 0 : totalNanos / 1e6 / count;
+  }
+
+  /** Stops the pool, letting queued tasks finish. */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -1,6 +1,8 @@
 package com.example.employeemanagement.security;
 
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpMethod;
@@ -11,8 +13,8 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -23,28 +25,64 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
   /** The user details service. */
   @Autowired private UserDetailsService userDetailsService;
 
+  /** Stores passwords re-encoded after a login with an outdated hash. */
+  @Autowired private UserDetailsPasswordService userDetailsPasswordService;
+
   /** The JWT request filter that authenticates requests carrying a Bearer token. */
   @Autowired private JwtRequestFilter jwtRequestFilter;
 
+  /** The bounded pool that password hashing and verification run on. */
+  @Autowired private PasswordHashingExecutor passwordHashingExecutor;
+
+  /** A fixed BCrypt strength; {@code 0} calibrates it against the latency budget at startup. */
+  @Value("${auth.bcrypt.strength:0}")
+  private int bcryptStrength;
+
+  /** The longest one BCrypt hash should take when calibrating, in milliseconds. */
+  @Value("${auth.bcrypt.latency-budget-ms:100}")
+  private long bcryptLatencyBudgetMillis;
+
+  /**
+   * The lowest strength calibration may choose, down to 4. The default of 10 is the library
+   * default, so calibration only ever raises the cost; a lower floor lets it cut hashing latency
+   * on slow machines, at the price of weaker hashes for passwords set from then on.
+   */
+  @Value("${auth.bcrypt.min-strength:10}")
+  private int bcryptMinStrength;
+
+  /** The highest strength calibration may choose. */
+  @Value("${auth.bcrypt.max-strength:14}")
+  private int bcryptMaxStrength;
+
   /**
-   * Configure authentication.
+   * Configure authentication. A successful login whose stored hash is weaker than the current
+   * strength re-encodes the password and stores it through the {@link UserDetailsPasswordService}.
    *
    * @param auth The authentication manager builder
    * @throws Exception If an error occurs
    */
   @Override
   protected void configure(AuthenticationManagerBuilder auth) throws Exception {
-    auth.userDetailsService(userDetailsService).passwordEncoder(passwordEncoder());
+    auth.userDetailsService(userDetailsService)
+        .passwordEncoder(passwordEncoder())
+        .userDetailsPasswordManager(userDetailsPasswordService);
   }
 
   /**
-   * Password encoder.
+   * Password encoder. BCrypt runs on the {@link PasswordHashingExecutor}, never on request threads,
+   * at a fixed strength or one calibrated against the latency budget on this machine.
    *
    * @return The password encoder
    */
   @Bean
   public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+    int strength =
+        bcryptStrength > 0
+            ? bcryptStrength
+            : CalibratedBCryptPasswordEncoder.calibrate(
+                Duration.ofMillis(bcryptLatencyBudgetMillis), bcryptMinStrength, bcryptMaxStrength);
+    return new OffloadingPasswordEncoder(
+        new CalibratedBCryptPasswordEncoder(strength), passwordHashingExecutor);
   }
 
   /**
@@ -0,0 +1,141 @@
+package com.example.employeemanagement.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token buckets keyed by string, held in a fixed number of independently locked stripes.
+ *
+ * <p>Each bucket is stored as a single timestamp, the time at which it will be full again (the
+ * generic cell rate algorithm). That is equivalent to a bucket of {@code capacity} tokens refilled
+ * at a steady rate, but needs no refill bookkeeping. A bucket that is full again holds no more
+ * information than an absent one.
+ *
+ * <p>Every stripe keeps at most its share of {@code maximumKeys} buckets in least-recently-used
+ * order, so memory stays bounded under a flood of distinct keys. Evicting a bucket forgets what it
+ * had spent. The most active keys stay resident, so only sparse keys are affected.
+ */
+public class StripedTokenBuckets {
+
+  /** Time for one token to refill, in nanoseconds. */
+  private final long intervalNanos;
+
+  /** How far ahead of now a bucket's refill time may be before it runs out, in nanoseconds. */
+  private final long burstNanos;
+
+  /** The stripes; a key always maps to the same one. */
+  private final Stripe[] stripes;
+
+  /** Buckets dropped to respect the key limit. */
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates the buckets.
+   *
+   * @param capacity the number of requests a key may make at once
+   * @param refillPerMinute tokens added to each bucket per minute
+   * @param maximumKeys the number of buckets kept across all stripes
+   * @param stripeCount the number of independently locked stripes
+   */
+  public StripedTokenBuckets(int capacity, int refillPerMinute, int maximumKeys, int stripeCount) {
+    if (capacity < 1 || refillPerMinute < 1 || maximumKeys < 1 || stripeCount < 1) {
+      throw new IllegalArgumentException("Token bucket settings must be positive");
+    }
+    this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+    this.burstNanos = intervalNanos * (capacity - 1);
+    int keysPerStripe = Math.max(1, (maximumKeys + stripeCount - 1) / stripeCount);
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(keysPerStripe);
+    }
+  }
+
+  /**
+   * Takes a token from a key's bucket.
+   *
+   * @param key the key
+   * @param nowNanos the current {@link System#nanoTime()}
+   * @return {@code 0} if a token was taken, otherwise nanoseconds until one is available
+   */
+  public long tryAcquire(String key, long nowNanos) {
+    Stripe stripe = stripes[Math.floorMod(spread(key.hashCode()), stripes.length)];
+    synchronized (stripe) {
+      Long fullAt = stripe.get(key);
+      long start = fullAt != null && fullAt - nowNanos > 0 ? fullAt : nowNanos;
+      long wait = start - nowNanos - burstNanos;
+      if (wait > 0) {
+        return wait;
+      }
+      stripe.put(key, start + intervalNanos);
+      return 0;
+    }
+  }
+
+  /**
+   * Returns the number of buckets held.
+   *
+   * @return the number of buckets
+   */
+  public int size() {
+    int size = 0;
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        size += stripe.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the number of buckets dropped to respect the key limit.
+   *
+   * @return the number of evictions
+   */
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Mixes the high bits of a hash into the low ones, so similar keys spread across stripes.
+   *
+   * @param hash the hash code
+   * @return the spread hash
+   */
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  /** One stripe: refill times by key in access order, bounded in size. Guarded by itself. */
+  private final class Stripe extends LinkedHashMap<String, Long> {
+
+    /** The most buckets this stripe keeps. */
+    private final int maximumKeys;
+
+    /**
+     * Creates a stripe.
+     *
+     * @param maximumKeys the most buckets this stripe keeps
+     */
+    private Stripe(int maximumKeys) {
+      super(16, 0.75f, true);
+      this.maximumKeys = maximumKeys;
+    }
+
+    /**
+     * Drops the least recently used bucket once the stripe is over its limit.
+     *
+     * @param eldest the least recently used bucket
+     * @return {@code true} to drop it
+     */
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+      if (size() > maximumKeys) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+}
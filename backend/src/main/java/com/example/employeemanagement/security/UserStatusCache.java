@@ -0,0 +1,105 @@
+package com.example.employeemanagement.security;
+
+import com.example.employeemanagement.repository.UserRepository;
+import com.example.employeemanagement.service.BoundedCache;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers whether a user account exists, so requests authenticated from a verified token do not
+ * query the {@code users} table each time.
+ *
+ * <p>Entries expire after a short time-to-live. Writes to an account must call {@link
+ * #invalidate}, so a deleted account stops being accepted without waiting for the entry to expire.
+ * The counters show how many authentications were answered without a user lookup.
+ */
+@Component
+public class UserStatusCache {
+
+  /** The user repository, queried on a miss. */
+  @Autowired private UserRepository userRepository;
+
+  /** Whether each recently seen username exists. */
+  private final BoundedCache<String, Boolean> statuses;
+
+  /** Requests authenticated from a bearer token. */
+  private final LongAdder authentications = new LongAdder();
+
+  /** Queries of the {@code users} table made to authenticate a bearer token. */
+  private final LongAdder userLookups = new LongAdder();
+
+  /**
+   * Creates the cache.
+   *
+   * @param maximumSize the maximum number of usernames remembered
+   * @param ttlSeconds how long an answer is trusted before the table is queried again
+   */
+  public UserStatusCache(
+      @Value("${auth.user-status-cache.maximum-size:10000}") int maximumSize,
+      @Value("${auth.user-status-cache.ttl-seconds:60}") long ttlSeconds) {
+    this.statuses =
+        new BoundedCache<>("user-status", maximumSize, Duration.ofSeconds(ttlSeconds));
+  }
+
+  /**
+   * Checks whether an account exists, from the cache when possible.
+   *
+   * @param username the username
+   * @return {@code true} if the account exists
+   */
+  public boolean isActive(String username) {
+    return statuses.get(
+        username,
+        key -> {
+          userLookups.increment();
+          return userRepository.existsByUsername(key);
+        });
+  }
+
+  /**
+   * Forgets what is known about an account. Call after creating, changing or deleting it.
+   *
+   * @param username the username
+   */
+  public void invalidate(String username) {
+    statuses.invalidate(username);
+  }
+
+  /**
+   * Counts a request authenticated from a bearer token.
+   *
+   * @param lookedUp whether the {@code users} table was queried outside this cache to do it
+   */
+  public void recordAuthentication(boolean lookedUp) {
+    authentications.increment();
+    if (lookedUp) {
+      userLookups.increment();
+    }
+  }
+
+  /**
+   * Reports the cache's counters along with the authentication counters.
+   *
+   * @return the statistics, keyed by name
+   */
+  public Map<String, Object> stats() {
+    Map<String, Object> stats = new LinkedHashMap<>(statuses.stats());
+    stats.put("authentications", authentications.sum());
+    stats.put("userLookups", userLookups.sum());
+    return stats;
+  }
+
+  /**
+   * Gets the cache's name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return statuses.getName();
+  }
+}
@@ -0,0 +1,267 @@
+package com.example.employeemanagement.security;
+
+import com.example.employeemanagement.repository.UserJdbcRepository;
+import com.example.employeemanagement.repository.UserRepository;
+import com.example.employeemanagement.service.BloomFilter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers "does this username exist?" from a {@link BloomFilter} of all usernames where it can, so
+ * probes for names that do not exist never reach the database.
+ *
+ * <p>The filter is built from a streaming scan once the application is ready, gains each newly
+ * registered name, and is rebuilt periodically, which resizes it for the current number of users.
+ * A name the filter rules out is answered at once; a possible hit is confirmed with the database.
+ * Registrations during a rebuild go into both the old and the new filter, so the filter never
+ * rules out a name that exists.
+ *
+ * <p>The users table compares names case-insensitively and with trailing spaces ignored, so names
+ * are folded the same way before they reach the filter. Names with characters outside printable
+ * ASCII, whose collation rules are richer than case folding, always go to the database.
+ */
+@Component
+public class UsernameFilter {
+
+  /** The name under which the filter reports its statistics. */
+  private static final String NAME = "username-filter";
+
+  /** Logger for rebuild failures. */
+  private static final Logger log = LoggerFactory.getLogger(UsernameFilter.class);
+
+  /** The user repository, for confirming possible hits. */
+  @Autowired private UserRepository userRepository;
+
+  /** Plain JDBC access used to scan the users table when building the filter. */
+  @Autowired private UserJdbcRepository userJdbcRepository;
+
+  /** Whether the filter is used at all. */
+  private final boolean enabled;
+
+  /** The smallest number of users a filter is sized for. */
+  private final long expectedUsers;
+
+  /** The false-positive rate a filter is sized for. */
+  private final double falsePositiveRate;
+
+  /** The most memory one filter may take. */
+  private final long maximumBytes;
+
+  /** Minutes between rebuilds; {@code 0} disables them. */
+  private final long rebuildIntervalMinutes;
+
+  /** Number of rows the JDBC driver fetches per round-trip while building the filter. */
+  private final int fetchSize;
+
+  /** Runs the periodic rebuilds. */
+  private final ScheduledExecutorService rebuilder;
+
+  /** The filter answering lookups; {@code null} until the first build completes. */
+  private volatile BloomFilter current;
+
+  /** The filter being built; {@code null} outside a rebuild. */
+  private volatile BloomFilter building;
+
+  /** Lookups made. */
+  private final LongAdder lookups = new LongAdder();
+
+  /** Lookups answered by the filter without querying the database. */
+  private final LongAdder skippedQueries = new LongAdder();
+
+  /** Possible hits the database found to be absent. */
+  private final LongAdder falsePositives = new LongAdder();
+
+  /** Completed builds. */
+  private final LongAdder rebuilds = new LongAdder();
+
+  /**
+   * Creates the filter.
+   *
+   * @param enabled whether the filter is used at all
+   * @param expectedUsers the smallest number of users a filter is sized for
+   * @param falsePositiveRate the false-positive rate a filter is sized for
+   * @param maximumBytes the most memory one filter may take
+   * @param rebuildIntervalMinutes minutes between rebuilds; {@code 0} disables them
+   * @param fetchSize the number of rows fetched per round-trip while building
+   */
+  public UsernameFilter(
+      @Value("${auth.username-filter.enabled:true}") boolean enabled,
+      @Value("${auth.username-filter.expected-users:100000}") long expectedUsers,
+      @Value("${auth.username-filter.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${auth.username-filter.maximum-bytes:8388608}") long maximumBytes,
+      @Value("${auth.username-filter.rebuild-interval-minutes:60}") long rebuildIntervalMinutes,
+      @Value("${auth.username-filter.fetch-size:1000}") int fetchSize) {
+    this.enabled = enabled;
+    this.expectedUsers = expectedUsers;
+    this.falsePositiveRate = falsePositiveRate;
+    this.maximumBytes = maximumBytes;
+    this.rebuildIntervalMinutes = rebuildIntervalMinutes;
+    this.fetchSize = fetchSize;
+    this.rebuilder =
+        Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("username-filter-"));
+  }
+
+  /** Builds the filter once the application, including data seeding, has started. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    rebuild();
+    if (rebuildIntervalMinutes > 0) {
+      rebuilder.scheduleWithFixedDelay(
+          this::rebuildQuietly, rebuildIntervalMinutes, rebuildIntervalMinutes, TimeUnit.MINUTES);
+    }
+  }
+
+  /**
+   * Builds a new filter from a streaming scan of the users table and swaps it in. The filter is
+   * sized for twice the current number of users, so it absorbs registrations until the next
+   * rebuild.
+   */
+  public synchronized void rebuild() {
+    long users = userJdbcRepository.count();
+    BloomFilter next =
+        new BloomFilter(Math.max(expectedUsers, users * 2), falsePositiveRate, maximumBytes);
+    building = next;
+    try {
+      userJdbcRepository.streamUsernames(fetchSize, username -> add(next, username));
+      current = next;
+      rebuilds.increment();
+    } finally {
+      building = null;
+    }
+  }
+
+  /**
+   * Checks whether a user with the given username exists, querying the database only if the filter
+   * cannot rule the name out.
+   *
+   * @param username the username
+   * @return {@code true} if such a user exists
+   */
+  public boolean exists(String username) {
+    lookups.increment();
+    BloomFilter filter = current;
+    String key = key(username);
+    if (filter != null && key != null && !filter.mightContain(key)) {
+      skippedQueries.increment();
+      return false;
+    }
+    boolean exists = userRepository.existsByUsername(username);
+    if (!exists && filter != null && key != null) {
+      falsePositives.increment();
+    }
+    return exists;
+  }
+
+  /**
+   * Records a newly committed username, so the filter stops ruling it out.
+   *
+   * @param username the username
+   */
+  public void added(String username) {
+    // A rebuild publishes its filter before clearing building, so in this order the name reaches
+    // the new filter even if the rebuild's scan started before the name was committed
+    add(building, username);
+    add(current, username);
+  }
+
+  /**
+   * Reports the filter's size, accuracy and lookups it saved.
+   *
+   * @return the statistics, keyed by name
+   */
+  public Map<String, Object> stats() {
+    BloomFilter filter = current;
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", enabled);
+    stats.put("bytes", filter != null ? filter.sizeInBytes() : 0L);
+    stats.put("hashFunctions", filter != null ? filter.hashFunctions() : 0);
+    stats.put("insertions", filter != null ? filter.insertions() : 0L);
+    stats.put("targetFalsePositiveRate", falsePositiveRate);
+    stats.put(
+        "expectedFalsePositiveRate", filter != null ? filter.expectedFalsePositiveRate() : 0.0);
+    stats.put("lookups", lookups.sum());
+    stats.put("skippedQueries", skippedQueries.sum());
+    stats.put("falsePositives", falsePositives.sum());
+    stats.put("rebuilds", rebuilds.sum());
+    return stats;
+  }
+
+  /**
+   * Gets the filter's name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return NAME;
+  }
+
+  /** Stops the periodic rebuilds. */
+  @PreDestroy
+  public void shutdown() {
+    rebuilder.shutdownNow();
+  }
+
+  /** Rebuilds the filter, logging failures so later rebuilds are still scheduled. */
+  private void rebuildQuietly() {
+    try {
+      rebuild();
+    } catch (RuntimeException e) {
+      log.warn("Rebuilding the username filter failed; keeping the previous one", e);
+    }
+  }
+
+  /**
+   * Adds a username to a filter, if both are present and the name can be filtered.
+   *
+   * @param filter the filter, or {@code null}
+   * @param username the username
+   */
+  private static void add(BloomFilter filter, String username) {
+    String key = key(username);
+    if (filter != null && key != null) {
+      filter.put(key);
+    }
+  }
+
+  /**
+   * Folds a username the way the users table compares it: case-insensitively and without trailing
+   * spaces.
+   *
+   * @param username the username
+   * @return the folded name, or {@code null} if it has characters outside printable ASCII
+   */
+  private static String key(String username) {
+    if (username == null) {
+      return null;
+    }
+    int end = username.length();
+    while (end > 0 && username.charAt(end - 1) == ' ') {
+      end--;
+    }
+    for (int i = 0; i < end; i++) {
+      char c = username.charAt(i);
+      if (c < 0x20 || c > 0x7E) {
+        return null;
+      }
+    }
+    return username.substring(0, end).toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,152 @@
+package com.example.employeemanagement.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size Bloom filter of strings: a set that can answer "definitely absent" or "possibly
+ * present" in a few bit probes, using about {@code 1.44 * log2(1 / p)} bits per element for a
+ * false-positive rate {@code p}.
+ *
+ * <p>Bits are set with atomic operations, so additions and lookups may run concurrently without a
+ * lock. Elements cannot be removed; a filter that has outgrown its size or holds removed elements
+ * is replaced by building a new one.
+ */
+public class BloomFilter {
+
+  /** The bits, 64 per word. */
+  private final AtomicLongArray words;
+
+  /** The number of bits. */
+  private final long bits;
+
+  /** The number of bits probed per element. */
+  private final int hashFunctions;
+
+  /** Elements added, counting duplicates. */
+  private final LongAdder insertions = new LongAdder();
+
+  /**
+   * Creates a filter sized for {@code expectedInsertions} elements at a false-positive rate of
+   * {@code falsePositiveRate}, using at most {@code maximumBytes} of memory. If the cap applies,
+   * the rate at {@code expectedInsertions} elements is higher than requested.
+   *
+   * @param expectedInsertions the number of elements the filter is sized for
+   * @param falsePositiveRate the desired false-positive rate, between 0 and 1
+   * @param maximumBytes the most memory the bits may take
+   */
+  public BloomFilter(long expectedInsertions, double falsePositiveRate, long maximumBytes) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("The false-positive rate must be between 0 and 1");
+    }
+    long n = Math.max(1, expectedInsertions);
+    double bitsPerElement = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+    long optimalBits = (long) Math.ceil(n * bitsPerElement);
+    long wordCount = Math.max(1, (Math.min(optimalBits, maximumBytes * 8) + 63) >>> 6);
+    this.words = new AtomicLongArray(Math.toIntExact(wordCount));
+    this.bits = wordCount * 64;
+    this.hashFunctions = (int) Math.max(1, Math.round((double) bits / n * Math.log(2)));
+  }
+
+  /**
+   * Adds an element.
+   *
+   * @param element the element
+   */
+  public void put(String element) {
+    long hash = hash(element);
+    long h1 = mix(hash);
+    long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < hashFunctions; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bits);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      if ((words.get(word) & mask) == 0) {
+        words.getAndAccumulate(word, mask, (current, set) -> current | set);
+      }
+    }
+    insertions.increment();
+  }
+
+  /**
+   * Checks whether an element may have been added.
+   *
+   * @param element the element
+   * @return {@code false} if the element was definitely never added
+   */
+  public boolean mightContain(String element) {
+    long hash = hash(element);
+    long h1 = mix(hash);
+    long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < hashFunctions; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bits);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the memory taken by the bits.
+   *
+   * @return the size in bytes
+   */
+  public long sizeInBytes() {
+    return bits / 8;
+  }
+
+  /**
+   * Returns the number of bits probed per element.
+   *
+   * @return the number of hash functions
+   */
+  public int hashFunctions() {
+    return hashFunctions;
+  }
+
+  /**
+   * Returns the number of elements added, counting duplicates.
+   *
+   * @return the number of insertions
+   */
+  public long insertions() {
+    return insertions.sum();
+  }
+
+  /**
+   * Estimates the current false-positive rate from the number of insertions.
+   *
+   * @return the estimated rate
+   */
+  public double expectedFalsePositiveRate() {
+    return Math.pow(1 - Math.exp(-hashFunctions * (double) insertions.sum() / bits), hashFunctions);
+  }
+
+  /**
+   * Hashes a string with 64-bit FNV-1a over its characters.
+   *
+   * @param element the string
+   * @return the hash
+   */
+  private static long hash(String element) {
+    long hash = 0xCBF29CE484222325L;
+    for (int i = 0; i < element.length(); i++) {
+      hash ^= element.charAt(i);
+      hash *= 0x100000001B3L;
+    }
+    return hash;
+  }
+
+  /**
+   * Scrambles a hash so that every input bit affects every output bit (the SplitMix64 finalizer).
+   *
+   * @param hash the hash
+   * @return the scrambled hash
+   */
+  private static long mix(long hash) {
+    hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+    return hash ^ (hash >>> 31);
+  }
+}
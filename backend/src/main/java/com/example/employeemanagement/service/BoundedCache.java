@@ -0,0 +1,288 @@
+package com.example.employeemanagement.service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A small in-process, read-through cache with least-recently-used eviction and a time-to-live.
+ *
+ * <p>The cache is bounded by total weight. By default every entry weighs one, which bounds the
+ * number of entries; a weigher can instead bound, for example, the bytes held.
+ *
+ * <p>All operations take a single lock, which is held only for hash-map work; loaders run outside
+ * it. A value loaded concurrently with an invalidation is returned to its caller but not stored, so
+ * an invalidation issued after a commit can never be overwritten by a read that started before it.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class BoundedCache<K, V> {
+
+  /** The name under which the cache reports its statistics. */
+  private final String name;
+
+  /** The maximum total weight kept; least recently used entries are evicted beyond it. */
+  private final long maximumWeight;
+
+  /** Computes the weight of a value when it is stored. */
+  private final ToLongFunction<? super V> weigher;
+
+  /** How long an entry stays valid after it was stored, in nanoseconds. */
+  private final long ttlNanos;
+
+  /** Entries in access order, eldest first. Guarded by {@code this}. */
+  private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /** Sum of the weights of all entries. Guarded by {@code this}. */
+  private long totalWeight;
+
+  /** Incremented by every invalidation, so in-flight loads can detect that they raced one. */
+  private final AtomicLong invalidations = new AtomicLong();
+
+  /** Lookups answered from the cache. */
+  private final LongAdder hits = new LongAdder();
+
+  /** Lookups that had to call the loader, including those for expired entries. */
+  private final LongAdder misses = new LongAdder();
+
+  /** Entries removed to respect {@link #maximumWeight}. */
+  private final LongAdder evictions = new LongAdder();
+
+  /** Entries discarded because their time-to-live had passed. */
+  private final LongAdder expirations = new LongAdder();
+
+  /**
+   * Creates a cache bounded by number of entries.
+   *
+   * @param name the name reported in statistics
+   * @param maximumSize the maximum number of entries; {@code 0} disables caching
+   * @param ttl how long an entry stays valid after it was stored
+   */
+  public BoundedCache(String name, int maximumSize, Duration ttl) {
+    this(name, maximumSize, ttl, value -> 1);
+  }
+
+  /**
+   * Creates a cache bounded by total weight.
+   *
+   * @param name the name reported in statistics
+   * @param maximumWeight the maximum total weight; {@code 0} disables caching
+   * @param ttl how long an entry stays valid after it was stored
+   * @param weigher computes the weight of a value; values heavier than {@code maximumWeight} are
+   *     not stored
+   */
+  public BoundedCache(
+      String name, long maximumWeight, Duration ttl, ToLongFunction<? super V> weigher) {
+    this.name = name;
+    this.maximumWeight = maximumWeight;
+    this.ttlNanos = ttl.toNanos();
+    this.weigher = weigher;
+  }
+
+  /**
+   * Gets the cache name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the cached value for {@code key}, loading and storing it on a miss.
+   *
+   * @param key the key
+   * @param loader computes the value on a miss; may return {@code null}, which is not cached
+   * @return the value, or {@code null} if the loader found none
+   */
+  public V get(K key, Function<? super K, ? extends V> loader) {
+    V cached = getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    long invalidationsBefore = invalidations.get();
+    V loaded = loader.apply(key);
+    if (loaded != null) {
+      synchronized (this) {
+        if (invalidations.get() == invalidationsBefore) {
+          store(key, loaded);
+        }
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * Returns the cached value for {@code key} without loading it. Counts as a hit or a miss.
+   *
+   * @param key the key
+   * @return the value, or {@code null} if absent or expired
+   */
+  public V getIfPresent(K key) {
+    synchronized (this) {
+      Entry<V> entry = entries.get(key);
+      if (entry != null) {
+        if (System.nanoTime() - entry.storedAtNanos < ttlNanos) {
+          hits.increment();
+          return entry.value;
+        }
+        remove(key);
+        expirations.increment();
+      }
+    }
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * Stores a value, replacing any previous one.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  public synchronized void put(K key, V value) {
+    store(key, value);
+  }
+
+  /**
+   * Removes the entry for {@code key}, if any.
+   *
+   * @param key the key
+   */
+  public synchronized void invalidate(K key) {
+    invalidations.incrementAndGet();
+    remove(key);
+  }
+
+  /** Removes every entry. */
+  public synchronized void invalidateAll() {
+    invalidations.incrementAndGet();
+    entries.clear();
+    totalWeight = 0;
+  }
+
+  /**
+   * Returns the current number of entries, including ones that have expired but not yet been
+   * discarded.
+   *
+   * @return the number of entries
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the current total weight of all entries.
+   *
+   * @return the total weight
+   */
+  public synchronized long weight() {
+    return totalWeight;
+  }
+
+  /**
+   * Reports the cache's counters.
+   *
+   * @return the statistics, keyed by name
+   */
+  public Map<String, Object> stats() {
+    long hitCount = hits.sum();
+    long missCount = misses.sum();
+    long requests = hitCount + missCount;
+
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("size", size());
+    stats.put("weight", weight());
+    stats.put("maximumWeight", maximumWeight);
+    stats.put("hits", hitCount);
+    stats.put("misses", missCount);
+    stats.put("hitRate", requests == 0 ? 0.0 : (double) hitCount / requests);
+    stats.put("evictions", evictions.sum());
+    stats.put("expirations", expirations.sum());
+    return stats;
+  }
+
+  /**
+   * Stores a value, then drops expired entries at the eldest end and evicts least recently used
+   * entries until the cache is within its maximum weight. Guarded by {@code this}.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  private void store(K key, V value) {
+    long weight = weigher.applyAsLong(value);
+    if (weight > maximumWeight) {
+      remove(key);
+      return;
+    }
+    long now = System.nanoTime();
+    Entry<V> previous = entries.put(key, new Entry<>(value, now, weight));
+    totalWeight += weight - (previous != null ? previous.weight : 0);
+
+    // Entries are in access order, so expired ones tend to gather at the head
+    Iterator<Entry<V>> eldest = entries.values().iterator();
+    while (eldest.hasNext()) {
+      Entry<V> entry = eldest.next();
+      boolean expired = now - entry.storedAtNanos >= ttlNanos;
+      if (!expired && totalWeight <= maximumWeight) {
+        break;
+      }
+      eldest.remove();
+      totalWeight -= entry.weight;
+      if (expired) {
+        expirations.increment();
+      } else {
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * Removes an entry and releases its weight. Guarded by {@code this}.
+   *
+   * @param key the key
+   */
+  private void remove(K key) {
+    Entry<V> removed = entries.remove(key);
+    if (removed != null) {
+      totalWeight -= removed.weight;
+    }
+  }
+
+  /**
+   * A cached value with the time it was stored.
+   *
+   * @param <V> the value type
+   */
+  private static final class Entry<V> {
+
+    /** The cached value. */
+    private final V value;
+
+    /** {@link System#nanoTime()} when the value was stored. */
+    private final long storedAtNanos;
+
+    /** The weight of the value, computed when it was stored. */
+    private final long weight;
+
+    /**
+     * Creates an entry.
+     *
+     * @param value the value
+     * @param storedAtNanos when the value was stored
+     * @param weight the weight of the value
+     */
+    private Entry(V value, long storedAtNanos, long weight) {
+      this.value = value;
+      this.storedAtNanos = storedAtNanos;
+      this.weight = weight;
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package com.example.employeemanagement.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV records one at a time from a character stream, so a file of any size is
+ * parsed in constant memory.
+ *
+ * <p>Fields may be quoted with {@code "}; quoted fields may contain commas, line breaks and doubled
+ * quotes. Records end at {@code \n}, {@code \r\n} or {@code \r}. The reader does its own buffering,
+ * so callers need not wrap it in a {@link java.io.BufferedReader}.
+ */
+public final class CsvRecordReader {
+
+  /** Sentinel returned by {@link #read()} at the end of the stream. */
+  private static final int EOF = -1;
+
+  /** The underlying stream. */
+  private final Reader reader;
+
+  /** Characters read ahead from the stream. */
+  private final char[] buffer = new char[8192];
+
+  /** Number of valid characters in {@link #buffer}. */
+  private int limit;
+
+  /** Position of the next unread character in {@link #buffer}. */
+  private int position;
+
+  /** A character pushed back by {@link #unread}, or {@link #EOF} if there is none. */
+  private int pushedBack = EOF;
+
+  /** The current physical line, counting from 1. */
+  private long line = 1;
+
+  /** The physical line on which the last returned record started. */
+  private long recordLine;
+
+  /**
+   * Creates a reader.
+   *
+   * @param reader the stream to parse
+   */
+  public CsvRecordReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @return the record's fields, or {@code null} at the end of the stream
+   * @throws IOException if the stream cannot be read or ends inside a quoted field
+   */
+  public List<String> next() throws IOException {
+    int c = read();
+    if (c == EOF) {
+      return null;
+    }
+    recordLine = line;
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    while (true) {
+      if (quoted) {
+        if (c == EOF) {
+          throw new IOException("Unterminated quoted field starting on line " + recordLine);
+        } else if (c == '"') {
+          int next = read();
+          if (next == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            c = next;
+            continue;
+          }
+        } else {
+          countLineBreak(c);
+          field.append((char) c);
+        }
+      } else if (c == '"' && field.length() == 0) {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n' || c == '\r' || c == EOF) {
+        if (c == '\r') {
+          int next = read();
+          if (next != '\n') {
+            unread(next);
+          }
+        }
+        if (c != EOF) {
+          line++;
+        }
+        fields.add(field.toString());
+        return fields;
+      } else {
+        field.append((char) c);
+      }
+      c = read();
+    }
+  }
+
+  /**
+   * Gets the physical line on which the last record returned by {@link #next()} started.
+   *
+   * @return the line number, counting from 1
+   */
+  public long getRecordLine() {
+    return recordLine;
+  }
+
+  /**
+   * Advances the line counter for a line break inside a quoted field. A {@code \r\n} pair counts
+   * once, on its {@code \n}.
+   *
+   * @param c the character just read
+   * @throws IOException if the stream cannot be read
+   */
+  private void countLineBreak(int c) throws IOException {
+    if (c == '\n') {
+      line++;
+    } else if (c == '\r') {
+      int next = read();
+      unread(next);
+      if (next != '\n') {
+        line++;
+      }
+    }
+  }
+
+  /**
+   * Reads one character.
+   *
+   * @return the character, or {@link #EOF} at the end of the stream
+   * @throws IOException if the stream cannot be read
+   */
+  private int read() throws IOException {
+    if (pushedBack != EOF) {
+      int c = pushedBack;
+      pushedBack = EOF;
+      return c;
+    }
+    if (position == limit) {
+      limit = reader.read(buffer, 0, buffer.length);
+      position = 0;
+      if (limit <= 0) {
+        limit = 0;
+        return EOF;
+      }
+    }
+    return buffer[position++];
+  }
+
+  /**
+   * Pushes one character back, to be returned by the next {@link #read()}.
+   *
+   * @param c the character, or {@link #EOF}
+   */
+  private void unread(int c) {
+    pushedBack = c;
+  }
+}
@@ -0,0 +1,340 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.DashboardStatsDto;
+import com.example.employeemanagement.dto.DepartmentResponseDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.event.DepartmentChangeEvent;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Maintains the dashboard statistics as an in-memory aggregate.
+ *
+ * <p>The aggregate is loaded with a single SQL aggregation query on startup and then kept current
+ * from committed {@link EmployeeChangeEvent}s and {@link DepartmentChangeEvent}s, so reading the
+ * statistics never touches the database. Writes invalidate a prebuilt {@link DashboardStatsDto},
+ * which the next read recreates once and every later read returns as is. As a safety net against
+ * drift (e.g. rows changed outside the application), the aggregate is reloaded from the database
+ * on the first read after a configurable interval.
+ */
+@Service
+public class DashboardStatsService {
+
+  /** Ages are counted individually up to this value; older employees share the last slot. */
+  private static final int MAX_TRACKED_AGE = 127;
+
+  /** Number of departments reported in {@link DashboardStatsDto#getTopDepartments()}. */
+  private static final int TOP_DEPARTMENTS = 3;
+
+  /** Number of employees reported in {@link DashboardStatsDto#getRecentEmployees()}. */
+  private static final int RECENT_EMPLOYEES = 4;
+
+  /** Headcount order used for the department lists: largest first, then by name and ID. */
+  private static final Comparator<DepartmentResponseDto> BY_HEADCOUNT =
+      Comparator.comparingInt(DepartmentResponseDto::getEmployeeCount)
+          .reversed()
+          .thenComparing(DepartmentResponseDto::getName, Comparator.nullsLast(String::compareTo))
+          .thenComparing(DepartmentResponseDto::getId);
+
+  /** The department repository, used to reload the aggregate. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The employee repository, used to reload the most recent employees. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** How long the aggregate is trusted before the next read reloads it, in seconds. */
+  @Value("${dashboard.stats.resync-interval-seconds:600}")
+  private long resyncIntervalSeconds;
+
+  /** Total number of employees. Guarded by {@code this}. */
+  private long employeeCount;
+
+  /** Sum of all employee ages. Guarded by {@code this}. */
+  private long ageSum;
+
+  /** Number of employees per age, indexed by age. Guarded by {@code this}. */
+  private final long[] ageHistogram = new long[MAX_TRACKED_AGE + 1];
+
+  /** Headcount per department ID. Guarded by {@code this}. */
+  private final Map<Long, DepartmentResponseDto> departments = new HashMap<>();
+
+  /** The most recently created employees by ID. Guarded by {@code this}. */
+  private final NavigableMap<Long, EmployeeResponseDto> recentEmployees = new TreeMap<>();
+
+  /** The prebuilt statistics, or {@code null} after a write until the next read rebuilds it. */
+  private volatile DashboardStatsDto snapshot;
+
+  /** Set when the aggregate can no longer be updated incrementally and must be reloaded. */
+  private volatile boolean stale = true;
+
+  /** {@link System#nanoTime()} of the last reload from the database. */
+  private volatile long loadedAtNanos;
+
+  /** Load the aggregate once the application, including data seeding, has started. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    reload();
+  }
+
+  /**
+   * Get the dashboard statistics.
+   *
+   * @return the current statistics
+   */
+  public DashboardStatsDto getStats() {
+    DashboardStatsDto current = snapshot;
+    if (current != null && !stale && !resyncDue()) {
+      return current;
+    }
+    synchronized (this) {
+      if (stale || resyncDue()) {
+        reload();
+      }
+      if (snapshot == null) {
+        snapshot = buildSnapshot();
+      }
+      return snapshot;
+    }
+  }
+
+  /**
+   * Marks the aggregate as out of date so the next read reloads it from the database. Write paths
+   * that change employees without knowing their previous state call this instead of publishing
+   * individual changes.
+   */
+  public void markStale() {
+    stale = true;
+  }
+
+  /**
+   * Reloads the aggregate from the database with a single aggregation query, and the most recent
+   * employees with a second query that reads only them.
+   */
+  public synchronized void reload() {
+    employeeCount = 0;
+    ageSum = 0;
+    Arrays.fill(ageHistogram, 0);
+    departments.clear();
+    recentEmployees.clear();
+    for (EmployeeResponseDto employee :
+        employeeRepository.findNewest(PageRequest.of(0, RECENT_EMPLOYEES))) {
+      recentEmployees.put(employee.getId(), employee);
+    }
+
+    // Rows of [departmentId, departmentName, age, count]; empty departments have a null age
+    for (Object[] row : departmentRepository.countEmployeesByDepartmentAndAge()) {
+      Long departmentId = (Long) row[0];
+      long count = (Long) row[3];
+      DepartmentResponseDto department =
+          departments.computeIfAbsent(
+              departmentId, id -> new DepartmentResponseDto(id, (String) row[1], 0L));
+      department.setEmployeeCount(department.getEmployeeCount() + (int) count);
+      if (row[2] != null) {
+        int age = (Integer) row[2];
+        employeeCount += count;
+        ageSum += (long) age * count;
+        ageHistogram[ageSlot(age)] += count;
+      }
+    }
+
+    loadedAtNanos = System.nanoTime();
+    stale = false;
+    snapshot = null;
+  }
+
+  /**
+   * Applies committed employee changes to the aggregate.
+   *
+   * @param event the committed changes
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onEmployeeChange(EmployeeChangeEvent event) {
+    for (EmployeeChangeEvent.Change change : event.getChanges()) {
+      if (change.getBefore() != null) {
+        apply(change.getBefore(), -1);
+      }
+      if (change.getAfter() != null) {
+        apply(change.getAfter(), 1);
+      }
+      applyRecent(change);
+    }
+    snapshot = null;
+  }
+
+  /**
+   * Applies committed department changes to the aggregate.
+   *
+   * @param event the committed changes
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onDepartmentChange(DepartmentChangeEvent event) {
+    for (DepartmentChangeEvent.Change change : event.getChanges()) {
+      if (change.isDeleted()) {
+        departments.remove(change.getId());
+      } else {
+        departments
+            .computeIfAbsent(
+                change.getId(), id -> new DepartmentResponseDto(id, change.getName(), 0L))
+            .setName(change.getName());
+        for (Map.Entry<Long, EmployeeResponseDto> entry : recentEmployees.entrySet()) {
+          if (change.getId().equals(entry.getValue().getDepartment().getId())) {
+            entry.setValue(recentCopy(entry.getValue(), change.getName()));
+          }
+        }
+      }
+    }
+    snapshot = null;
+  }
+
+  /**
+   * Adds or removes one employee from the aggregate. Guarded by {@code this}.
+   *
+   * @param employee the employee
+   * @param sign {@code 1} to add, {@code -1} to remove
+   */
+  private void apply(EmployeeResponseDto employee, int sign) {
+    employeeCount += sign;
+    ageSum += (long) sign * employee.getAge();
+    ageHistogram[ageSlot(employee.getAge())] += sign;
+
+    if (employee.getDepartment() == null) {
+      return;
+    }
+    DepartmentResponseDto department = departments.get(employee.getDepartment().getId());
+    if (department == null) {
+      // A department we have not seen yet; reload rather than guess its name
+      stale = true;
+      return;
+    }
+    department.setEmployeeCount(department.getEmployeeCount() + sign);
+  }
+
+  /**
+   * Applies one committed employee change to the most recent employees. Guarded by {@code this}.
+   *
+   * @param change the change
+   */
+  private void applyRecent(EmployeeChangeEvent.Change change) {
+    EmployeeResponseDto after = change.getAfter();
+    if (after == null) {
+      if (recentEmployees.remove(change.getBefore().getId()) != null) {
+        // An older employee moves up into the list; only the database knows which
+        stale = true;
+      }
+      return;
+    }
+    boolean created = change.getBefore() == null;
+    if (recentEmployees.containsKey(after.getId())
+        || created
+            && (recentEmployees.size() < RECENT_EMPLOYEES
+                || after.getId() > recentEmployees.firstKey())) {
+      recentEmployees.put(after.getId(), recentCopy(after, after.getDepartment().getName()));
+      if (recentEmployees.size() > RECENT_EMPLOYEES) {
+        recentEmployees.pollFirstEntry();
+      }
+    }
+  }
+
+  /**
+   * Copies an employee for the most recent employees, without its version, so the shared DTOs of
+   * change events are never modified.
+   *
+   * @param employee the employee
+   * @param departmentName the name of the employee's department
+   * @return the copy
+   */
+  private static EmployeeResponseDto recentCopy(
+      EmployeeResponseDto employee, String departmentName) {
+    return new EmployeeResponseDto(
+        employee.getId(),
+        employee.getFirstName(),
+        employee.getLastName(),
+        employee.getEmail(),
+        employee.getAge(),
+        employee.getDepartment().getId(),
+        departmentName);
+  }
+
+  /**
+   * Builds a detached copy of the aggregate for readers. Guarded by {@code this}.
+   *
+   * @return the statistics
+   */
+  private DashboardStatsDto buildSnapshot() {
+    Map<String, Long> ageRanges = new LinkedHashMap<>();
+    ageRanges.put("<20", sumAges(0, 19));
+    for (int decade = 20; decade < 60; decade += 10) {
+      ageRanges.put(decade + "-" + (decade + 9), sumAges(decade, decade + 9));
+    }
+    ageRanges.put("60+", sumAges(60, MAX_TRACKED_AGE));
+
+    List<DepartmentResponseDto> byHeadcount = new ArrayList<>();
+    for (DepartmentResponseDto department : departments.values()) {
+      byHeadcount.add(
+          new DepartmentResponseDto(
+              department.getId(), department.getName(), (long) department.getEmployeeCount()));
+    }
+    byHeadcount.sort(BY_HEADCOUNT);
+
+    double averageAge = employeeCount > 0 ? (double) ageSum / employeeCount : 0;
+    return new DashboardStatsDto(
+        employeeCount,
+        departments.size(),
+        Math.round(averageAge * 10) / 10.0,
+        ageRanges,
+        byHeadcount,
+        new ArrayList<>(byHeadcount.subList(0, Math.min(TOP_DEPARTMENTS, byHeadcount.size()))),
+        new ArrayList<>(recentEmployees.descendingMap().values()));
+  }
+
+  /**
+   * Sums the histogram over an inclusive age range. Guarded by {@code this}.
+   *
+   * @param from the lowest age
+   * @param to the highest age
+   * @return the number of employees in the range
+   */
+  private long sumAges(int from, int to) {
+    long total = 0;
+    for (int age = from; age <= to; age++) {
+      total += ageHistogram[age];
+    }
+    return total;
+  }
+
+  /**
+   * Indicates whether the aggregate has been trusted for longer than the resync interval.
+   *
+   * @return {@code true} if the next read should reload the aggregate
+   */
+  private boolean resyncDue() {
+    return System.nanoTime() - loadedAtNanos > resyncIntervalSeconds * 1_000_000_000L;
+  }
+
+  /**
+   * Maps an age to its histogram slot.
+   *
+   * @param age the age
+   * @return the slot index
+   */
+  private static int ageSlot(int age) {
+    return Math.max(0, Math.min(MAX_TRACKED_AGE, age));
+  }
+}
@@ -0,0 +1,125 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.event.DepartmentChangeEvent;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.model.DataVersion;
+import com.example.employeemanagement.repository.DataVersionRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains a monotonically increasing version of the employee and department data, used as the
+ * ETag of the read endpoints.
+ *
+ * <p>The version combines a persisted epoch, incremented once per application start, with an
+ * in-memory count of writes since then. Reading it never touches the database, and because the
+ * epoch occupies the high bits, versions keep increasing across restarts.
+ *
+ * <p>Every write is counted once, after its transaction has completed and after the listeners that
+ * invalidate the entity caches have run. Endpoints read the version before the data, so a response
+ * built while a write is in flight carries the old version, which the increment supersedes; a
+ * client can never be told "not modified" for data it read before the write became visible.
+ *
+ * <p>The write count is in-memory, so this assumes a single instance: writes served by another
+ * instance, or made outside the application (e.g. through the stored procedures), do not advance
+ * it, and a client can be told "not modified" for data that has changed. A multi-instance
+ * deployment should keep the count in shared state, for instance by incrementing a column of the
+ * {@code data_version} row in each write's transaction.
+ */
+@Service
+public class DataVersionService {
+
+  /** ID of the single row in the {@code data_version} table. */
+  private static final long ROW_ID = 1L;
+
+  /** Number of low bits of the version holding the write count. */
+  private static final int WRITE_BITS = 32;
+
+  /** The repository holding the persisted epoch. */
+  @Autowired private DataVersionRepository dataVersionRepository;
+
+  /** Runs the epoch increment and its read-back in one transaction. */
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  /** The epoch of this run, read once at startup. */
+  private volatile long epoch;
+
+  /** Number of write increments since startup. */
+  private final AtomicLong writes = new AtomicLong();
+
+  /**
+   * Starts a new epoch, creating the row on first use.
+   *
+   * <p>The increment and the read-back share a transaction, and the increment's row lock is held
+   * until it commits, so instances starting at the same time always get different epochs.
+   */
+  @PostConstruct
+  public void startEpoch() {
+    Long started;
+    try {
+      started = transactionTemplate.execute(status -> nextEpoch());
+    } catch (DataIntegrityViolationException e) {
+      // Another instance created the row first; increment that one instead
+      started = transactionTemplate.execute(status -> nextEpoch());
+    }
+    epoch = started;
+  }
+
+  /**
+   * Gets the current data version.
+   *
+   * @return the version
+   */
+  public long getVersion() {
+    return (epoch << WRITE_BITS) + writes.get();
+  }
+
+  /**
+   * Gets the current data version formatted as a strong ETag.
+   *
+   * @return the quoted version
+   */
+  public String getETag() {
+    return "\"" + getVersion() + "\"";
+  }
+
+  /** Advances the version. Write paths that do not publish change events call this directly. */
+  public void increment() {
+    writes.incrementAndGet();
+  }
+
+  /**
+   * Advances the version once a transaction with employee or department changes ends. After
+   * completion runs after every after-commit listener, so the caches are already invalidated.
+   */
+  @TransactionalEventListener(
+      classes = {EmployeeChangeEvent.class, DepartmentChangeEvent.class},
+      phase = TransactionPhase.AFTER_COMPLETION,
+      fallbackExecution = true)
+  public void afterCompletion() {
+    increment();
+  }
+
+  /**
+   * Increments the persisted epoch, creating the row if it does not exist, and reads it back.
+   * Must run in a transaction.
+   *
+   * @return the new epoch
+   */
+  private long nextEpoch() {
+    if (dataVersionRepository.incrementEpoch(ROW_ID) == 0) {
+      dataVersionRepository.saveAndFlush(new DataVersion(ROW_ID, 1L));
+      return 1L;
+    }
+    return dataVersionRepository
+        .findById(ROW_ID)
+        .map(DataVersion::getEpoch)
+        .orElseThrow(() -> new IllegalStateException("Data version row disappeared"));
+  }
+}
@@ -1,12 +1,29 @@
 package com.example.employeemanagement.service;
 
+import com.example.employeemanagement.dto.DepartmentField;
+import com.example.employeemanagement.dto.DepartmentResponseDto;
+import com.example.employeemanagement.dto.DepartmentTransferRequestDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.event.DepartmentChangeEvent;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.exception.ConflictException;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
 import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
 import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
 import com.example.employeemanagement.repository.EmployeeRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /** This class represents the service for departments. */
 @Service
@@ -15,9 +32,21 @@ public class DepartmentService {
   /** The department repository. */
   @Autowired private DepartmentRepository departmentRepository;
 
+  /** Plain JDBC access to departments, used for sparse fieldset reads. */
+  @Autowired private DepartmentJdbcRepository departmentJdbcRepository;
+
   /** The employee repository, used to count employees per department. */
   @Autowired private EmployeeRepository employeeRepository;
 
+  /** Plain JDBC access to employees, used for set-based transfers. */
+  @Autowired private EmployeeJdbcRepository employeeJdbcRepository;
+
+  /** Publishes a {@link DepartmentChangeEvent} for every committed write. */
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  /** The read-through caches, invalidated by the events this service publishes. */
+  @Autowired private EntityCacheService entityCacheService;
+
   /**
    * Get all departments.
    *
@@ -37,14 +66,173 @@ public class DepartmentService {
     return departmentRepository.findByIdWithEmployees(id);
   }
 
+  /**
+   * Get the ID and name of a department, served from the department cache when possible.
+   *
+   * @param id ID of the department
+   * @return the department's ID and name, or {@code null} if it does not exist
+   */
+  public EmployeeResponseDto.DepartmentDto getDepartmentRef(Long id) {
+    return entityCacheService
+        .departments()
+        .get(
+            id,
+            key ->
+                departmentRepository
+                    .findById(key)
+                    .map(
+                        department -> {
+                          EmployeeResponseDto.DepartmentDto ref =
+                              new EmployeeResponseDto.DepartmentDto();
+                          ref.setId(department.getId());
+                          ref.setName(department.getName());
+                          return ref;
+                        })
+                    .orElse(null));
+  }
+
+  /**
+   * Get all departments with their employee counts, computed in SQL without loading employees.
+   *
+   * @return List of department summaries
+   */
+  @Transactional(readOnly = true)
+  public List<DepartmentResponseDto> getDepartmentSummaries() {
+    return departmentRepository.findAllSummaries();
+  }
+
+  /**
+   * Get the selected fields of all departments. Employees are only counted when the employee
+   * count is selected.
+   *
+   * @param fields the fields to read
+   * @return one JSON object per department
+   */
+  @Transactional(readOnly = true)
+  public List<Map<String, Object>> getDepartmentFields(Set<DepartmentField> fields) {
+    return departmentJdbcRepository.findAllFields(fields);
+  }
+
+  /**
+   * Get a department with its employee count, served from the department summary cache when
+   * possible and otherwise computed in SQL without loading employees.
+   *
+   * @param id ID of the department to be retrieved
+   * @return Department summary with the specified ID
+   */
+  public Optional<DepartmentResponseDto> getDepartmentSummaryById(Long id) {
+    return Optional.ofNullable(
+        entityCacheService
+            .departmentSummaries()
+            .get(id, key -> departmentRepository.findSummaryById(key).orElse(null)));
+  }
+
   /**
    * Save a department.
    *
    * @param department Department to be saved
    * @return Saved department
    */
+  @Transactional
   public Department saveDepartment(Department department) {
-    return departmentRepository.save(department);
+    Department saved = departmentRepository.save(department);
+    eventPublisher.publishEvent(DepartmentChangeEvent.saved(saved.getId(), saved.getName()));
+    return saved;
+  }
+
+  /**
+   * Rename a department. Only the department row is loaded, never its employees; the employee
+   * count in the result is computed in SQL.
+   *
+   * @param id ID of the department to be renamed
+   * @param name the new name
+   * @return the renamed department with its employee count, or empty if it does not exist
+   */
+  @Transactional
+  public Optional<DepartmentResponseDto> renameDepartment(Long id, String name) {
+    Optional<Department> department = departmentRepository.findById(id);
+    if (department.isEmpty()) {
+      return Optional.empty();
+    }
+    department.get().setName(name);
+    Department saved = saveDepartment(department.get());
+    return Optional.of(
+        new DepartmentResponseDto(
+            saved.getId(), saved.getName(), employeeRepository.countByDepartmentId(id)));
+  }
+
+  /**
+   * Moves employees into a department with a single set-based UPDATE: either the listed employees
+   * or every employee of a source department. The affected rows are read and locked first, so one
+   * {@link EmployeeChangeEvent} with every before and after image can keep the caches, search
+   * index and dashboard aggregate in step.
+   *
+   * @param departmentId ID of the target department
+   * @param request the employees to move, by ID or by source department
+   * @param discard called with the ID of each employee to be moved once it is locked, so a queued
+   *     asynchronous update cannot move it back
+   * @return the number of employees moved; those already in the target department are skipped
+   * @throws ResourceNotFoundException if the target or source department does not exist
+   */
+  @Transactional
+  public int transferEmployees(
+      Long departmentId, DepartmentTransferRequestDto request, Consumer<Long> discard) {
+    EmployeeResponseDto.DepartmentDto target = requireDepartmentRef(departmentId);
+
+    List<EmployeeResponseDto> moved;
+    int transferred;
+    if (request.getFromDepartmentId() != null) {
+      requireDepartmentRef(request.getFromDepartmentId());
+      moved = employeeJdbcRepository.lockDepartmentStaff(request.getFromDepartmentId());
+      transferred =
+          moved.isEmpty()
+              ? 0
+              : employeeJdbcRepository.moveDepartmentStaff(
+                  request.getFromDepartmentId(), departmentId);
+    } else {
+      LinkedHashSet<Long> ids = new LinkedHashSet<>(request.getEmployeeIds());
+      moved = employeeJdbcRepository.lockForTransfer(ids, departmentId);
+      transferred =
+          moved.isEmpty() ? 0 : employeeJdbcRepository.moveToDepartment(ids, departmentId);
+    }
+    for (EmployeeResponseDto employee : moved) {
+      discard.accept(employee.getId());
+    }
+
+    List<EmployeeChangeEvent.Change> changes = new ArrayList<>(moved.size());
+    for (EmployeeResponseDto before : moved) {
+      EmployeeResponseDto.DepartmentDto source = getDepartmentRef(before.getDepartment().getId());
+      before.getDepartment().setName(source != null ? source.getName() : null);
+      EmployeeResponseDto after =
+          new EmployeeResponseDto(
+              before.getId(),
+              before.getFirstName(),
+              before.getLastName(),
+              before.getEmail(),
+              before.getAge(),
+              target.getId(),
+              target.getName());
+      changes.add(new EmployeeChangeEvent.Change(before, after));
+    }
+    if (!changes.isEmpty()) {
+      eventPublisher.publishEvent(new EmployeeChangeEvent(changes));
+    }
+    return transferred;
+  }
+
+  /**
+   * Get the ID and name of a department that must exist.
+   *
+   * @param id ID of the department
+   * @return the department's ID and name
+   * @throws ResourceNotFoundException if the department does not exist
+   */
+  private EmployeeResponseDto.DepartmentDto requireDepartmentRef(Long id) {
+    EmployeeResponseDto.DepartmentDto department = getDepartmentRef(id);
+    if (department == null) {
+      throw new ResourceNotFoundException("Department not found with id: " + id);
+    }
+    return department;
   }
 
   /**
@@ -58,11 +246,50 @@ public class DepartmentService {
   }
 
   /**
-   * Deletes a department by its ID.
+   * Deletes a department with a single conditional DELETE that only matches while it has no
+   * employees, so a concurrent employee insert cannot slip in between a check and the delete. Only
+   * when nothing was deleted are the employees counted, to tell a missing department from one that
+   * is still in use.
    *
    * @param id the ID of the department to delete
+   * @throws ResourceNotFoundException if the department does not exist
+   * @throws ConflictException if the department still has employees
    */
+  @Transactional
   public void deleteDepartment(Long id) {
-    departmentRepository.deleteById(id);
+    if (departmentJdbcRepository.deleteIfEmpty(id) == 0) {
+      long employeeCount = employeeRepository.countByDepartmentId(id);
+      if (employeeCount > 0) {
+        throw new ConflictException(
+            "Cannot delete department with "
+                + employeeCount
+                + " employees. Reassign or remove employees first.");
+      }
+      throw new ResourceNotFoundException("Department not found with id: " + id);
+    }
+    eventPublisher.publishEvent(DepartmentChangeEvent.deleted(id));
+  }
+
+  /**
+   * Deletes every department without employees, like {@code sp_purge_empty_departments}. The empty
+   * departments are read and locked first, so one {@link DepartmentChangeEvent} can name each of
+   * them, then removed with a single DELETE.
+   *
+   * @return the IDs of the deleted departments
+   */
+  @Transactional
+  public List<Long> purgeEmptyDepartments() {
+    List<Long> ids = departmentJdbcRepository.lockEmpty();
+    if (ids.isEmpty()) {
+      return ids;
+    }
+    departmentJdbcRepository.deleteAllIfEmpty(ids);
+
+    List<DepartmentChangeEvent.Change> changes = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      changes.add(new DepartmentChangeEvent.Change(id, null));
+    }
+    eventPublisher.publishEvent(new DepartmentChangeEvent(changes));
+    return ids;
   }
 }
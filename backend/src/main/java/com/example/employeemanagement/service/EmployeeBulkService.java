@@ -0,0 +1,143 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.BulkCreateResultDto;
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Creates many employees in one transaction through JDBC batches, validating each row on its own
+ * so one bad row does not reject the others.
+ */
+@Service
+public class EmployeeBulkService {
+
+  /** Plain JDBC access to employees, used for the batched inserts. */
+  @Autowired private EmployeeJdbcRepository employeeJdbcRepository;
+
+  /** Plain JDBC access to departments, used to resolve every referenced department at once. */
+  @Autowired private DepartmentJdbcRepository departmentJdbcRepository;
+
+  /** Bean validator applying the constraints declared on {@link EmployeeRequestDto}. */
+  @Autowired private Validator validator;
+
+  /** Publishes one {@link EmployeeChangeEvent} covering every created employee. */
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  /** Number of rows sent to the database per JDBC batch. */
+  @Value("${employees.bulk.batch-size:1000}")
+  private int batchSize;
+
+  /**
+   * Validates and inserts employees. Rows failing bean validation or referencing a missing
+   * department are reported and skipped; all other rows are inserted in the same transaction.
+   *
+   * @param requests the employees to create, in request order
+   * @return the generated IDs and the rejected rows
+   */
+  @Transactional
+  public BulkCreateResultDto createEmployees(List<EmployeeRequestDto> requests) {
+    List<BulkCreateResultDto.RowError> errors = new ArrayList<>();
+    boolean[] rejected = new boolean[requests.size()];
+    Set<Long> departmentIds = new HashSet<>();
+    for (int i = 0; i < requests.size(); i++) {
+      Map<String, String> rowErrors = validate(requests.get(i));
+      if (rowErrors.isEmpty()) {
+        departmentIds.add(requests.get(i).getDepartment().getId());
+      } else {
+        errors.add(new BulkCreateResultDto.RowError(i, rowErrors));
+        rejected[i] = true;
+      }
+    }
+
+    Map<Long, String> departmentNames = departmentJdbcRepository.findNamesByIds(departmentIds);
+    List<EmployeeResponseDto> rows = new ArrayList<>(requests.size());
+    EmployeeResponseDto[] byIndex = new EmployeeResponseDto[requests.size()];
+    for (int i = 0; i < requests.size(); i++) {
+      if (rejected[i]) {
+        continue;
+      }
+      EmployeeRequestDto request = requests.get(i);
+      Long departmentId = request.getDepartment().getId();
+      String departmentName = departmentNames.get(departmentId);
+      if (departmentName == null) {
+        Map<String, String> rowErrors = new LinkedHashMap<>();
+        rowErrors.put("department.id", "Department not found with id: " + departmentId);
+        errors.add(new BulkCreateResultDto.RowError(i, rowErrors));
+        continue;
+      }
+      byIndex[i] =
+          new EmployeeResponseDto(
+              null,
+              request.getFirstName(),
+              request.getLastName(),
+              request.getEmail(),
+              request.getAge(),
+              departmentId,
+              departmentName);
+      rows.add(byIndex[i]);
+    }
+    errors.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+
+    insertRows(rows);
+
+    Long[] ids = new Long[requests.size()];
+    for (int i = 0; i < byIndex.length; i++) {
+      ids[i] = byIndex[i] != null ? byIndex[i].getId() : null;
+    }
+    return new BulkCreateResultDto(rows.size(), Arrays.asList(ids), errors);
+  }
+
+  /**
+   * Inserts rows that have already been validated, and whose departments are known to exist, in
+   * one transaction, then publishes a single {@link EmployeeChangeEvent} covering all of them.
+   *
+   * @param rows the employees to insert, with department ID and name set; their IDs are filled in
+   */
+  @Transactional
+  public void insertRows(List<EmployeeResponseDto> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    employeeJdbcRepository.insertAll(rows, batchSize);
+    List<EmployeeChangeEvent.Change> changes = new ArrayList<>(rows.size());
+    for (EmployeeResponseDto row : rows) {
+      changes.add(new EmployeeChangeEvent.Change(null, row));
+    }
+    eventPublisher.publishEvent(new EmployeeChangeEvent(changes));
+  }
+
+  /**
+   * Applies bean validation to one row.
+   *
+   * @param request the row, possibly {@code null}
+   * @return error messages keyed by field path; empty if the row is valid
+   */
+  private Map<String, String> validate(EmployeeRequestDto request) {
+    Map<String, String> errors = new LinkedHashMap<>();
+    if (request == null) {
+      errors.put("employee", "Employee is required");
+      return errors;
+    }
+    for (ConstraintViolation<EmployeeRequestDto> violation : validator.validate(request)) {
+      errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+    }
+    return errors;
+  }
+}
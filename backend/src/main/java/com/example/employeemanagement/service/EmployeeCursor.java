@@ -0,0 +1,116 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.exception.BadRequestException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of an employee page in the {@code (last_name, first_name, id)} ordering
+ * used by keyset pagination.
+ *
+ * <p>The cursor is handed to clients as an opaque base64url token; its layout is an implementation
+ * detail and may change between releases, so clients must only echo it back.
+ */
+public final class EmployeeCursor {
+
+  /** Format marker written at the start of every token, so foreign input is rejected early. */
+  private static final byte VERSION = 1;
+
+  /** Last name of the last employee on the previous page. */
+  private final String lastName;
+
+  /** First name of the last employee on the previous page. */
+  private final String firstName;
+
+  /** ID of the last employee on the previous page; breaks ties between equal names. */
+  private final Long id;
+
+  /**
+   * Creates a cursor positioned after the given sort key.
+   *
+   * @param lastName the last name of the last row returned
+   * @param firstName the first name of the last row returned
+   * @param id the ID of the last row returned
+   */
+  public EmployeeCursor(String lastName, String firstName, Long id) {
+    this.lastName = lastName;
+    this.firstName = firstName;
+    this.id = id;
+  }
+
+  /**
+   * Gets the last name of the sort key.
+   *
+   * @return the last name
+   */
+  public String getLastName() {
+    return lastName;
+  }
+
+  /**
+   * Gets the first name of the sort key.
+   *
+   * @return the first name
+   */
+  public String getFirstName() {
+    return firstName;
+  }
+
+  /**
+   * Gets the employee ID of the sort key.
+   *
+   * @return the employee ID
+   */
+  public Long getId() {
+    return id;
+  }
+
+  /**
+   * Encodes this cursor as an opaque, URL-safe token.
+   *
+   * @return the token
+   */
+  public String encode() {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeByte(VERSION);
+      out.writeUTF(lastName);
+      out.writeUTF(firstName);
+      out.writeLong(id);
+      out.flush();
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    } catch (IOException e) {
+      // Writing to an in-memory stream cannot fail
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Decodes a token previously produced by {@link #encode()}.
+   *
+   * @param token the opaque token supplied by the client
+   * @return the decoded cursor
+   * @throws BadRequestException if the token is malformed
+   */
+  public static EmployeeCursor decode(String token) {
+    try {
+      DataInputStream in =
+          new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)));
+      if (in.readByte() != VERSION) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      EmployeeCursor cursor = new EmployeeCursor(in.readUTF(), in.readUTF(), in.readLong());
+      if (in.available() > 0) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      return cursor;
+    } catch (IllegalArgumentException | IOException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+}
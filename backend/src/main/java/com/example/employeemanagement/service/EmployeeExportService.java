@@ -0,0 +1,125 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes every employee to an output stream as it is read from the database, so memory use stays
+ * flat regardless of table size.
+ */
+@Service
+public class EmployeeExportService {
+
+  /** Plain JDBC access used to scan the employees table without creating entities. */
+  @Autowired private EmployeeJdbcRepository employeeJdbcRepository;
+
+  /** The application's object mapper, used only for its configured JSON factory. */
+  @Autowired private ObjectMapper objectMapper;
+
+  /** Number of rows the JDBC driver fetches per round-trip during an export. */
+  @Value("${employees.export.fetch-size:1000}")
+  private int fetchSize;
+
+  /**
+   * Export every employee as a single JSON array, in the same shape as {@code GET /api/employees}.
+   *
+   * @param out the stream to write to; it is flushed but not closed
+   * @throws IOException if writing to the stream fails
+   */
+  public void exportJsonArray(OutputStream out) throws IOException {
+    try (JsonGenerator generator = createGenerator(out)) {
+      generator.writeStartArray();
+      streamEmployees(generator, false);
+      generator.writeEndArray();
+    }
+  }
+
+  /**
+   * Export every employee as newline-delimited JSON, one employee object per line.
+   *
+   * @param out the stream to write to; it is flushed but not closed
+   * @throws IOException if writing to the stream fails
+   */
+  public void exportNdjson(OutputStream out) throws IOException {
+    try (JsonGenerator generator = createGenerator(out)) {
+      // Lines are separated explicitly below instead of by Jackson's default root separator
+      generator.setRootValueSeparator(null);
+      streamEmployees(generator, true);
+    }
+  }
+
+  /**
+   * Creates a generator that leaves the underlying stream open for the servlet container.
+   *
+   * @param out the stream to write to
+   * @return the generator
+   * @throws IOException if the generator cannot be created
+   */
+  private JsonGenerator createGenerator(OutputStream out) throws IOException {
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    return generator;
+  }
+
+  /**
+   * Scans the employees table and writes each row as soon as it is mapped. The generator is flushed
+   * once per fetch so rows reach the client in step with the database cursor.
+   *
+   * @param generator the generator to write to
+   * @param newlineDelimited whether to terminate every object with a newline
+   * @throws IOException if writing fails
+   */
+  private void streamEmployees(JsonGenerator generator, boolean newlineDelimited)
+      throws IOException {
+    long[] written = {0};
+    try {
+      employeeJdbcRepository.streamAllWithDepartments(
+          fetchSize,
+          employee -> {
+            try {
+              writeEmployee(generator, employee);
+              if (newlineDelimited) {
+                generator.writeRaw('\n');
+              }
+              if (++written[0] % fetchSize == 0) {
+                generator.flush();
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Writes one employee object using the field names of {@link EmployeeResponseDto}.
+   *
+   * @param generator the generator to write to
+   * @param employee the employee to write
+   * @throws IOException if writing fails
+   */
+  private static void writeEmployee(JsonGenerator generator, EmployeeResponseDto employee)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("id", employee.getId());
+    generator.writeStringField("firstName", employee.getFirstName());
+    generator.writeStringField("lastName", employee.getLastName());
+    generator.writeStringField("email", employee.getEmail());
+    generator.writeNumberField("age", employee.getAge());
+    generator.writeObjectFieldStart("department");
+    generator.writeNumberField("id", employee.getDepartment().getId());
+    generator.writeStringField("name", employee.getDepartment().getName());
+    generator.writeEndObject();
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.ImportJobDto;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The mutable state of one CSV employee import. Progress is written by the job's thread and read
+ * by status requests, so every accessor is synchronized.
+ */
+public class EmployeeImportJob {
+
+  /** The lifecycle states of a job. */
+  public enum Status {
+    /** Waiting for a free job thread. */
+    QUEUED,
+    /** Reading, validating and committing rows. */
+    RUNNING,
+    /** Every row was processed. */
+    COMPLETED,
+    /** Stopped early; rows committed before the failure remain. */
+    FAILED
+  }
+
+  /** The job ID. */
+  private final String id;
+
+  /** The maximum number of rejected rows kept for the report. */
+  private final int maxReportedRejections;
+
+  /** The current state. */
+  private Status status = Status.QUEUED;
+
+  /** When the job started running. */
+  private Instant startedAt;
+
+  /** When the job finished. */
+  private Instant finishedAt;
+
+  /** The data rows processed so far. */
+  private long rowsProcessed;
+
+  /** The employees created so far. */
+  private long rowsCreated;
+
+  /** The rows rejected so far. */
+  private long rowsRejected;
+
+  /** The first {@link #maxReportedRejections} rejected rows. */
+  private final List<ImportJobDto.RejectedRow> rejectedRows = new ArrayList<>();
+
+  /** Why the job failed. */
+  private String error;
+
+  /**
+   * Creates a queued job.
+   *
+   * @param id the job ID
+   * @param maxReportedRejections the maximum number of rejected rows kept for the report
+   */
+  public EmployeeImportJob(String id, int maxReportedRejections) {
+    this.id = id;
+    this.maxReportedRejections = maxReportedRejections;
+  }
+
+  /**
+   * Gets the job ID.
+   *
+   * @return the ID
+   */
+  public String getId() {
+    return id;
+  }
+
+  /** Marks the job as running. */
+  synchronized void start() {
+    status = Status.RUNNING;
+    startedAt = Instant.now();
+  }
+
+  /**
+   * Records a committed chunk.
+   *
+   * @param rows the number of data rows in the chunk
+   * @param created the number of employees created from it
+   * @param rejected the rows rejected from it, in file order
+   */
+  synchronized void recordChunk(int rows, int created, List<ImportJobDto.RejectedRow> rejected) {
+    rowsProcessed += rows;
+    rowsCreated += created;
+    rowsRejected += rejected.size();
+    for (ImportJobDto.RejectedRow row : rejected) {
+      if (rejectedRows.size() >= maxReportedRejections) {
+        break;
+      }
+      rejectedRows.add(row);
+    }
+  }
+
+  /** Marks the job as completed. */
+  synchronized void complete() {
+    status = Status.COMPLETED;
+    finishedAt = Instant.now();
+  }
+
+  /**
+   * Marks the job as failed.
+   *
+   * @param error why the job failed
+   */
+  synchronized void fail(String error) {
+    status = Status.FAILED;
+    finishedAt = Instant.now();
+    this.error = error;
+  }
+
+  /**
+   * Captures the job's progress.
+   *
+   * @return a snapshot of the job
+   */
+  public synchronized ImportJobDto toDto() {
+    ImportJobDto dto = new ImportJobDto();
+    dto.setId(id);
+    dto.setStatus(status.name());
+    dto.setRowsProcessed(rowsProcessed);
+    dto.setRowsCreated(rowsCreated);
+    dto.setRowsRejected(rowsRejected);
+    if (startedAt != null) {
+      Instant end = finishedAt != null ? finishedAt : Instant.now();
+      long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+      dto.setRowsPerSecond(rowsProcessed * 1000.0 / millis);
+    }
+    dto.setStartedAt(startedAt);
+    dto.setFinishedAt(finishedAt);
+    dto.setError(error);
+    dto.setRejectedRows(new ArrayList<>(rejectedRows));
+    return dto;
+  }
+}
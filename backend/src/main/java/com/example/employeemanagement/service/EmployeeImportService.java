@@ -0,0 +1,395 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.dto.ImportJobDto;
+import com.example.employeemanagement.exception.BadRequestException;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.PreDestroy;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Imports employees from CSV uploads as background jobs.
+ *
+ * <p>The upload is spooled to a temporary file and parsed one record at a time, so memory use does
+ * not depend on the file size. Records are grouped into chunks that a bounded worker pool validates
+ * in parallel, while the job thread commits finished chunks in file order, one transaction per
+ * chunk, through {@link EmployeeBulkService#insertRows}. At most two chunks per worker are in
+ * flight at once. Rows committed before a failure stay committed.
+ *
+ * <p>The CSV needs a header row naming the columns {@code firstName}, {@code lastName}, {@code
+ * email}, {@code age} and {@code department} (a department name), in any order and case.
+ */
+@Service
+public class EmployeeImportService {
+
+  /** Logger for job failures. */
+  private static final Logger log = LoggerFactory.getLogger(EmployeeImportService.class);
+
+  /** The required columns, as they appear in rejection reports. */
+  private static final List<String> COLUMNS =
+      List.of("firstName", "lastName", "email", "age", "department");
+
+  /** Plain JDBC access to departments, used to resolve department names. */
+  @Autowired private DepartmentJdbcRepository departmentJdbcRepository;
+
+  /** Inserts each validated chunk in its own transaction. */
+  @Autowired private EmployeeBulkService employeeBulkService;
+
+  /** Bean validator applying the constraints declared on {@link EmployeeRequestDto}. */
+  @Autowired private Validator validator;
+
+  /** Number of CSV rows validated and committed together. */
+  private final int chunkSize;
+
+  /** Maximum number of chunks validated or awaiting commit per job. */
+  private final int maxChunksInFlight;
+
+  /** Maximum number of rejected rows kept in a job's report. */
+  private final int maxReportedRejections;
+
+  /** Runs the jobs; jobs beyond its size wait in the queue. */
+  private final ExecutorService jobExecutor;
+
+  /** Validates chunks for all jobs. */
+  private final ExecutorService validationExecutor;
+
+  /** Recent jobs by ID, including finished ones until they expire. */
+  private final BoundedCache<String, EmployeeImportJob> jobs;
+
+  /**
+   * Creates the service and its thread pools.
+   *
+   * @param chunkSize number of CSV rows validated and committed together
+   * @param workers number of threads validating chunks
+   * @param maxConcurrentJobs number of jobs that run at the same time
+   * @param maxReportedRejections maximum number of rejected rows kept in a job's report
+   * @param retainedJobs maximum number of jobs whose status is kept
+   * @param retentionSeconds how long a job's status is kept
+   */
+  public EmployeeImportService(
+      @Value("${employees.import.chunk-size:1000}") int chunkSize,
+      @Value("${employees.import.workers:4}") int workers,
+      @Value("${employees.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+      @Value("${employees.import.max-reported-rejections:1000}") int maxReportedRejections,
+      @Value("${employees.import.retained-jobs:100}") int retainedJobs,
+      @Value("${employees.import.retention-seconds:86400}") long retentionSeconds) {
+    this.chunkSize = chunkSize;
+    this.maxChunksInFlight = workers * 2;
+    this.maxReportedRejections = maxReportedRejections;
+    this.jobExecutor =
+        Executors.newFixedThreadPool(
+            maxConcurrentJobs, new CustomizableThreadFactory("employee-import-"));
+    this.validationExecutor =
+        Executors.newFixedThreadPool(
+            workers, new CustomizableThreadFactory("employee-import-validate-"));
+    this.jobs =
+        new BoundedCache<>("importJobs", retainedJobs, Duration.ofSeconds(retentionSeconds));
+  }
+
+  /**
+   * Queues an import of an uploaded CSV file.
+   *
+   * @param file the upload
+   * @return the queued job's status
+   */
+  public ImportJobDto startImport(MultipartFile file) {
+    if (file.isEmpty()) {
+      throw new BadRequestException("The uploaded file is empty");
+    }
+    Path spooled;
+    try {
+      // The multipart temp file is deleted when the request ends, before the job has read it
+      spooled = Files.createTempFile("employee-import-", ".csv");
+      file.transferTo(spooled);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    EmployeeImportJob job =
+        new EmployeeImportJob(UUID.randomUUID().toString(), maxReportedRejections);
+    jobs.put(job.getId(), job);
+    jobExecutor.execute(() -> run(job, spooled));
+    return job.toDto();
+  }
+
+  /**
+   * Gets the status of a job.
+   *
+   * @param id the job ID
+   * @return the status, or empty if the job is unknown or has expired
+   */
+  public Optional<ImportJobDto> getJob(String id) {
+    return Optional.ofNullable(jobs.getIfPresent(id)).map(EmployeeImportJob::toDto);
+  }
+
+  /**
+   * Runs an import job to completion, then deletes its file.
+   *
+   * @param job the job
+   * @param file the spooled CSV file
+   */
+  private void run(EmployeeImportJob job, Path file) {
+    job.start();
+    Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+    try (InputStream in = Files.newInputStream(file)) {
+      CsvRecordReader csv = new CsvRecordReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+      int[] columns = mapColumns(csv.next());
+      Map<String, Optional<EmployeeResponseDto.DepartmentDto>> departments =
+          new ConcurrentHashMap<>();
+
+      List<Row> rows = new ArrayList<>(chunkSize);
+      for (List<String> record = csv.next(); record != null; record = csv.next()) {
+        if (record.size() == 1 && record.get(0).isEmpty()) {
+          continue;
+        }
+        rows.add(new Row(csv.getRecordLine(), record));
+        if (rows.size() == chunkSize) {
+          submit(rows, columns, departments, inFlight);
+          rows = new ArrayList<>(chunkSize);
+          while (inFlight.size() >= maxChunksInFlight) {
+            commit(job, inFlight.removeFirst());
+          }
+        }
+      }
+      if (!rows.isEmpty()) {
+        submit(rows, columns, departments, inFlight);
+      }
+      while (!inFlight.isEmpty()) {
+        commit(job, inFlight.removeFirst());
+      }
+      job.complete();
+    } catch (Exception e) {
+      inFlight.forEach(chunk -> chunk.cancel(true));
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      log.warn("Employee import {} failed", job.getId(), e);
+      job.fail(e instanceof ExecutionException ? e.getCause().toString() : e.getMessage());
+    } finally {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        log.warn("Could not delete import file {}", file, e);
+      }
+    }
+  }
+
+  /**
+   * Finds each required column in the header row.
+   *
+   * @param header the header fields, or {@code null} if the file is empty
+   * @return the index of each of {@link #COLUMNS} in a record
+   * @throws IllegalArgumentException if the header is missing or lacks a column
+   */
+  private static int[] mapColumns(List<String> header) {
+    if (header == null) {
+      throw new IllegalArgumentException("The file has no header row");
+    }
+    Map<String, Integer> positions = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      positions.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+    }
+    int[] columns = new int[COLUMNS.size()];
+    for (int i = 0; i < columns.length; i++) {
+      Integer position = positions.get(COLUMNS.get(i).toLowerCase(Locale.ROOT));
+      if (position == null) {
+        throw new IllegalArgumentException("Missing column: " + COLUMNS.get(i));
+      }
+      columns[i] = position;
+    }
+    return columns;
+  }
+
+  /**
+   * Hands a chunk to the validation pool.
+   *
+   * @param rows the chunk's rows
+   * @param columns the index of each required column
+   * @param departments the job's department name cache
+   * @param inFlight the job's chunks awaiting commit, in file order
+   */
+  private void submit(
+      List<Row> rows,
+      int[] columns,
+      Map<String, Optional<EmployeeResponseDto.DepartmentDto>> departments,
+      Deque<Future<Chunk>> inFlight) {
+    inFlight.addLast(validationExecutor.submit(() -> validate(rows, columns, departments)));
+  }
+
+  /**
+   * Waits for a chunk's validation and commits its valid rows.
+   *
+   * @param job the job
+   * @param pending the chunk
+   * @throws InterruptedException if the job thread is interrupted
+   * @throws ExecutionException if validation failed
+   */
+  private void commit(EmployeeImportJob job, Future<Chunk> pending)
+      throws InterruptedException, ExecutionException {
+    Chunk chunk = pending.get();
+    employeeBulkService.insertRows(chunk.valid);
+    job.recordChunk(chunk.rows, chunk.valid.size(), chunk.rejected);
+  }
+
+  /**
+   * Validates a chunk of rows. Department names are resolved through the job's cache, so each
+   * distinct name costs one indexed lookup per job.
+   *
+   * @param rows the chunk's rows
+   * @param columns the index of each required column
+   * @param departments the job's department name cache
+   * @return the valid employees and the rejected rows
+   */
+  private Chunk validate(
+      List<Row> rows,
+      int[] columns,
+      Map<String, Optional<EmployeeResponseDto.DepartmentDto>> departments) {
+    Chunk chunk = new Chunk(rows.size());
+    for (Row row : rows) {
+      Map<String, String> errors = new LinkedHashMap<>();
+      EmployeeRequestDto request = new EmployeeRequestDto();
+      request.setFirstName(field(row, columns[0]));
+      request.setLastName(field(row, columns[1]));
+      request.setEmail(field(row, columns[2]));
+      try {
+        request.setAge(Integer.parseInt(field(row, columns[3])));
+      } catch (NumberFormatException e) {
+        errors.put("age", "Age must be a whole number");
+      }
+
+      String departmentName = field(row, columns[4]);
+      EmployeeResponseDto.DepartmentDto department = null;
+      if (departmentName.isEmpty()) {
+        errors.put("department", "Department is required");
+      } else {
+        department =
+            departments
+                .computeIfAbsent(departmentName, departmentJdbcRepository::findByName)
+                .orElse(null);
+        if (department == null) {
+          errors.put("department", "Department not found: " + departmentName);
+        } else {
+          EmployeeRequestDto.DepartmentRef ref = new EmployeeRequestDto.DepartmentRef();
+          ref.setId(department.getId());
+          request.setDepartment(ref);
+        }
+      }
+
+      for (ConstraintViolation<EmployeeRequestDto> violation : validator.validate(request)) {
+        String column = violation.getPropertyPath().toString();
+        if (column.startsWith("department")) {
+          column = "department";
+        }
+        errors.putIfAbsent(column, violation.getMessage());
+      }
+
+      if (errors.isEmpty()) {
+        chunk.valid.add(
+            new EmployeeResponseDto(
+                null,
+                request.getFirstName(),
+                request.getLastName(),
+                request.getEmail(),
+                request.getAge(),
+                department.getId(),
+                department.getName()));
+      } else {
+        chunk.rejected.add(new ImportJobDto.RejectedRow(row.line, errors));
+      }
+    }
+    return chunk;
+  }
+
+  /**
+   * Reads a trimmed field of a row.
+   *
+   * @param row the row
+   * @param column the field index
+   * @return the field, or an empty string if the row is too short
+   */
+  private static String field(Row row, int column) {
+    return column < row.fields.size() ? row.fields.get(column).trim() : "";
+  }
+
+  /** Stops the thread pools; running jobs are interrupted and end as failed. */
+  @PreDestroy
+  public void shutdown() {
+    jobExecutor.shutdownNow();
+    validationExecutor.shutdownNow();
+  }
+
+  /** One CSV record and where it starts in the file. */
+  private static final class Row {
+
+    /** The line on which the record starts. */
+    private final long line;
+
+    /** The record's fields. */
+    private final List<String> fields;
+
+    /**
+     * Creates a row.
+     *
+     * @param line the line on which the record starts
+     * @param fields the record's fields
+     */
+    private Row(long line, List<String> fields) {
+      this.line = line;
+      this.fields = fields;
+    }
+  }
+
+  /** The outcome of validating one chunk. */
+  private static final class Chunk {
+
+    /** The number of rows in the chunk. */
+    private final int rows;
+
+    /** The valid rows, ready to insert. */
+    private final List<EmployeeResponseDto> valid;
+
+    /** The rejected rows, in file order. */
+    private final List<ImportJobDto.RejectedRow> rejected = new ArrayList<>();
+
+    /**
+     * Creates an empty outcome.
+     *
+     * @param rows the number of rows in the chunk
+     */
+    private Chunk(int rows) {
+      this.rows = rows;
+      this.valid = new ArrayList<>(rows);
+    }
+  }
+}
@@ -0,0 +1,608 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.event.DepartmentChangeEvent;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory search index over employee first name, last name, email and department name.
+ *
+ * <p>Every employee occupies a slot in a document table. Two inverted indexes map to slots: one
+ * from each character trigram of the indexed fields, used for terms of three or more characters,
+ * and a sorted one from each word, used for shorter terms as a prefix match. A query looks up the
+ * most selective term only and verifies each candidate against the document text, so the cost is
+ * proportional to the smallest posting list rather than to the number of employees.
+ *
+ * <p>The index is built from a streaming scan once the application is ready and updated from
+ * committed {@link EmployeeChangeEvent}s and {@link DepartmentChangeEvent}s, including those that
+ * arrive during the scan. Updates only append
+ * postings; postings left behind by changed or deleted employees are filtered out by verification
+ * and dropped by a rebuild of the posting lists once they make up a quarter of the index.
+ */
+@Service
+public class EmployeeSearchIndex {
+
+  /** Indexed fields, in the order of {@link Document#fields}. */
+  private static final int FIRST_NAME = 0;
+
+  /** Index of the last name in {@link Document#fields}. */
+  private static final int LAST_NAME = 1;
+
+  /** Index of the email in {@link Document#fields}. */
+  private static final int EMAIL = 2;
+
+  /** Index of the department name in {@link Document#fields}. */
+  private static final int DEPARTMENT = 3;
+
+  /** Tie-breaking weight of a match in each field, indexed like {@link Document#fields}. */
+  private static final int[] FIELD_WEIGHTS = {4, 4, 2, 1};
+
+  /** Terms shorter than this are matched as word prefixes instead of through trigrams. */
+  private static final int TRIGRAM_LENGTH = 3;
+
+  /** Lowest number of stale postings that can trigger a rebuild of the posting lists. */
+  private static final long MIN_STALE_POSTINGS_FOR_COMPACTION = 10_000;
+
+  /** Orders hits from worst to best: lower score first, then higher employee ID. */
+  private static final Comparator<Hit> WORST_FIRST =
+      Comparator.<Hit>comparingInt(hit -> hit.score)
+          .thenComparing(hit -> hit.document.employee.getId(), Comparator.reverseOrder());
+
+  /** Plain JDBC access used to scan the employees table when building the index. */
+  @Autowired private EmployeeJdbcRepository employeeJdbcRepository;
+
+  /** Number of rows the JDBC driver fetches per round-trip while building the index. */
+  @Value("${employees.search.fetch-size:1000}")
+  private int fetchSize;
+
+  /** Guards every field below: searches share the read lock, updates take the write lock. */
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /** Documents by slot; {@code null} for a free slot. */
+  private final List<Document> documents = new ArrayList<>();
+
+  /** Slot by employee ID. */
+  private final Map<Long, Integer> slotsById = new HashMap<>();
+
+  /** Slots freed by deletions, reused before the document table grows. */
+  private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+  /** Slots by trigram key, see {@link #trigramKey(String, int)}. */
+  private final Map<Integer, IntList> trigramPostings = new HashMap<>();
+
+  /** Slots by word, sorted so that all words with a given prefix are adjacent. */
+  private final TreeMap<String, IntList> wordPostings = new TreeMap<>();
+
+  /** Number of postings in both indexes. */
+  private long postings;
+
+  /** Number of postings that no longer match their slot's document. */
+  private long stalePostings;
+
+  /** Whether the index has been built from the database. */
+  private volatile boolean built;
+
+  /** Build the index once the application, including data seeding, has started. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    rebuild();
+  }
+
+  /** Rebuilds the whole index from a streaming scan of the employees table. */
+  public void rebuild() {
+    lock.writeLock().lock();
+    try {
+      documents.clear();
+      slotsById.clear();
+      freeSlots.clear();
+      clearPostings();
+      employeeJdbcRepository.streamAllWithDepartments(fetchSize, this::put);
+      built = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Finds the employees matching every whitespace-separated term of a query, best matches first.
+   *
+   * <p>A term matches a field exactly, as the prefix of one of its words, or, if it is at least
+   * three characters long, anywhere. Each term scores the best of these over all fields, with exact
+   * matches above word prefixes above substrings and names above email above department; the
+   * scores of all terms are added up.
+   *
+   * @param query the query
+   * @param limit the maximum number of results
+   * @return up to {@code limit} matching employees
+   */
+  public List<EmployeeResponseDto> search(String query, int limit) {
+    String[] terms = query.trim().toLowerCase(Locale.ROOT).split("\\s+");
+    if (terms[0].isEmpty() || limit < 1) {
+      return Collections.emptyList();
+    }
+    if (!built) {
+      lock.writeLock().lock();
+      try {
+        if (!built) {
+          rebuild();
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    lock.readLock().lock();
+    try {
+      Collection<IntList> candidates = null;
+      long fewestCandidates = Long.MAX_VALUE;
+      for (String term : terms) {
+        Collection<IntList> termCandidates = candidatesFor(term);
+        long count = 0;
+        for (IntList list : termCandidates) {
+          count += list.size;
+        }
+        if (count < fewestCandidates) {
+          candidates = termCandidates;
+          fewestCandidates = count;
+        }
+      }
+
+      PriorityQueue<Hit> hits = new PriorityQueue<>(limit + 1, WORST_FIRST);
+      // A slot can be listed twice after its document changed back and forth
+      Set<Integer> slotsInHits = new HashSet<>();
+      for (IntList list : candidates) {
+        for (int i = 0; i < list.size; i++) {
+          int slot = list.items[i];
+          Document document = documents.get(slot);
+          if (document == null) {
+            continue;
+          }
+          int score = score(document, terms);
+          if (score == 0) {
+            continue;
+          }
+          Hit hit = new Hit(slot, document, score);
+          boolean full = hits.size() == limit;
+          if ((full && WORST_FIRST.compare(hit, hits.peek()) <= 0) || !slotsInHits.add(slot)) {
+            continue;
+          }
+          if (full) {
+            slotsInHits.remove(hits.poll().slot);
+          }
+          hits.add(hit);
+        }
+      }
+
+      EmployeeResponseDto[] results = new EmployeeResponseDto[hits.size()];
+      for (int i = results.length - 1; i >= 0; i--) {
+        results[i] = hits.poll().document.employee;
+      }
+      return Arrays.asList(results);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the number of indexed employees.
+   *
+   * @return the number of employees
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return slotsById.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Applies committed employee changes to the index. While the index is being built this waits
+   * for the build, so a change committed after the scan read the employee is not lost; a change
+   * the scan already saw is applied a second time, which leaves the index as it was.
+   *
+   * @param event the committed changes
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEmployeeChange(EmployeeChangeEvent event) {
+    lock.writeLock().lock();
+    try {
+      for (EmployeeChangeEvent.Change change : event.getChanges()) {
+        if (change.getAfter() != null) {
+          put(change.getAfter());
+        } else {
+          remove(change.getId());
+        }
+      }
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Applies committed department renames to the employees of those departments. Like {@link
+   * #onEmployeeChange}, this waits for a build in progress.
+   *
+   * @param event the committed changes
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDepartmentChange(DepartmentChangeEvent event) {
+    lock.writeLock().lock();
+    try {
+      for (DepartmentChangeEvent.Change change : event.getChanges()) {
+        if (!change.isDeleted()) {
+          renameDepartment(change.getId(), change.getName());
+        }
+      }
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the posting lists that contain every employee a term can match.
+   *
+   * @param term the lower-case term
+   * @return the posting lists, empty if nothing can match
+   */
+  private Collection<IntList> candidatesFor(String term) {
+    if (term.length() < TRIGRAM_LENGTH) {
+      return wordPostings.subMap(term, true, term + Character.MAX_VALUE, false).values();
+    }
+    IntList rarest = null;
+    for (int i = 0; i + TRIGRAM_LENGTH <= term.length(); i++) {
+      IntList list = trigramPostings.get(trigramKey(term, i));
+      if (list == null) {
+        return Collections.emptyList();
+      }
+      if (rarest == null || list.size < rarest.size) {
+        rarest = list;
+      }
+    }
+    return Collections.singletonList(rarest);
+  }
+
+  /**
+   * Scores a document against all terms of a query.
+   *
+   * @param document the document
+   * @param terms the lower-case terms
+   * @return the score, or {@code 0} if some term does not match
+   */
+  private static int score(Document document, String[] terms) {
+    int total = 0;
+    for (String term : terms) {
+      int best = 0;
+      for (int field = 0; field < document.fields.length; field++) {
+        int quality = matchQuality(document.fields[field], term);
+        if (quality > 0) {
+          best = Math.max(best, quality * 10 + FIELD_WEIGHTS[field]);
+        }
+      }
+      if (best == 0) {
+        return 0;
+      }
+      total += best;
+    }
+    return total;
+  }
+
+  /**
+   * Grades how well a term matches a field.
+   *
+   * @param field the lower-case field value
+   * @param term the lower-case term
+   * @return 3 for an exact match, 2 for a word prefix, 1 for a substring of a term long enough for
+   *     trigram matching, otherwise 0
+   */
+  private static int matchQuality(String field, String term) {
+    if (field.equals(term)) {
+      return 3;
+    }
+    int quality = 0;
+    for (int at = field.indexOf(term); at >= 0; at = field.indexOf(term, at + 1)) {
+      if (at == 0 || !Character.isLetterOrDigit(field.charAt(at - 1))) {
+        return 2;
+      }
+      quality = 1;
+    }
+    return term.length() >= TRIGRAM_LENGTH ? quality : 0;
+  }
+
+  /**
+   * Indexes an employee, replacing its previous document if it was already indexed. Only postings
+   * that the previous document did not have are added. Requires the write lock.
+   *
+   * @param employee the employee
+   */
+  private void put(EmployeeResponseDto employee) {
+    Document document = new Document(employee);
+    Integer slot = slotsById.get(employee.getId());
+    Document previous = null;
+    if (slot == null) {
+      slot = freeSlots.isEmpty() ? documents.size() : freeSlots.poll();
+      if (slot == documents.size()) {
+        documents.add(null);
+      }
+      slotsById.put(employee.getId(), slot);
+    } else {
+      previous = documents.get(slot);
+    }
+    documents.set(slot, document);
+
+    int[] trigrams = document.trigrams();
+    int[] previousTrigrams = previous != null ? previous.trigrams() : new int[0];
+    for (int trigram : trigrams) {
+      if (Arrays.binarySearch(previousTrigrams, trigram) < 0) {
+        trigramPostings.computeIfAbsent(trigram, key -> new IntList()).add(slot);
+        postings++;
+      }
+    }
+    for (int trigram : previousTrigrams) {
+      if (Arrays.binarySearch(trigrams, trigram) < 0) {
+        stalePostings++;
+      }
+    }
+
+    Set<String> words = document.words();
+    Set<String> previousWords = previous != null ? previous.words() : Collections.emptySet();
+    for (String word : words) {
+      if (!previousWords.contains(word)) {
+        wordPostings.computeIfAbsent(word, key -> new IntList()).add(slot);
+        postings++;
+      }
+    }
+    for (String word : previousWords) {
+      if (!words.contains(word)) {
+        stalePostings++;
+      }
+    }
+  }
+
+  /**
+   * Removes an employee from the index. Its postings become stale. Requires the write lock.
+   *
+   * @param id the employee ID
+   */
+  private void remove(Long id) {
+    Integer slot = slotsById.remove(id);
+    if (slot == null) {
+      return;
+    }
+    Document document = documents.set(slot, null);
+    freeSlots.push(slot);
+    stalePostings += document.trigrams().length + document.words().size();
+  }
+
+  /**
+   * Updates the department name of every employee in a department. Requires the write lock.
+   *
+   * @param departmentId the department ID
+   * @param name the new name
+   */
+  private void renameDepartment(Long departmentId, String name) {
+    List<EmployeeResponseDto> renamed = new ArrayList<>();
+    for (Document document : documents) {
+      EmployeeResponseDto employee = document != null ? document.employee : null;
+      if (employee != null
+          && departmentId.equals(employee.getDepartment().getId())
+          && !name.equals(employee.getDepartment().getName())) {
+        renamed.add(
+            new EmployeeResponseDto(
+                employee.getId(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmail(),
+                employee.getAge(),
+                departmentId,
+                name));
+      }
+    }
+    renamed.forEach(this::put);
+  }
+
+  /**
+   * Rebuilds the posting lists from the documents once stale postings make up a quarter of them.
+   * Requires the write lock.
+   */
+  private void compactIfNeeded() {
+    if (stalePostings < MIN_STALE_POSTINGS_FOR_COMPACTION || stalePostings * 4 < postings) {
+      return;
+    }
+    clearPostings();
+    for (int slot = 0; slot < documents.size(); slot++) {
+      Document document = documents.get(slot);
+      if (document == null) {
+        continue;
+      }
+      for (int trigram : document.trigrams()) {
+        trigramPostings.computeIfAbsent(trigram, key -> new IntList()).add(slot);
+        postings++;
+      }
+      for (String word : document.words()) {
+        wordPostings.computeIfAbsent(word, key -> new IntList()).add(slot);
+        postings++;
+      }
+    }
+  }
+
+  /** Empties both posting indexes. Requires the write lock. */
+  private void clearPostings() {
+    trigramPostings.clear();
+    wordPostings.clear();
+    postings = 0;
+    stalePostings = 0;
+  }
+
+  /**
+   * Packs the trigram starting at {@code offset} into an int. Characters are truncated to ten bits,
+   * which is exact for Latin scripts; collisions elsewhere only add candidates that verification
+   * then rejects.
+   *
+   * @param text the text
+   * @param offset the index of the trigram's first character
+   * @return the trigram key
+   */
+  private static int trigramKey(String text, int offset) {
+    return (text.charAt(offset) & 0x3FF) << 20
+        | (text.charAt(offset + 1) & 0x3FF) << 10
+        | (text.charAt(offset + 2) & 0x3FF);
+  }
+
+  /** An indexed employee with its lower-cased searchable fields. */
+  private static final class Document {
+
+    /** The employee, returned as is in search results. */
+    private final EmployeeResponseDto employee;
+
+    /** Lower-cased first name, last name, email and department name. */
+    private final String[] fields;
+
+    /**
+     * Creates a document.
+     *
+     * @param employee the employee
+     */
+    private Document(EmployeeResponseDto employee) {
+      this.employee = employee;
+      this.fields = new String[4];
+      fields[FIRST_NAME] = lowerCase(employee.getFirstName());
+      fields[LAST_NAME] = lowerCase(employee.getLastName());
+      fields[EMAIL] = lowerCase(employee.getEmail());
+      fields[DEPARTMENT] =
+          lowerCase(employee.getDepartment() != null ? employee.getDepartment().getName() : null);
+    }
+
+    /**
+     * Computes the distinct trigram keys of all fields.
+     *
+     * @return the keys, sorted
+     */
+    private int[] trigrams() {
+      int count = 0;
+      for (String field : fields) {
+        count += Math.max(0, field.length() - TRIGRAM_LENGTH + 1);
+      }
+      int[] keys = new int[count];
+      int next = 0;
+      for (String field : fields) {
+        for (int i = 0; i + TRIGRAM_LENGTH <= field.length(); i++) {
+          keys[next++] = trigramKey(field, i);
+        }
+      }
+      Arrays.sort(keys);
+      int distinct = 0;
+      for (int i = 0; i < keys.length; i++) {
+        if (i == 0 || keys[i] != keys[i - 1]) {
+          keys[distinct++] = keys[i];
+        }
+      }
+      return Arrays.copyOf(keys, distinct);
+    }
+
+    /**
+     * Computes the distinct words of all fields, split on anything but letters and digits.
+     *
+     * @return the words
+     */
+    private Set<String> words() {
+      Set<String> words = new HashSet<>();
+      for (String field : fields) {
+        int start = -1;
+        for (int i = 0; i <= field.length(); i++) {
+          boolean wordChar = i < field.length() && Character.isLetterOrDigit(field.charAt(i));
+          if (wordChar && start < 0) {
+            start = i;
+          } else if (!wordChar && start >= 0) {
+            words.add(field.substring(start, i));
+            start = -1;
+          }
+        }
+      }
+      return words;
+    }
+
+    /**
+     * Lower-cases a field value.
+     *
+     * @param value the value, or {@code null}
+     * @return the lower-cased value, or an empty string
+     */
+    private static String lowerCase(String value) {
+      return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+  }
+
+  /** A scored search result. */
+  private static final class Hit {
+
+    /** The slot of the document. */
+    private final int slot;
+
+    /** The matching document. */
+    private final Document document;
+
+    /** The score of the document for the query. */
+    private final int score;
+
+    /**
+     * Creates a hit.
+     *
+     * @param slot the slot of the document
+     * @param document the matching document
+     * @param score the score of the document for the query
+     */
+    private Hit(int slot, Document document, int score) {
+      this.slot = slot;
+      this.document = document;
+      this.score = score;
+    }
+  }
+
+  /** A growable list of primitive ints, used for posting lists. */
+  private static final class IntList {
+
+    /** The elements; only the first {@link #size} are in use. */
+    private int[] items = new int[4];
+
+    /** The number of elements. */
+    private int size;
+
+    /**
+     * Appends an element.
+     *
+     * @param value the element
+     */
+    private void add(int value) {
+      if (size == items.length) {
+        items = Arrays.copyOf(items, size + (size >> 1));
+      }
+      items[size++] = value;
+    }
+  }
+}
@@ -1,11 +1,35 @@
 package com.example.employeemanagement.service;
 
+import com.example.employeemanagement.dto.EmployeeDeleteRequestDto;
+import com.example.employeemanagement.dto.EmployeeDeleteResultDto;
+import com.example.employeemanagement.dto.EmployeeField;
+import com.example.employeemanagement.dto.EmployeePatchDto;
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.exception.PreconditionFailedException;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.example.employeemanagement.model.Department;
 import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
 import com.example.employeemanagement.repository.EmployeeRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,12 +37,31 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class EmployeeService {
 
+  /** Logger for updates that can no longer be applied. */
+  private static final Logger log = LoggerFactory.getLogger(EmployeeService.class);
+
   /** The employee repository. */
   @Autowired private EmployeeRepository employeeRepository;
 
-  /** The JPA entity manager, used to flush and clear the persistence context after save. */
+  /** Plain JDBC access to employees, used for sparse fieldset reads. */
+  @Autowired private EmployeeJdbcRepository employeeJdbcRepository;
+
+  /** The JPA entity manager, used to obtain department references without reading the row. */
   @Autowired private EntityManager entityManager;
 
+  /** Service layer for departments, whose cache answers department existence checks. */
+  @Autowired private DepartmentService departmentService;
+
+  /** Publishes an {@link EmployeeChangeEvent} for every committed write. */
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  /** The read-through caches, invalidated by the events this service publishes. */
+  @Autowired private EntityCacheService entityCacheService;
+
+  /** Maximum number of IDs per statement when locking or deleting many employees. */
+  @Value("${employees.bulk-delete.chunk-size:1000}")
+  private int deleteChunkSize;
+
   /**
    * Get all employees.
    *
@@ -28,6 +71,78 @@ public class EmployeeService {
     return employeeRepository.findAllWithDepartments();
   }
 
+  /**
+   * Get all employees as response DTOs, read in a read-only transaction. Read-only transactions run
+   * with Hibernate's flush mode set to {@code MANUAL}, so nothing is dirty-checked or flushed.
+   *
+   * @return List of all employees
+   */
+  @Transactional(readOnly = true)
+  public List<EmployeeResponseDto> getAllEmployeeDtos() {
+    return employeeRepository.findAllDtos();
+  }
+
+  /**
+   * Get employee by ID as a response DTO, served from the employee cache when possible. A cache hit
+   * does not open a transaction; a miss reads through the repository's read-only transaction.
+   *
+   * @param id ID of the employee to be retrieved
+   * @return Employee with the specified ID
+   */
+  public Optional<EmployeeResponseDto> getEmployeeDtoById(Long id) {
+    return Optional.ofNullable(
+        entityCacheService
+            .employees()
+            .get(id, key -> employeeRepository.findDtoById(key).orElse(null)));
+  }
+
+  /**
+   * Get one page of employees in {@code (lastName, firstName, id)} order using keyset pagination.
+   *
+   * @param after the position of the last employee on the previous page, or {@code null} for the
+   *     first page
+   * @param limit the maximum number of employees to return
+   * @return the employees following {@code after}
+   */
+  @Transactional(readOnly = true)
+  public List<EmployeeResponseDto> getEmployeesAfter(EmployeeCursor after, int limit) {
+    PageRequest page = PageRequest.of(0, limit);
+    if (after == null) {
+      return employeeRepository.findFirstPage(page);
+    }
+    return employeeRepository.findPageAfter(
+        after.getLastName(), after.getFirstName(), after.getId(), page);
+  }
+
+  /**
+   * Get the selected fields of all employees, reading only the columns behind those fields.
+   *
+   * @param fields the fields to read
+   * @return one JSON object per employee
+   */
+  @Transactional(readOnly = true)
+  public List<Map<String, Object>> getEmployeeFields(Set<EmployeeField> fields) {
+    return employeeJdbcRepository.findAllFields(fields);
+  }
+
+  /**
+   * Get the selected fields of a page of employees, in the order of {@link #getEmployeesAfter}.
+   *
+   * @param fields the fields to read
+   * @param after the position after which the page starts, or {@code null} for the first page
+   * @param limit the maximum number of employees to return
+   * @return one JSON object per employee
+   */
+  @Transactional(readOnly = true)
+  public List<Map<String, Object>> getEmployeeFieldsAfter(
+      Set<EmployeeField> fields, EmployeeCursor after, int limit) {
+    if (after == null) {
+      return employeeJdbcRepository.findPageFields(fields, null, null, null, limit);
+    }
+    return employeeJdbcRepository.findPageFields(
+        fields, after.getLastName(), after.getFirstName(), after.getId(), limit);
+  }
+
   /**
    * Get employee by ID.
    *
@@ -39,25 +154,391 @@ public class EmployeeService {
   }
 
   /**
-   * Save an employee.
+   * Create an employee with a single INSERT. The department is checked against the department
+   * cache and attached as an uninitialized reference, so neither it nor its staff is read, and the
+   * response is built from the request instead of re-selecting the new row.
    *
-   * @param employee Employee to be saved
+   * @param request New employee details
+   * @return The created employee, with its version
+   * @throws ResourceNotFoundException if the department does not exist
+   */
+  @Transactional
+  public EmployeeResponseDto createEmployee(EmployeeRequestDto request) {
+    EmployeeResponseDto.DepartmentDto department =
+        requireDepartment(request.getDepartment().getId());
+
+    Employee employee = new Employee();
+    employee.setFirstName(request.getFirstName());
+    employee.setLastName(request.getLastName());
+    employee.setEmail(request.getEmail());
+    employee.setAge(request.getAge());
+    employee.setDepartment(entityManager.getReference(Department.class, department.getId()));
+    Employee saved = employeeRepository.save(employee);
+
+    EmployeeResponseDto after = toSnapshot(saved.getId(), request, department);
+    after.setVersion(saved.getVersion());
+    eventPublisher.publishEvent(EmployeeChangeEvent.of(null, after));
+    return after;
+  }
+
+  /**
+   * Update an employee with a single UPDATE statement, conditional on the version of its previous
+   * state. The previous state, needed for the change event, comes from the employee cache, so a
+   * warm cache makes this one round-trip. Only if the cached copy is out of date does the UPDATE
+   * match no row; the row is then read under a lock and the UPDATE repeated. Either way the event's
+   * before image is the exact state the UPDATE replaced, so concurrent updates of the same employee
+   * each report their own delta.
+   *
+   * @param id ID of the employee to be updated
+   * @param request Updated employee details
+   * @return The updated employee, with its new version
+   * @throws ResourceNotFoundException if the employee or the department does not exist
+   */
+  @Transactional
+  public EmployeeResponseDto updateEmployee(Long id, EmployeeRequestDto request) {
+    EmployeeResponseDto before =
+        getEmployeeDtoById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    EmployeeResponseDto.DepartmentDto department =
+        requireDepartment(request.getDepartment().getId());
+
+    if (updateById(id, before.getVersion(), request, department) == 0) {
+      before = lockEmployee(id);
+      updateById(id, before.getVersion(), request, department);
+    }
+
+    EmployeeResponseDto after = toSnapshot(id, request, department);
+    after.setVersion(before.getVersion() + 1);
+    eventPublisher.publishEvent(EmployeeChangeEvent.of(before, after));
+    return after;
+  }
+
+  /**
+   * Overwrite an employee with a single UPDATE, conditional on its version.
+   *
+   * @param id ID of the employee to be updated
+   * @param version The version the employee must still have
+   * @param request Updated employee details
+   * @param department The new department
+   * @return The number of rows updated
+   */
+  private int updateById(
+      Long id,
+      long version,
+      EmployeeRequestDto request,
+      EmployeeResponseDto.DepartmentDto department) {
+    return employeeRepository.updateById(
+        id,
+        version,
+        request.getFirstName(),
+        request.getLastName(),
+        request.getEmail(),
+        request.getAge(),
+        entityManager.getReference(Department.class, department.getId()));
+  }
+
+  /**
+   * Change some fields of an employee with a single conditional UPDATE, which only succeeds while
+   * the employee still has the version of its previous state. The previous state comes from the
+   * employee cache and the department from the department cache, so a warm cache makes this one
+   * round-trip; the row is only read when the cached version differs from the expected one, or
+   * when any version is accepted and the cached copy turns out to be out of date. As the UPDATE
+   * matched the previous state's version, the change event's before image is exactly the state
+   * that was replaced.
+   *
+   * @param id ID of the employee to be updated
+   * @param version The version the employee must still have, or {@code null} to accept any
+   * @param patch The fields to change
+   * @return The updated employee, with its new version
+   * @throws ResourceNotFoundException if the employee or the new department does not exist
+   * @throws PreconditionFailedException if the employee's version differs
+   */
+  @Transactional
+  public EmployeeResponseDto patchEmployee(Long id, Long version, EmployeePatchDto patch) {
+    EmployeeResponseDto before =
+        getEmployeeDtoById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    if (version != null && !version.equals(before.getVersion())) {
+      // The cached copy may predate a change made outside this application; the row decides
+      before =
+          employeeRepository
+              .findCommittedDtoById(id)
+              .orElseThrow(
+                  () -> new ResourceNotFoundException("Employee not found with id: " + id));
+      if (!version.equals(before.getVersion())) {
+        throw new PreconditionFailedException(
+            "Employee " + id + " is at version " + before.getVersion() + ", not " + version);
+      }
+    }
+    EmployeeResponseDto.DepartmentDto newDepartment =
+        patch.getDepartment() != null ? requireDepartment(patch.getDepartment().getId()) : null;
+
+    if (employeeJdbcRepository.patch(id, before.getVersion(), patch) == 0) {
+      if (version != null) {
+        // Updated or deleted by a concurrent transaction since the version was checked
+        if (!employeeRepository.existsById(id)) {
+          throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        throw new PreconditionFailedException("Employee " + id + " was modified concurrently");
+      }
+      // Any version is accepted but the cached copy is out of date; patch the locked row instead
+      before = lockEmployee(id);
+      employeeJdbcRepository.patch(id, before.getVersion(), patch);
+    }
+
+    EmployeeResponseDto.DepartmentDto department =
+        newDepartment != null ? newDepartment : before.getDepartment();
+    EmployeeResponseDto after =
+        new EmployeeResponseDto(
+            id,
+            patch.getFirstName() != null ? patch.getFirstName() : before.getFirstName(),
+            patch.getLastName() != null ? patch.getLastName() : before.getLastName(),
+            patch.getEmail() != null ? patch.getEmail() : before.getEmail(),
+            patch.getAge() != null ? patch.getAge() : before.getAge(),
+            department.getId(),
+            department.getName(),
+            before.getVersion() + 1);
+    eventPublisher.publishEvent(EmployeeChangeEvent.of(before, after));
+    return after;
+  }
+
+  /**
+   * Apply many updates in one transaction with a single JDBC batch, publishing one change event
+   * for all of them. The employees are read under row locks first, in chunks of {@code
+   * employees.bulk-delete.chunk-size} IDs, for the events' previous states. Updates whose employee
+   * or department no longer exists cannot be applied and are skipped rather than failing the
+   * others.
+   *
+   * @param updates Updated employee details by employee ID
+   * @param superseded Tells, once the employees are locked, whether the update of an employee was
+   *     superseded by a synchronous write and must be skipped
+   * @return The number of employees updated
+   */
+  @Transactional
+  public int applyUpdates(Map<Long, EmployeeRequestDto> updates, Predicate<Long> superseded) {
+    Map<Long, EmployeeResponseDto> locked = new HashMap<>();
+    for (EmployeeResponseDto employee :
+        employeeJdbcRepository.lockAll(new ArrayList<>(updates.keySet()), deleteChunkSize)) {
+      locked.put(employee.getId(), employee);
+    }
+    List<EmployeeResponseDto> befores = new ArrayList<>(updates.size());
+    List<EmployeeResponseDto> afters = new ArrayList<>(updates.size());
+    for (Map.Entry<Long, EmployeeRequestDto> update : updates.entrySet()) {
+      Long id = update.getKey();
+      if (superseded.test(id)) {
+        continue;
+      }
+      EmployeeResponseDto before = locked.get(id);
+      Long departmentId = update.getValue().getDepartment().getId();
+      EmployeeResponseDto.DepartmentDto department =
+          departmentService.getDepartmentRef(departmentId);
+      if (before == null || department == null) {
+        log.warn("Skipping update of employee {}: employee or department no longer exists", id);
+        continue;
+      }
+      fillDepartmentName(before);
+      befores.add(before);
+      afters.add(toSnapshot(id, update.getValue(), department));
+    }
+    if (afters.isEmpty()) {
+      return 0;
+    }
+
+    int[] counts = employeeJdbcRepository.updateAll(afters);
+    List<EmployeeChangeEvent.Change> changes = new ArrayList<>(afters.size());
+    for (int i = 0; i < counts.length; i++) {
+      // Drivers may report Statement.SUCCESS_NO_INFO (negative) for batched rows
+      if (counts[i] != 0) {
+        changes.add(new EmployeeChangeEvent.Change(befores.get(i), afters.get(i)));
+      }
+    }
+    if (!changes.isEmpty()) {
+      eventPublisher.publishEvent(new EmployeeChangeEvent(changes));
+    }
+    return changes.size();
+  }
+
+  /**
+   * Save an employee entity. Prefer {@link #createEmployee} and {@link #updateEmployee}, which do
+   * not need a managed entity.
+   *
+   * @param employee Employee to be saved, with its department set
    * @return Saved employee
    */
   @Transactional
   public Employee saveEmployee(Employee employee) {
+    EmployeeResponseDto before =
+        employee.getId() != null
+            ? employeeRepository.findCommittedDtoById(employee.getId()).orElse(null)
+            : null;
+
     Employee saved = employeeRepository.save(employee);
-    entityManager.flush();
-    entityManager.clear();
-    return employeeRepository.findByIdWithDepartment(saved.getId()).orElse(saved);
+    eventPublisher.publishEvent(EmployeeChangeEvent.of(before, toSnapshot(saved)));
+    return saved;
   }
 
   /**
-   * Deletes an employee by their ID.
+   * Deletes an employee by their ID with a locking read, for the change event, and a single
+   * DELETE.
    *
    * @param id the ID of the employee to delete
+   * @throws ResourceNotFoundException if the employee does not exist
    */
+  @Transactional
   public void deleteEmployee(Long id) {
-    employeeRepository.deleteById(id);
+    List<Long> ids = List.of(id);
+    List<EmployeeResponseDto> deleted = employeeJdbcRepository.lockAll(ids, 1);
+    if (deleted.isEmpty()) {
+      throw new ResourceNotFoundException("Employee not found with id: " + id);
+    }
+    employeeJdbcRepository.deleteAll(ids, 1);
+    publishDeleted(deleted);
+  }
+
+  /**
+   * Deletes either the listed employees or every employee of a department. The affected rows are
+   * read and locked first, then removed with {@code DELETE ... WHERE id IN (...)} statements of up
+   * to {@code employees.bulk-delete.chunk-size} IDs, or a single DELETE by department, so the cost
+   * is a handful of statements rather than three per employee. One {@link EmployeeChangeEvent}
+   * carries every before image.
+   *
+   * @param request the employees to delete, by ID or by department
+   * @param discard called with the ID of each employee to be deleted once it is locked, so its
+   *     queued asynchronous update is dropped
+   * @return the number of employees deleted and the listed IDs that did not exist
+   * @throws ResourceNotFoundException if the department does not exist
+   */
+  @Transactional
+  public EmployeeDeleteResultDto deleteEmployees(
+      EmployeeDeleteRequestDto request, Consumer<Long> discard) {
+    List<EmployeeResponseDto> deleted;
+    List<Long> notFound = new ArrayList<>();
+    int count;
+    if (request.getDepartmentId() != null) {
+      requireDepartment(request.getDepartmentId());
+      deleted = employeeJdbcRepository.lockDepartmentStaff(request.getDepartmentId());
+      count =
+          deleted.isEmpty()
+              ? 0
+              : employeeJdbcRepository.deleteDepartmentStaff(request.getDepartmentId());
+    } else {
+      List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+      deleted = employeeJdbcRepository.lockAll(ids, deleteChunkSize);
+      Set<Long> found = new HashSet<>();
+      for (EmployeeResponseDto employee : deleted) {
+        found.add(employee.getId());
+      }
+      List<Long> existing = new ArrayList<>(found.size());
+      for (Long id : ids) {
+        if (found.contains(id)) {
+          existing.add(id);
+        } else {
+          notFound.add(id);
+        }
+      }
+      count = existing.isEmpty() ? 0 : employeeJdbcRepository.deleteAll(existing, deleteChunkSize);
+    }
+    for (EmployeeResponseDto employee : deleted) {
+      discard.accept(employee.getId());
+    }
+    publishDeleted(deleted);
+    return new EmployeeDeleteResultDto(count, notFound);
+  }
+
+  /**
+   * Publishes one change event for deleted employees, filling in their department names from the
+   * department cache.
+   *
+   * @param deleted the deleted employees, as read before the delete
+   */
+  private void publishDeleted(List<EmployeeResponseDto> deleted) {
+    if (deleted.isEmpty()) {
+      return;
+    }
+    List<EmployeeChangeEvent.Change> changes = new ArrayList<>(deleted.size());
+    for (EmployeeResponseDto before : deleted) {
+      fillDepartmentName(before);
+      changes.add(new EmployeeChangeEvent.Change(before, null));
+    }
+    eventPublisher.publishEvent(new EmployeeChangeEvent(changes));
+  }
+
+  /**
+   * Reads and locks an employee until the current transaction ends.
+   *
+   * @param id the employee ID
+   * @return the employee with its version and department name
+   * @throws ResourceNotFoundException if the employee does not exist
+   */
+  private EmployeeResponseDto lockEmployee(Long id) {
+    EmployeeResponseDto employee =
+        employeeJdbcRepository
+            .lockById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    fillDepartmentName(employee);
+    return employee;
+  }
+
+  /**
+   * Fills in the department name of an employee read without it, from the department cache.
+   *
+   * @param employee the employee, with its department ID set
+   */
+  private void fillDepartmentName(EmployeeResponseDto employee) {
+    EmployeeResponseDto.DepartmentDto department =
+        departmentService.getDepartmentRef(employee.getDepartment().getId());
+    employee.getDepartment().setName(department != null ? department.getName() : null);
+  }
+
+  /**
+   * Looks up a department an employee refers to.
+   *
+   * @param departmentId the department ID
+   * @return the department's ID and name, from the department cache when possible
+   * @throws ResourceNotFoundException if the department does not exist
+   */
+  private EmployeeResponseDto.DepartmentDto requireDepartment(Long departmentId) {
+    EmployeeResponseDto.DepartmentDto department = departmentService.getDepartmentRef(departmentId);
+    if (department == null) {
+      throw new ResourceNotFoundException("Department not found with id: " + departmentId);
+    }
+    return department;
+  }
+
+  /**
+   * Builds the state of an employee from a request that was just written.
+   *
+   * @param id the employee ID
+   * @param request the written details
+   * @param department the employee's department
+   * @return the snapshot
+   */
+  private static EmployeeResponseDto toSnapshot(
+      Long id, EmployeeRequestDto request, EmployeeResponseDto.DepartmentDto department) {
+    return new EmployeeResponseDto(
+        id,
+        request.getFirstName(),
+        request.getLastName(),
+        request.getEmail(),
+        request.getAge(),
+        department.getId(),
+        department.getName());
+  }
+
+  /**
+   * Captures the state of an employee entity for an {@link EmployeeChangeEvent}.
+   *
+   * @param employee the employee entity, with its department loaded
+   * @return the snapshot
+   */
+  private static EmployeeResponseDto toSnapshot(Employee employee) {
+    return new EmployeeResponseDto(
+        employee.getId(),
+        employee.getFirstName(),
+        employee.getLastName(),
+        employee.getEmail(),
+        employee.getAge(),
+        employee.getDepartment().getId(),
+        employee.getDepartment().getName());
   }
 }
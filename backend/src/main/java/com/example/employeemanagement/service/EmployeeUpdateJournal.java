@@ -0,0 +1,231 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal of accepted but not yet applied employee updates, one JSON object per line.
+ *
+ * <p>A line holds an employee ID and its new details, or only an ID when a queued update was
+ * discarded. Before a flush the journal is rotated: the current file is renamed to {@code
+ * <file>.flushing} and a new one is started, so updates accepted during the flush are never lost
+ * when the flushed ones are released. {@link #recover()} replays both files, later lines winning,
+ * and skips a line torn by a crash mid-write.
+ *
+ * <p>Instances are not thread-safe; callers serialize access.
+ */
+public class EmployeeUpdateJournal implements Closeable {
+
+  /** Logger for lines that cannot be replayed. */
+  private static final Logger log = LoggerFactory.getLogger(EmployeeUpdateJournal.class);
+
+  /** The active journal file. */
+  private final Path file;
+
+  /** The journal being flushed, until {@link #release()} deletes it. */
+  private final Path flushing;
+
+  /** Maps entries to and from JSON. */
+  private final ObjectMapper objectMapper;
+
+  /** Whether each append is forced to the storage device before it returns. */
+  private final boolean fsync;
+
+  /** The open active file, or {@code null} before {@link #recover()} and after {@link #close()}. */
+  private FileChannel channel;
+
+  /**
+   * Creates a journal; nothing is read or written until {@link #recover()}.
+   *
+   * @param file the journal file; its directory is created if needed
+   * @param objectMapper maps entries to and from JSON
+   * @param fsync whether each append is forced to the storage device, so it survives a power loss
+   *     and not only a process crash
+   */
+  public EmployeeUpdateJournal(Path file, ObjectMapper objectMapper, boolean fsync) {
+    this.file = file;
+    this.flushing = file.resolveSibling(file.getFileName() + ".flushing");
+    this.objectMapper = objectMapper;
+    this.fsync = fsync;
+  }
+
+  /**
+   * Replays the journal left by the previous run, compacts it to one line per pending update and
+   * opens it for appending.
+   *
+   * @return the pending updates by employee ID, in the order they were first accepted
+   * @throws IOException if the journal cannot be read or written
+   */
+  public Map<Long, EmployeeRequestDto> recover() throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    Map<Long, EmployeeRequestDto> pending = new LinkedHashMap<>();
+    replay(flushing, pending);
+    replay(file, pending);
+
+    // Write the compacted journal aside, then swap it in, so a crash here loses nothing
+    Path compacted = file.resolveSibling(file.getFileName() + ".tmp");
+    try (FileChannel out =
+        FileChannel.open(
+            compacted,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      for (Map.Entry<Long, EmployeeRequestDto> entry : pending.entrySet()) {
+        write(out, entry.getKey(), entry.getValue());
+      }
+      out.force(true);
+    }
+    Files.move(
+        compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    Files.deleteIfExists(flushing);
+    channel = open(file);
+    return pending;
+  }
+
+  /**
+   * Records an accepted update.
+   *
+   * @param id the employee ID
+   * @param request the new details
+   * @throws IOException if the journal cannot be written
+   */
+  public void append(Long id, EmployeeRequestDto request) throws IOException {
+    write(channel, id, request);
+    if (fsync) {
+      channel.force(false);
+    }
+  }
+
+  /**
+   * Records that the pending update of an employee was discarded.
+   *
+   * @param id the employee ID
+   * @throws IOException if the journal cannot be written
+   */
+  public void appendDiscard(Long id) throws IOException {
+    append(id, null);
+  }
+
+  /**
+   * Moves the active file aside for a flush and starts a new one. The previous flush must have
+   * been released.
+   *
+   * @throws IOException if the files cannot be moved or opened
+   */
+  public void rotate() throws IOException {
+    channel.close();
+    Files.move(file, flushing, StandardCopyOption.ATOMIC_MOVE);
+    channel = open(file);
+  }
+
+  /**
+   * Deletes the journal of a finished flush. Updates from it that must be retried have to be
+   * appended again first.
+   *
+   * @throws IOException if the file cannot be deleted
+   */
+  public void release() throws IOException {
+    Files.deleteIfExists(flushing);
+  }
+
+  /**
+   * Closes the active file; its contents are replayed by the next {@link #recover()}.
+   *
+   * @throws IOException if the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  /**
+   * Applies the lines of a journal file to the pending updates, if the file exists.
+   *
+   * @param source the journal file
+   * @param pending the pending updates, updated in place
+   * @throws IOException if the file cannot be read
+   */
+  private void replay(Path source, Map<Long, EmployeeRequestDto> pending) throws IOException {
+    if (!Files.exists(source)) {
+      return;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+      String line;
+      long lineNumber = 0;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          JsonNode node = objectMapper.readTree(line);
+          Long id = node.get("id").asLong();
+          JsonNode employee = node.get("employee");
+          if (employee == null || employee.isNull()) {
+            pending.remove(id);
+          } else {
+            // Replacing a value keeps the update in the position it was first accepted in
+            pending.put(id, objectMapper.treeToValue(employee, EmployeeRequestDto.class));
+          }
+        } catch (IOException | RuntimeException e) {
+          log.warn("Skipping unreadable line {} of {}: {}", lineNumber, source, e.getMessage());
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes one journal line.
+   *
+   * @param out the file to write to
+   * @param id the employee ID
+   * @param request the new details, or {@code null} for a discard
+   * @throws IOException if the line cannot be written
+   */
+  private void write(FileChannel out, Long id, EmployeeRequestDto request) throws IOException {
+    ObjectNode node = objectMapper.createObjectNode();
+    node.put("id", id);
+    if (request != null) {
+      node.set("employee", objectMapper.valueToTree(request));
+    }
+    byte[] line = (objectMapper.writeValueAsString(node) + "\n").getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.wrap(line);
+    while (buffer.hasRemaining()) {
+      out.write(buffer);
+    }
+  }
+
+  /**
+   * Opens a journal file for appending, creating it if needed.
+   *
+   * @param path the file
+   * @return the open channel
+   * @throws IOException if the file cannot be opened
+   */
+  private static FileChannel open(Path path) throws IOException {
+    return FileChannel.open(
+        path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+}
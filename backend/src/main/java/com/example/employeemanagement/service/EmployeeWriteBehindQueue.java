@@ -0,0 +1,340 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Accepts employee updates for asynchronous application, coalescing repeated updates of the same
+ * employee so only the last one accepted before a flush is written.
+ *
+ * <p>Every accepted update is first appended to an {@link EmployeeUpdateJournal}, so updates that
+ * were acknowledged but not yet written survive a crash and are replayed on the next startup. A
+ * background thread flushes the pending updates on a fixed interval, in transactions of up to a
+ * configurable number of employees through {@link EmployeeService#applyUpdates}, which publishes
+ * the change events that keep the caches and aggregates current. A batch that fails is queued
+ * again unless a newer update of the same employee has arrived meanwhile.
+ *
+ * <p>A synchronous write of an employee {@linkplain #discard discards} its queued update, including
+ * one that is being flushed: each discard during a flush is numbered, and the flush skips and does
+ * not requeue the updates of employees discarded after it took its batch. The check runs once the
+ * employees are locked, so a discarded update cannot overwrite the synchronous write.
+ *
+ * <p>Reads do not see a queued update until it has been flushed.
+ */
+@Service
+public class EmployeeWriteBehindQueue {
+
+  /** Logger for flush failures. */
+  private static final Logger log = LoggerFactory.getLogger(EmployeeWriteBehindQueue.class);
+
+  /** Applies flushed updates. */
+  @Autowired private EmployeeService employeeService;
+
+  /** Service layer for departments, whose cache answers department existence checks. */
+  @Autowired private DepartmentService departmentService;
+
+  /** The application's object mapper, used for the journal lines. */
+  @Autowired private ObjectMapper objectMapper;
+
+  /** Whether asynchronous updates are accepted at all. */
+  private final boolean enabled;
+
+  /** The journal file. */
+  private final Path journalFile;
+
+  /** Whether each journal append is forced to the storage device. */
+  private final boolean fsync;
+
+  /** Interval between flushes, in milliseconds. */
+  private final long flushIntervalMillis;
+
+  /** Maximum number of employees updated per transaction. */
+  private final int batchSize;
+
+  /** Runs the flushes. */
+  private final ScheduledExecutorService flusher;
+
+  /** Held for a whole flush, as the journal allows only one flush at a time. */
+  private final Object flushLock = new Object();
+
+  /** The journal of pending updates. Guarded by {@code this}. */
+  private EmployeeUpdateJournal journal;
+
+  /** Pending updates by employee ID, in the order first accepted. Guarded by {@code this}. */
+  private Map<Long, EmployeeRequestDto> pending = new LinkedHashMap<>();
+
+  /** The updates being flushed, empty between flushes. Guarded by {@code this}. */
+  private Map<Long, EmployeeRequestDto> flushing = Map.of();
+
+  /** Number of the last discard of an update being flushed. Guarded by {@code this}. */
+  private long discardSequence;
+
+  /**
+   * The number of the last discard of each employee whose update is being flushed, cleared when the
+   * flush ends. Guarded by {@code this}.
+   */
+  private final Map<Long, Long> discardedAt = new HashMap<>();
+
+  /**
+   * Creates the queue.
+   *
+   * @param enabled whether asynchronous updates are accepted
+   * @param journalFile the journal file
+   * @param fsync whether each journal append is forced to the storage device
+   * @param flushIntervalMillis interval between flushes, in milliseconds
+   * @param batchSize maximum number of employees updated per transaction
+   */
+  public EmployeeWriteBehindQueue(
+      @Value("${employees.write-behind.enabled:false}") boolean enabled,
+      @Value("${employees.write-behind.journal:data/employee-updates.journal}") String journalFile,
+      @Value("${employees.write-behind.fsync:true}") boolean fsync,
+      @Value("${employees.write-behind.flush-interval-ms:1000}") long flushIntervalMillis,
+      @Value("${employees.write-behind.batch-size:500}") int batchSize) {
+    this.enabled = enabled;
+    this.journalFile = Path.of(journalFile);
+    this.fsync = fsync;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.batchSize = batchSize;
+    this.flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("employee-write-behind-"));
+  }
+
+  /**
+   * Replays the journal left by the previous run. The recovered updates are applied by the first
+   * flush.
+   *
+   * @throws IOException if the journal cannot be read or written
+   */
+  @PostConstruct
+  public synchronized void recover() throws IOException {
+    if (!enabled) {
+      return;
+    }
+    journal = new EmployeeUpdateJournal(journalFile, objectMapper, fsync);
+    pending = journal.recover();
+    if (!pending.isEmpty()) {
+      log.info("Recovered {} pending employee updates from {}", pending.size(), journalFile);
+    }
+  }
+
+  /** Starts the periodic flushes once the application is ready. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (enabled) {
+      flusher.scheduleWithFixedDelay(
+          this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Checks whether asynchronous updates are accepted.
+   *
+   * @return {@code true} if they are
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Accepts an update for asynchronous application, replacing any pending update of the same
+   * employee. The employee and department are checked against the caches first, so updates that
+   * cannot be applied are rejected up front.
+   *
+   * @param id ID of the employee to be updated
+   * @param request Updated employee details
+   * @throws ResourceNotFoundException if the employee or the department does not exist
+   * @throws IllegalStateException if asynchronous updates are disabled
+   */
+  public void enqueue(Long id, EmployeeRequestDto request) {
+    if (!enabled) {
+      throw new IllegalStateException("Asynchronous employee updates are disabled");
+    }
+    employeeService
+        .getEmployeeDtoById(id)
+        .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    Long departmentId = request.getDepartment().getId();
+    if (departmentService.getDepartmentRef(departmentId) == null) {
+      throw new ResourceNotFoundException("Department not found with id: " + departmentId);
+    }
+
+    synchronized (this) {
+      try {
+        journal.append(id, request);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      pending.put(id, request);
+    }
+  }
+
+  /**
+   * Drops the pending update of an employee, so a synchronous write is not overwritten by an older
+   * asynchronous one. Must be called before the synchronous write commits, which must lock the
+   * employee. An update already being flushed is skipped if the flush has not locked the employee
+   * yet, and otherwise applied before the synchronous write; it is not queued again either way.
+   *
+   * @param id the employee ID
+   */
+  public synchronized void discard(Long id) {
+    if (!enabled) {
+      return;
+    }
+    boolean inFlight = flushing.containsKey(id);
+    if (inFlight) {
+      discardedAt.put(id, ++discardSequence);
+    }
+    // The journal must cancel a flushed update too, in case the flush never finishes
+    if (pending.remove(id) != null || inFlight) {
+      try {
+        journal.appendDiscard(id);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Gets the number of employees with a pending update.
+   *
+   * @return the number of pending updates
+   */
+  public synchronized int size() {
+    return pending.size();
+  }
+
+  /**
+   * Applies all pending updates. Updates accepted while this runs wait for the next flush.
+   *
+   * @return the number of employees updated
+   * @throws IOException if the journal cannot be rotated or released
+   */
+  public int flush() throws IOException {
+    synchronized (flushLock) {
+      Map<Long, EmployeeRequestDto> batch;
+      long generation;
+      synchronized (this) {
+        if (!enabled || pending.isEmpty()) {
+          return 0;
+        }
+        journal.rotate();
+        batch = pending;
+        flushing = batch;
+        generation = discardSequence;
+        pending = new LinkedHashMap<>();
+      }
+
+      List<Long> ids = new ArrayList<>(batch.keySet());
+      int updated = 0;
+      int start = 0;
+      try {
+        for (; start < ids.size(); start += batchSize) {
+          Map<Long, EmployeeRequestDto> chunk = new LinkedHashMap<>();
+          for (Long id : ids.subList(start, Math.min(ids.size(), start + batchSize))) {
+            chunk.put(id, batch.get(id));
+          }
+          updated += employeeService.applyUpdates(chunk, id -> isDiscardedSince(id, generation));
+        }
+      } finally {
+        requeue(batch, ids.subList(Math.min(start, ids.size()), ids.size()), generation);
+      }
+      return updated;
+    }
+  }
+
+  /**
+   * Checks whether the update of an employee was discarded after a flush took its batch.
+   *
+   * @param id the employee ID
+   * @param generation the discard number when the flush took its batch
+   * @return {@code true} if the update must not be applied or queued again
+   */
+  private synchronized boolean isDiscardedSince(Long id, long generation) {
+    return discardedAt.getOrDefault(id, generation) > generation;
+  }
+
+  /**
+   * Queues the updates of a flush that were not applied again, unless a newer update of the same
+   * employee is pending or the update was discarded meanwhile, then ends the flush and releases
+   * the flushed journal.
+   *
+   * @param batch the flushed updates
+   * @param failed the IDs of the updates that were not applied
+   * @param generation the discard number when the flush took its batch
+   * @throws IOException if the journal cannot be written
+   */
+  private synchronized void requeue(
+      Map<Long, EmployeeRequestDto> batch, List<Long> failed, long generation) throws IOException {
+    if (!failed.isEmpty()) {
+      Map<Long, EmployeeRequestDto> retry = new LinkedHashMap<>();
+      for (Long id : failed) {
+        if (pending.containsKey(id)) {
+          // Newer updates are already in the active journal
+          retry.put(id, pending.get(id));
+        } else if (!isDiscardedSince(id, generation)) {
+          retry.put(id, batch.get(id));
+          journal.append(id, batch.get(id));
+        }
+      }
+      retry.putAll(pending);
+      pending = retry;
+    }
+    flushing = Map.of();
+    discardedAt.clear();
+    journal.release();
+  }
+
+  /** Flushes from the background thread, logging failures so the schedule keeps running. */
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("Flushing pending employee updates failed; they will be retried", e);
+    }
+  }
+
+  /** Applies the pending updates and closes the journal on shutdown. */
+  @PreDestroy
+  public void shutdown() {
+    flusher.shutdown();
+    try {
+      flusher.awaitTermination(30, TimeUnit.SECONDS);
+      flush();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.error("Flushing pending employee updates on shutdown failed; they will be replayed", e);
+    }
+    synchronized (this) {
+      try {
+        if (journal != null) {
+          journal.close();
+        }
+      } catch (IOException e) {
+        log.warn("Closing the employee update journal failed", e);
+      }
+    }
+  }
+}
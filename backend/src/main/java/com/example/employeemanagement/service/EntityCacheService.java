@@ -0,0 +1,145 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.DepartmentResponseDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.event.DepartmentChangeEvent;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Owns the read-through caches for employees and departments and keeps them consistent with
+ * committed writes.
+ *
+ * <p>Entries are invalidated by the {@link EmployeeChangeEvent}s and {@link DepartmentChangeEvent}s
+ * published by the services, after the writing transaction commits. Every cache is also bounded in
+ * size and entries expire after a time-to-live, which limits staleness from writes made outside
+ * the application.
+ */
+@Service
+public class EntityCacheService {
+
+  /** Employee DTOs by employee ID, as returned by {@code GET /api/employees/{id}}. */
+  private final BoundedCache<Long, EmployeeResponseDto> employees;
+
+  /** Department summaries by department ID, including their employee counts. */
+  private final BoundedCache<Long, DepartmentResponseDto> departmentSummaries;
+
+  /**
+   * Department ID and name by department ID, used to resolve the department of an employee on
+   * writes. Unlike {@link #departmentSummaries}, entries survive changes to the department's
+   * employees.
+   */
+  private final BoundedCache<Long, EmployeeResponseDto.DepartmentDto> departments;
+
+  /**
+   * Creates the caches.
+   *
+   * @param employeesMaximumSize the maximum number of cached employees
+   * @param employeesTtlSeconds how long a cached employee stays valid
+   * @param departmentsMaximumSize the maximum number of cached departments, per cache
+   * @param departmentsTtlSeconds how long a cached department stays valid
+   */
+  public EntityCacheService(
+      @Value("${cache.employees.maximum-size:10000}") int employeesMaximumSize,
+      @Value("${cache.employees.ttl-seconds:300}") long employeesTtlSeconds,
+      @Value("${cache.departments.maximum-size:1000}") int departmentsMaximumSize,
+      @Value("${cache.departments.ttl-seconds:300}") long departmentsTtlSeconds) {
+    this.employees =
+        new BoundedCache<>(
+            "employees", employeesMaximumSize, Duration.ofSeconds(employeesTtlSeconds));
+    this.departmentSummaries =
+        new BoundedCache<>(
+            "departmentSummaries",
+            departmentsMaximumSize,
+            Duration.ofSeconds(departmentsTtlSeconds));
+    this.departments =
+        new BoundedCache<>(
+            "departments", departmentsMaximumSize, Duration.ofSeconds(departmentsTtlSeconds));
+  }
+
+  /**
+   * Gets the employee cache.
+   *
+   * @return employee DTOs by employee ID
+   */
+  public BoundedCache<Long, EmployeeResponseDto> employees() {
+    return employees;
+  }
+
+  /**
+   * Gets the department summary cache.
+   *
+   * @return department summaries by department ID
+   */
+  public BoundedCache<Long, DepartmentResponseDto> departmentSummaries() {
+    return departmentSummaries;
+  }
+
+  /**
+   * Gets the department reference cache.
+   *
+   * @return department ID and name by department ID
+   */
+  public BoundedCache<Long, EmployeeResponseDto.DepartmentDto> departments() {
+    return departments;
+  }
+
+  /**
+   * Reports the counters of every cache.
+   *
+   * @return the statistics of each cache, keyed by cache name
+   */
+  public Map<String, Map<String, Object>> stats() {
+    Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+    for (BoundedCache<?, ?> cache : List.of(employees, departmentSummaries, departments)) {
+      stats.put(cache.getName(), cache.stats());
+    }
+    return stats;
+  }
+
+  /**
+   * Evicts the changed employees, and the summaries of the departments they left or joined.
+   *
+   * @param event the committed changes
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEmployeeChange(EmployeeChangeEvent event) {
+    for (EmployeeChangeEvent.Change change : event.getChanges()) {
+      employees.invalidate(change.getId());
+      evictSummary(change.getBefore());
+      evictSummary(change.getAfter());
+    }
+  }
+
+  /**
+   * Evicts the changed departments. Every cached employee embeds its department's name, so the
+   * employee cache is cleared as well; department writes are rare enough for this to be cheap.
+   *
+   * @param event the committed changes
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDepartmentChange(DepartmentChangeEvent event) {
+    for (DepartmentChangeEvent.Change change : event.getChanges()) {
+      departments.invalidate(change.getId());
+      departmentSummaries.invalidate(change.getId());
+    }
+    employees.invalidateAll();
+  }
+
+  /**
+   * Evicts the summary of an employee's department.
+   *
+   * @param employee the employee state, or {@code null}
+   */
+  private void evictSummary(EmployeeResponseDto employee) {
+    if (employee != null && employee.getDepartment() != null) {
+      departmentSummaries.invalidate(employee.getDepartment().getId());
+    }
+  }
+}
@@ -0,0 +1,348 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.exception.IdempotencyException;
+import com.example.employeemanagement.model.IdempotencyRecord;
+import com.example.employeemanagement.repository.IdempotencyJdbcRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Makes POST requests safe to retry by honoring the {@code Idempotency-Key} header.
+ *
+ * <p>The first request with a key runs normally and its response is recorded; later requests with
+ * the same key and body get the recorded response back, marked with {@code Idempotent-Replayed:
+ * true}, without running again. A duplicate that arrives while the first request is still running
+ * waits for it instead of running in parallel. Reusing a key with a different body is rejected with
+ * {@code 422}. Failed requests are not recorded, so they can be retried with the same key.
+ *
+ * <p>Responses are kept in a bounded in-memory cache. With {@code idempotency.persistent=true},
+ * they are also stored in the {@code idempotency_keys} table, in the same transaction as the
+ * request's own writes, so several instances share them: the key's row is inserted before the
+ * request runs, which makes a concurrent duplicate on another instance wait on the row lock and
+ * then replay the committed response.
+ */
+@Service
+public class IdempotencyService {
+
+  /** The request header carrying the client's key. */
+  public static final String HEADER = "Idempotency-Key";
+
+  /** The response header marking a replayed response. */
+  private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  /** Longest accepted key, leaving room for the endpoint in the 255-character column. */
+  private static final int MAX_KEY_LENGTH = 200;
+
+  /** The application's object mapper, used to fingerprint requests and record responses. */
+  @Autowired private ObjectMapper objectMapper;
+
+  /** Plain JDBC access to the persisted records. */
+  @Autowired private IdempotencyJdbcRepository idempotencyJdbcRepository;
+
+  /** Runs persisted requests in one transaction with their idempotency record. */
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  /** Whether records are persisted so several instances share them. */
+  private final boolean persistent;
+
+  /** How long a record is honored. */
+  private final Duration ttl;
+
+  /** How long a duplicate waits for the request it duplicates, in milliseconds. */
+  private final long waitTimeoutMillis;
+
+  /** Recorded responses by endpoint and key. */
+  private final BoundedCache<String, IdempotencyRecord> records;
+
+  /** Requests running on this instance, by endpoint and key. */
+  private final Map<String, CompletableFuture<IdempotencyRecord>> inFlight =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Creates the service.
+   *
+   * @param maximumSize the maximum number of responses kept in memory
+   * @param ttlSeconds how long a response is honored
+   * @param waitTimeoutSeconds how long a duplicate waits for the request it duplicates
+   * @param persistent whether responses are also stored in the database
+   */
+  public IdempotencyService(
+      @Value("${idempotency.maximum-size:10000}") int maximumSize,
+      @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+      @Value("${idempotency.wait-timeout-seconds:30}") long waitTimeoutSeconds,
+      @Value("${idempotency.persistent:false}") boolean persistent) {
+    this.persistent = persistent;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+    this.waitTimeoutMillis = TimeUnit.SECONDS.toMillis(waitTimeoutSeconds);
+    this.records = new BoundedCache<>("idempotency", maximumSize, ttl);
+  }
+
+  /**
+   * Runs a request at most once per key.
+   *
+   * @param endpoint the method and path the key is scoped to
+   * @param key the client's key, or {@code null} to run the request unconditionally
+   * @param request the request body, whose fingerprint must match on replay
+   * @param action runs the request; its body must be serializable to JSON
+   * @return the response, either fresh or replayed
+   * @throws IdempotencyException if the key is invalid, was used with a different body, or its
+   *     request is still running after the wait timeout
+   */
+  public ResponseEntity<?> execute(
+      String endpoint, String key, Object request, Supplier<ResponseEntity<?>> action) {
+    if (key == null) {
+      return action.get();
+    }
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new IdempotencyException(
+          HttpStatus.BAD_REQUEST, HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+    }
+    String id = endpoint + " " + key;
+    String fingerprint = fingerprint(request);
+
+    IdempotencyRecord recorded = records.getIfPresent(id);
+    if (recorded != null) {
+      return replay(recorded, fingerprint);
+    }
+
+    CompletableFuture<IdempotencyRecord> execution = new CompletableFuture<>();
+    CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(id, execution);
+    if (running != null) {
+      return replay(await(running), fingerprint);
+    }
+    try {
+      // The request may have completed between the cache check and claiming it
+      recorded = records.getIfPresent(id);
+      if (recorded == null && persistent) {
+        recorded = findPersisted(id);
+      }
+      boolean replayed = recorded != null;
+      if (!replayed) {
+        recorded =
+            persistent ? runPersisted(id, fingerprint, action) : run(id, fingerprint, action);
+      }
+      if (recorded == null) {
+        // Another instance committed the same key while this one waited on its lock
+        replayed = true;
+        recorded = findPersisted(id);
+        if (recorded == null) {
+          throw new IdempotencyException(
+              HttpStatus.CONFLICT, "A request with this " + HEADER + " is still in progress");
+        }
+      }
+      records.put(id, recorded);
+      execution.complete(recorded);
+      return replayed ? replay(recorded, fingerprint) : toResponse(recorded, false);
+    } catch (RuntimeException e) {
+      execution.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(id, execution);
+    }
+  }
+
+  /**
+   * Reports the in-memory cache's counters.
+   *
+   * @return the statistics, keyed by name
+   */
+  public Map<String, Object> stats() {
+    return records.stats();
+  }
+
+  /**
+   * Gets the in-memory cache's name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return records.getName();
+  }
+
+  /**
+   * Runs a request and records its response in memory only.
+   *
+   * @param id the endpoint and key
+   * @param fingerprint the request's fingerprint
+   * @param action runs the request
+   * @return the new record
+   */
+  private IdempotencyRecord run(
+      String id, String fingerprint, Supplier<ResponseEntity<?>> action) {
+    return toRecord(id, fingerprint, action.get(), Instant.now());
+  }
+
+  /**
+   * Finds the persisted record of a key that has not expired.
+   *
+   * @param id the endpoint and key
+   * @return the record, or {@code null} if there is none
+   */
+  private IdempotencyRecord findPersisted(String id) {
+    return idempotencyJdbcRepository.find(id, Instant.now().minus(ttl)).orElse(null);
+  }
+
+  /**
+   * Runs a request in one transaction with its persisted record.
+   *
+   * @param id the endpoint and key
+   * @param fingerprint the request's fingerprint
+   * @param action runs the request
+   * @return the new record, or {@code null} if another instance committed the same key first
+   */
+  private IdempotencyRecord runPersisted(
+      String id, String fingerprint, Supplier<ResponseEntity<?>> action) {
+    Instant now = Instant.now();
+    return transactionTemplate.execute(
+        status -> {
+          idempotencyJdbcRepository.deleteExpired(id, now.minus(ttl));
+          try {
+            idempotencyJdbcRepository.insertPending(id, fingerprint, now);
+          } catch (DuplicateKeyException e) {
+            status.setRollbackOnly();
+            return null;
+          }
+          IdempotencyRecord record = toRecord(id, fingerprint, action.get(), now);
+          idempotencyJdbcRepository.complete(record);
+          return record;
+        });
+  }
+
+  /**
+   * Waits for a request running on this instance.
+   *
+   * @param running the running request
+   * @return its record
+   * @throws IdempotencyException if it is still running after the wait timeout
+   */
+  private IdempotencyRecord await(CompletableFuture<IdempotencyRecord> running) {
+    try {
+      return running.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      throw new IdempotencyException(
+          HttpStatus.CONFLICT, "A request with this " + HEADER + " is still in progress");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } catch (ExecutionException e) {
+      // The duplicated request failed; fail the same way, so the client retries both alike
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Builds the response for a duplicate request.
+   *
+   * @param record the recorded response
+   * @param fingerprint the duplicate's fingerprint
+   * @return the recorded response, marked as replayed
+   * @throws IdempotencyException if the duplicate has a different body
+   */
+  private static ResponseEntity<?> replay(IdempotencyRecord record, String fingerprint) {
+    if (!record.getFingerprint().equals(fingerprint)) {
+      throw new IdempotencyException(
+          HttpStatus.UNPROCESSABLE_ENTITY,
+          "This " + HEADER + " was already used with a different request body");
+    }
+    return toResponse(record, true);
+  }
+
+  /**
+   * Builds a response from a record.
+   *
+   * @param record the recorded response
+   * @param replayed whether the response is a replay
+   * @return the response with its JSON body
+   */
+  private static ResponseEntity<?> toResponse(IdempotencyRecord record, boolean replayed) {
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.status(record.getStatus()).contentType(MediaType.APPLICATION_JSON);
+    if (record.getLocation() != null) {
+      response.location(URI.create(record.getLocation()));
+    }
+    if (replayed) {
+      response.header(REPLAYED_HEADER, "true");
+    }
+    return response.body(record.getBody());
+  }
+
+  /**
+   * Records a response.
+   *
+   * @param id the endpoint and key
+   * @param fingerprint the request's fingerprint
+   * @param response the response
+   * @param createdAt when the request was received
+   * @return the record
+   */
+  private IdempotencyRecord toRecord(
+      String id, String fingerprint, ResponseEntity<?> response, Instant createdAt) {
+    String location = response.getHeaders().getFirst(HttpHeaders.LOCATION);
+    return new IdempotencyRecord(
+        id,
+        fingerprint,
+        response.getStatusCodeValue(),
+        location,
+        toJson(response.getBody()),
+        createdAt);
+  }
+
+  /**
+   * Computes the fingerprint of a request body.
+   *
+   * @param request the request body
+   * @return the SHA-256 of its JSON, as hex
+   */
+  private String fingerprint(Object request) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(toJson(request));
+      StringBuilder hex = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform implements SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Serializes a value to JSON.
+   *
+   * @param value the value
+   * @return the UTF-8 JSON bytes
+   */
+  private byte[] toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
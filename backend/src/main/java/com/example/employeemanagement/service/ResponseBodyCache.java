@@ -0,0 +1,157 @@
+package com.example.employeemanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caches serialized JSON response bodies, together with a gzip-compressed copy, so repeated reads
+ * of the same data are answered without serializing or compressing anything.
+ *
+ * <p>Callers include the data version in the key, so entries for older data are never hit again
+ * and simply age out. The cache is bounded by the number of bytes it holds.
+ */
+@Service
+public class ResponseBodyCache {
+
+  /** Bodies smaller than this are not worth compressing and are only kept as plain JSON. */
+  private static final int MIN_GZIP_BYTES = 1024;
+
+  /** The application's object mapper, so cached bodies match what Spring MVC would write. */
+  @Autowired private ObjectMapper objectMapper;
+
+  /** Serialized bodies by caller-defined key, weighed by their size in bytes. */
+  private final BoundedCache<String, CachedBody> bodies;
+
+  /**
+   * Creates the cache.
+   *
+   * @param maximumBytes the maximum number of bytes held, counting both encodings of each body
+   * @param ttlSeconds how long a body stays valid after it was stored
+   */
+  public ResponseBodyCache(
+      @Value("${cache.responses.maximum-bytes:33554432}") long maximumBytes,
+      @Value("${cache.responses.ttl-seconds:300}") long ttlSeconds) {
+    this.bodies =
+        new BoundedCache<>(
+            "responses", maximumBytes, Duration.ofSeconds(ttlSeconds), CachedBody::size);
+  }
+
+  /**
+   * Returns the cached body for {@code key}, serializing and compressing it on a miss.
+   *
+   * @param key the cache key, which must identify both the data version and the request
+   * @param body supplies the value to serialize on a miss
+   * @return the serialized body
+   */
+  public CachedBody get(String key, Supplier<?> body) {
+    return bodies.get(key, ignored -> serialize(body.get()));
+  }
+
+  /**
+   * Reports the cache's counters; the weights are in bytes.
+   *
+   * @return the statistics, keyed by name
+   */
+  public Map<String, Object> stats() {
+    return bodies.stats();
+  }
+
+  /**
+   * Gets the cache name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return bodies.getName();
+  }
+
+  /**
+   * Serializes a value to JSON and compresses it if it is large enough.
+   *
+   * @param value the value
+   * @return the serialized body
+   */
+  private CachedBody serialize(Object value) {
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(value);
+      return new CachedBody(json, json.length >= MIN_GZIP_BYTES ? gzip(json) : null);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Compresses bytes with gzip.
+   *
+   * @param bytes the bytes to compress
+   * @return the compressed bytes
+   */
+  private static byte[] gzip(byte[] bytes) {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+    try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+      out.write(bytes);
+    } catch (IOException e) {
+      // Writing to an in-memory stream cannot fail
+      throw new UncheckedIOException(e);
+    }
+    return compressed.toByteArray();
+  }
+
+  /** A serialized response body in plain and, for larger bodies, gzip-compressed form. */
+  public static final class CachedBody {
+
+    /** The body as UTF-8 JSON. */
+    private final byte[] json;
+
+    /** The body compressed with gzip, or {@code null} if it was too small to compress. */
+    private final byte[] gzip;
+
+    /**
+     * Creates a cached body.
+     *
+     * @param json the body as UTF-8 JSON
+     * @param gzip the compressed body, or {@code null}
+     */
+    private CachedBody(byte[] json, byte[] gzip) {
+      this.json = json;
+      this.gzip = gzip;
+    }
+
+    /**
+     * Gets the body as UTF-8 JSON. The array is shared and must not be modified.
+     *
+     * @return the JSON bytes
+     */
+    public byte[] getJson() {
+      return json;
+    }
+
+    /**
+     * Gets the gzip-compressed body. The array is shared and must not be modified.
+     *
+     * @return the compressed bytes, or {@code null} if the body was too small to compress
+     */
+    public byte[] getGzip() {
+      return gzip;
+    }
+
+    /**
+     * Gets the number of bytes held for this body.
+     *
+     * @return the combined size of both encodings
+     */
+    private long size() {
+      return json.length + (gzip != null ? gzip.length : 0);
+    }
+  }
+}
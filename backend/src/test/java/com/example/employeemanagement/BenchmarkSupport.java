@@ -0,0 +1,118 @@
+package com.example.employeemanagement;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Minimal timing harness shared by the opt-in benchmark tests.
+ *
+ * <p>Benchmarks are skipped unless the JVM is started with {@code -Dbenchmark=true}, e.g. {@code
+ * mvn test -Dbenchmark=true -Dtest='*Benchmark'}. Each one logs a line per measured variant so the
+ * before/after numbers can be compared directly.
+ */
+final class BenchmarkSupport {
+
+  /** Logger for the measurements. */
+  private static final Logger log = LoggerFactory.getLogger(BenchmarkSupport.class);
+
+  /** Per-thread allocation counter, available on HotSpot-based JVMs. */
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  /** Not instantiable. */
+  private BenchmarkSupport() {}
+
+  /**
+   * Reads an integer benchmark parameter from a system property.
+   *
+   * @param name the system property name
+   * @param defaultValue the value used when the property is absent
+   * @return the configured value
+   */
+  static int intProperty(String name, int defaultValue) {
+    return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+  }
+
+  /**
+   * Bulk-loads departments and employees through JDBC batches, spreading employees round-robin.
+   *
+   * @param jdbcTemplate the JDBC template of the test context
+   * @param departments the number of departments to create
+   * @param employees the number of employees to create
+   * @return the IDs of the created departments
+   */
+  static long[] seed(JdbcTemplate jdbcTemplate, int departments, int employees) {
+    long[] departmentIds = new long[departments];
+    for (int d = 0; d < departments; d++) {
+      jdbcTemplate.update("INSERT INTO departments (name) VALUES (?)", "Department " + d);
+      departmentIds[d] =
+          jdbcTemplate.queryForObject(
+              "SELECT id FROM departments WHERE name = ?", Long.class, "Department " + d);
+    }
+
+    int batchSize = 10_000;
+    for (int start = 0; start < employees; start += batchSize) {
+      int end = Math.min(employees, start + batchSize);
+      List<Object[]> rows = new ArrayList<>(end - start);
+      for (int i = start; i < end; i++) {
+        rows.add(
+            new Object[] {
+              "First" + (i % 5_000),
+              "Last" + (i % 20_000),
+              "employee" + i + "@example.com",
+              18 + (i % 48),
+              departmentIds[i % departments]
+            });
+      }
+      jdbcTemplate.batchUpdate(
+          "INSERT INTO employees (first_name, last_name, email, age, department_id) "
+              + "VALUES (?, ?, ?, ?, ?)",
+          rows);
+    }
+    return departmentIds;
+  }
+
+  /**
+   * Runs {@code task} after a warm-up and logs latency and allocation per invocation.
+   *
+   * @param label the name logged for this variant
+   * @param warmups the number of unmeasured warm-up invocations
+   * @param iterations the number of measured invocations
+   * @param task the work to measure; its result is consumed so it cannot be optimized away
+   * @return the median latency in nanoseconds
+   */
+  static long measure(String label, int warmups, int iterations, Supplier<?> task) {
+    long sink = 0;
+    for (int i = 0; i < warmups; i++) {
+      sink += System.identityHashCode(task.get());
+    }
+
+    long[] nanos = new long[iterations];
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      sink += System.identityHashCode(task.get());
+      nanos[i] = System.nanoTime() - start;
+    }
+    long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    Arrays.sort(nanos);
+    long median = nanos[iterations / 2];
+    log.info(
+        String.format(
+            "[benchmark] %-40s median %10.3f ms  p90 %10.3f ms  alloc %,14d B/op  (sink %d)",
+            label,
+            median / 1e6,
+            nanos[(int) (iterations * 0.9)] / 1e6,
+            allocated / iterations,
+            sink & 1));
+    return median;
+  }
+}
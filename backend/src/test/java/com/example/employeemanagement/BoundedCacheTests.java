@@ -0,0 +1,91 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.service.BoundedCache;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/** This class implements tests for the bounded read-through cache. */
+public class BoundedCacheTests {
+
+  /** A second lookup must be served from the cache without calling the loader. */
+  @Test
+  void shouldLoadOnceAndThenHit() {
+    BoundedCache<Long, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1));
+    AtomicInteger loads = new AtomicInteger();
+
+    assertThat(cache.get(1L, key -> "value" + loads.incrementAndGet())).isEqualTo("value1");
+    assertThat(cache.get(1L, key -> "value" + loads.incrementAndGet())).isEqualTo("value1");
+
+    assertThat(loads).hasValue(1);
+    assertThat(cache.stats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+  }
+
+  /** Beyond the maximum size, the least recently used entry must be evicted. */
+  @Test
+  void shouldEvictLeastRecentlyUsed() {
+    BoundedCache<Long, String> cache = new BoundedCache<>("test", 2, Duration.ofMinutes(1));
+    cache.put(1L, "one");
+    cache.put(2L, "two");
+    cache.getIfPresent(1L);
+    cache.put(3L, "three");
+
+    assertThat(cache.getIfPresent(1L)).isEqualTo("one");
+    assertThat(cache.getIfPresent(2L)).isNull();
+    assertThat(cache.getIfPresent(3L)).isEqualTo("three");
+    assertThat(cache.stats()).containsEntry("evictions", 1L);
+  }
+
+  /** A weighted cache must evict until its total weight fits and reject oversized values. */
+  @Test
+  void shouldEvictByWeight() {
+    BoundedCache<String, byte[]> cache =
+        new BoundedCache<>("test", 100, Duration.ofMinutes(1), value -> value.length);
+    cache.put("a", new byte[60]);
+    cache.put("b", new byte[30]);
+    cache.put("c", new byte[30]);
+    cache.put("d", new byte[200]);
+
+    assertThat(cache.getIfPresent("a")).isNull();
+    assertThat(cache.getIfPresent("d")).isNull();
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.weight()).isEqualTo(60);
+  }
+
+  /** Expired entries must not be returned. */
+  @Test
+  void shouldExpireEntries() {
+    BoundedCache<Long, String> cache = new BoundedCache<>("test", 10, Duration.ZERO);
+    cache.put(1L, "one");
+
+    assertThat(cache.getIfPresent(1L)).isNull();
+  }
+
+  /** Missing values must not be cached, so a later insert becomes visible immediately. */
+  @Test
+  void shouldNotCacheMissingValues() {
+    BoundedCache<Long, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1));
+
+    assertThat(cache.get(1L, key -> null)).isNull();
+    assertThat(cache.get(1L, key -> "one")).isEqualTo("one");
+  }
+
+  /** A value loaded while an invalidation happens must not be stored. */
+  @Test
+  void shouldNotStoreValueLoadedAcrossInvalidation() {
+    BoundedCache<Long, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1));
+
+    String loaded =
+        cache.get(
+            1L,
+            key -> {
+              cache.invalidate(key);
+              return "stale";
+            });
+
+    assertThat(loaded).isEqualTo("stale");
+    assertThat(cache.getIfPresent(1L)).isNull();
+  }
+}
@@ -0,0 +1,134 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.model.User;
+import com.example.employeemanagement.repository.UserRepository;
+import com.example.employeemanagement.security.CalibratedBCryptPasswordEncoder;
+import com.example.employeemanagement.security.CustomUserDetailsService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+
+/** This class implements tests for BCrypt strength calibration and rehashing on login. */
+@DataJpaTest
+@Import(CustomUserDetailsService.class)
+public class CalibratedBCryptPasswordEncoderTests {
+
+  /** The user repository. */
+  @Autowired private UserRepository userRepository;
+
+  /** The user details service, which stores re-encoded passwords. */
+  @Autowired private CustomUserDetailsService userDetailsService;
+
+  /** Calibration must pick the highest strength that fits the budget, within the bounds. */
+  @Test
+  void shouldChooseHighestStrengthWithinBudget() {
+    // Strength 4 takes 1 ms and each step doubles it, so strength 10 takes 64 ms
+    long budget = TimeUnit.MILLISECONDS.toNanos(100);
+
+    assertThat(CalibratedBCryptPasswordEncoder.chooseStrength(budget, 4, 31, this::simulated))
+        .isEqualTo(10);
+    assertThat(CalibratedBCryptPasswordEncoder.chooseStrength(budget, 4, 8, this::simulated))
+        .isEqualTo(8);
+    assertThat(CalibratedBCryptPasswordEncoder.chooseStrength(budget, 12, 31, this::simulated))
+        .isEqualTo(12);
+  }
+
+  /** A floor below the library default must let calibration lower the cost on a slow machine. */
+  @Test
+  void shouldChooseBelowDefaultWithLowerFloor() {
+    // Strength 8 takes 16 ms and strength 9 takes 32 ms
+    long budget = TimeUnit.MILLISECONDS.toNanos(20);
+
+    assertThat(CalibratedBCryptPasswordEncoder.chooseStrength(budget, 6, 14, this::simulated))
+        .isEqualTo(8);
+    assertThat(CalibratedBCryptPasswordEncoder.chooseStrength(budget, 10, 14, this::simulated))
+        .isEqualTo(10);
+    assertThatThrownBy(
+            () -> CalibratedBCryptPasswordEncoder.chooseStrength(budget, 3, 14, this::simulated))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> CalibratedBCryptPasswordEncoder.chooseStrength(budget, 12, 10, this::simulated))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /** Weaker hashes must be re-encoded; stronger hashes and non-BCrypt values left alone. */
+  @Test
+  void shouldUpgradeOnlyWeakerHashes() {
+    CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+    assertThat(encoder.upgradeEncoding(new CalibratedBCryptPasswordEncoder(4).encode("pw")))
+        .isTrue();
+    assertThat(encoder.upgradeEncoding(new CalibratedBCryptPasswordEncoder(6).encode("pw")))
+        .isFalse();
+    assertThat(encoder.upgradeEncoding(encoder.encode("pw"))).isFalse();
+    assertThat(encoder.upgradeEncoding("plain")).isFalse();
+    assertThat(encoder.upgradeEncoding(null)).isFalse();
+  }
+
+  /** A successful login must rewrite a weaker hash with the current strength. */
+  @Test
+  void shouldRehashWeakerHashOnSuccessfulLogin() {
+    saveUser("ada", new CalibratedBCryptPasswordEncoder(4).encode("secret"));
+
+    login("ada", 5);
+
+    String rehashed = userRepository.findByUsername("ada").get().getPassword();
+    assertThat(rehashed).startsWith("$2a$05$");
+    assertThat(new CalibratedBCryptPasswordEncoder(5).matches("secret", rehashed)).isTrue();
+  }
+
+  /** A successful login must never lower the strength of a stored hash. */
+  @Test
+  void shouldKeepStrongerHashOnSuccessfulLogin() {
+    String stored = new CalibratedBCryptPasswordEncoder(6).encode("secret");
+    saveUser("grace", stored);
+
+    login("grace", 4);
+
+    assertThat(userRepository.findByUsername("grace").get().getPassword()).isEqualTo(stored);
+  }
+
+  /**
+   * Saves a user.
+   *
+   * @param username the username
+   * @param hash the stored password hash
+   */
+  private void saveUser(String username, String hash) {
+    User user = new User();
+    user.setUsername(username);
+    user.setPassword(hash);
+    userRepository.save(user);
+  }
+
+  /**
+   * Logs in through an authentication provider that stores re-encoded passwords.
+   *
+   * @param username the username
+   * @param strength the strength of the provider's encoder
+   */
+  private void login(String username, int strength) {
+    DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+    provider.setUserDetailsService(userDetailsService);
+    provider.setPasswordEncoder(new CalibratedBCryptPasswordEncoder(strength));
+    provider.setUserDetailsPasswordService(userDetailsService);
+    provider.authenticate(new UsernamePasswordAuthenticationToken(username, "secret"));
+  }
+
+  /**
+   * Simulates BCrypt timing: 1 ms at strength 4, doubling per step.
+   *
+   * @param strength the strength
+   * @return the simulated hash time in nanoseconds
+   */
+  private long simulated(int strength) {
+    return TimeUnit.MILLISECONDS.toNanos(1L << (strength - 4));
+  }
+}
@@ -0,0 +1,37 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.service.CsvRecordReader;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+/** This class implements tests for the streaming CSV reader used by employee imports. */
+public class CsvRecordReaderTests {
+
+  /** Quoted fields may contain separators, doubled quotes and line breaks. */
+  @Test
+  void shouldParseQuotedFields() throws IOException {
+    CsvRecordReader reader =
+        new CsvRecordReader(
+            new StringReader("a,b,c\r\n\"x,1\",\"say \"\"hi\"\"\",\"two\nlines\"\nlast,,\rend"));
+
+    assertThat(reader.next()).containsExactly("a", "b", "c");
+    assertThat(reader.next()).containsExactly("x,1", "say \"hi\"", "two\nlines");
+    assertThat(reader.getRecordLine()).isEqualTo(2);
+    assertThat(reader.next()).containsExactly("last", "", "");
+    assertThat(reader.getRecordLine()).isEqualTo(4);
+    assertThat(reader.next()).containsExactly("end");
+    assertThat(reader.next()).isNull();
+  }
+
+  /** A file ending inside a quoted field must be rejected. */
+  @Test
+  void shouldRejectUnterminatedQuote() {
+    CsvRecordReader reader = new CsvRecordReader(new StringReader("\"open,field"));
+
+    assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+  }
+}
@@ -0,0 +1,163 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.dto.DashboardStatsDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.event.DepartmentChangeEvent;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.DashboardStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+/** This class implements tests for the incrementally maintained dashboard statistics. */
+@DataJpaTest
+@Transactional
+@Import(DashboardStatsService.class)
+public class DashboardStatsTests {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The statistics service under test. */
+  @Autowired private DashboardStatsService dashboardStatsService;
+
+  /** The IT department. */
+  private Department it;
+
+  /** The HR department. */
+  private Department hr;
+
+  /** Set up two departments and three employees, then load the aggregate. */
+  @BeforeEach
+  void setUp() {
+    it = new Department();
+    it.setName("IT");
+    it = departmentRepository.save(it);
+
+    hr = new Department();
+    hr.setName("HR");
+    hr = departmentRepository.save(hr);
+
+    saveEmployee("John", 25, it);
+    saveEmployee("Jane", 35, it);
+    saveEmployee("Jack", 45, hr);
+
+    dashboardStatsService.reload();
+  }
+
+  /** The aggregation query must produce the same figures the dashboard used to compute. */
+  @Test
+  void shouldLoadAggregateFromDatabase() {
+    DashboardStatsDto stats = dashboardStatsService.getStats();
+
+    assertThat(stats.getEmployeeCount()).isEqualTo(3);
+    assertThat(stats.getDepartmentCount()).isEqualTo(2);
+    assertThat(stats.getAverageAge()).isEqualTo(35.0);
+    assertThat(stats.getAgeRanges()).containsEntry("20-29", 1L).containsEntry("40-49", 1L);
+    assertThat(stats.getTopDepartments().get(0).getName()).isEqualTo("IT");
+    assertThat(stats.getTopDepartments().get(0).getEmployeeCount()).isEqualTo(2);
+  }
+
+  /** Incremental changes must leave the aggregate equal to a fresh reload. */
+  @Test
+  void shouldApplyChangesIncrementally() {
+    Employee jill = saveEmployee("Jill", 55, hr);
+    dashboardStatsService.onEmployeeChange(EmployeeChangeEvent.of(null, snapshot(jill)));
+
+    EmployeeResponseDto before = snapshot(jill);
+    jill.setDepartment(it);
+    jill.setAge(30);
+    jill = employeeRepository.save(jill);
+    dashboardStatsService.onEmployeeChange(EmployeeChangeEvent.of(before, snapshot(jill)));
+
+    Department ops = new Department();
+    ops.setName("Ops");
+    ops = departmentRepository.save(ops);
+    dashboardStatsService.onDepartmentChange(DepartmentChangeEvent.saved(ops.getId(), "Ops"));
+
+    hr.setName("People");
+    departmentRepository.save(hr);
+    dashboardStatsService.onDepartmentChange(DepartmentChangeEvent.saved(hr.getId(), "People"));
+
+    DashboardStatsDto incremental = dashboardStatsService.getStats();
+    dashboardStatsService.reload();
+    DashboardStatsDto reloaded = dashboardStatsService.getStats();
+
+    assertThat(incremental).isEqualTo(reloaded);
+    assertThat(incremental.getEmployeeCount()).isEqualTo(4);
+    assertThat(incremental.getDepartmentCount()).isEqualTo(3);
+    assertThat(incremental.getRecentEmployees())
+        .extracting(EmployeeResponseDto::getFirstName)
+        .containsExactly("Jill", "Jack", "Jane", "John");
+    assertThat(incremental.getRecentEmployees().get(1).getDepartment().getName())
+        .isEqualTo("People");
+  }
+
+  /** Deleting a recent employee must bring the next older one back into the list. */
+  @Test
+  void shouldRefillRecentEmployeesAfterDelete() {
+    Employee jill = saveEmployee("Jill", 55, hr);
+    dashboardStatsService.onEmployeeChange(EmployeeChangeEvent.of(null, snapshot(jill)));
+    Employee joe = saveEmployee("Joe", 28, it);
+    dashboardStatsService.onEmployeeChange(EmployeeChangeEvent.of(null, snapshot(joe)));
+    assertThat(dashboardStatsService.getStats().getRecentEmployees())
+        .extracting(EmployeeResponseDto::getFirstName)
+        .containsExactly("Joe", "Jill", "Jack", "Jane");
+
+    EmployeeResponseDto before = snapshot(joe);
+    employeeRepository.delete(joe);
+    employeeRepository.flush();
+    dashboardStatsService.onEmployeeChange(EmployeeChangeEvent.of(before, null));
+
+    assertThat(dashboardStatsService.getStats().getRecentEmployees())
+        .extracting(EmployeeResponseDto::getFirstName)
+        .containsExactly("Jill", "Jack", "Jane", "John");
+  }
+
+  /**
+   * Saves an employee.
+   *
+   * @param firstName the first name
+   * @param age the age
+   * @param department the department
+   * @return the saved employee
+   */
+  private Employee saveEmployee(String firstName, int age, Department department) {
+    Employee employee = new Employee();
+    employee.setFirstName(firstName);
+    employee.setLastName("Doe");
+    employee.setEmail(firstName.toLowerCase() + "@example.com");
+    employee.setAge(age);
+    employee.setDepartment(department);
+    return employeeRepository.save(employee);
+  }
+
+  /**
+   * Captures an employee as an event snapshot.
+   *
+   * @param employee the employee
+   * @return the snapshot
+   */
+  private static EmployeeResponseDto snapshot(Employee employee) {
+    return new EmployeeResponseDto(
+        employee.getId(),
+        employee.getFirstName(),
+        employee.getLastName(),
+        employee.getEmail(),
+        employee.getAge(),
+        employee.getDepartment().getId(),
+        employee.getDepartment().getName());
+  }
+}
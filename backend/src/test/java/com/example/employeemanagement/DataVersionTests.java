@@ -0,0 +1,43 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.service.DataVersionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/** This class implements tests for the data version behind response ETags. */
+@DataJpaTest
+@Import(DataVersionService.class)
+public class DataVersionTests {
+
+  /** The data version service, started against the test database. */
+  @Autowired private DataVersionService dataVersionService;
+
+  /** Every write must produce a new, larger version and a different ETag. */
+  @Test
+  void shouldIncreaseOnWrite() {
+    long before = dataVersionService.getVersion();
+    String etagBefore = dataVersionService.getETag();
+
+    dataVersionService.increment();
+
+    assertThat(dataVersionService.getVersion()).isGreaterThan(before);
+    assertThat(dataVersionService.getETag()).isNotEqualTo(etagBefore).startsWith("\"");
+  }
+
+  /** A restart must never hand out a version already used by the previous run. */
+  @Test
+  void shouldIncreaseAcrossRestarts() {
+    for (int i = 0; i < 1000; i++) {
+      dataVersionService.increment();
+    }
+    long beforeRestart = dataVersionService.getVersion();
+
+    dataVersionService.startEpoch();
+
+    assertThat(dataVersionService.getVersion()).isGreaterThan(beforeRestart);
+  }
+}
@@ -0,0 +1,132 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.event.DepartmentChangeEvent;
+import com.example.employeemanagement.exception.ConflictException;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.DepartmentService;
+import com.example.employeemanagement.service.EntityCacheService;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+/** This class implements tests for conditional department deletion. */
+@DataJpaTest
+@RecordApplicationEvents
+@Import({
+  DepartmentService.class,
+  EntityCacheService.class,
+  EmployeeJdbcRepository.class,
+  DepartmentJdbcRepository.class
+})
+public class DepartmentDeleteTests {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The department service under test. */
+  @Autowired private DepartmentService departmentService;
+
+  /** The entity manager, cleared so reads see the rows the JDBC deletes removed. */
+  @Autowired private EntityManager entityManager;
+
+  /** The events published during the test. */
+  @Autowired private ApplicationEvents events;
+
+  /** A department with one employee. */
+  private Department staffed;
+
+  /** A department without employees. */
+  private Department empty;
+
+  /** Set up one staffed and one empty department. */
+  @BeforeEach
+  void setUp() {
+    staffed = saveDepartment("Sales");
+    empty = saveDepartment("Archive");
+
+    Employee employee = new Employee();
+    employee.setFirstName("Ann");
+    employee.setLastName("Staff");
+    employee.setEmail("ann@example.com");
+    employee.setAge(30);
+    employee.setDepartment(staffed);
+    employeeRepository.save(employee);
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  /** An empty department must be deleted. */
+  @Test
+  void shouldDeleteEmptyDepartment() {
+    departmentService.deleteDepartment(empty.getId());
+
+    assertThat(departmentRepository.findById(empty.getId())).isEmpty();
+    assertThat(events.stream(DepartmentChangeEvent.class)).hasSize(1);
+  }
+
+  /** A department with employees must be kept and reported as a conflict. */
+  @Test
+  void shouldRejectDepartmentWithEmployees() {
+    assertThatThrownBy(() -> departmentService.deleteDepartment(staffed.getId()))
+        .isInstanceOf(ConflictException.class)
+        .hasMessageContaining("1 employees");
+
+    assertThat(departmentRepository.findById(staffed.getId())).isPresent();
+    assertThat(events.stream(DepartmentChangeEvent.class)).isEmpty();
+  }
+
+  /** A missing department must be reported as not found. */
+  @Test
+  void shouldRejectUnknownDepartment() {
+    assertThatThrownBy(() -> departmentService.deleteDepartment(-1L))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  /** Purging must delete only the empty departments. */
+  @Test
+  void shouldPurgeEmptyDepartments() {
+    Department other = saveDepartment("Unused");
+
+    assertThat(departmentService.purgeEmptyDepartments())
+        .containsExactlyInAnyOrder(empty.getId(), other.getId());
+
+    entityManager.clear();
+    assertThat(departmentRepository.findAll())
+        .extracting(Department::getId)
+        .containsExactly(staffed.getId());
+    assertThat(events.stream(DepartmentChangeEvent.class).findFirst().get().getChanges())
+        .hasSize(2);
+
+    // Nothing is left to purge
+    assertThat(departmentService.purgeEmptyDepartments()).isEmpty();
+  }
+
+  /**
+   * Saves a department.
+   *
+   * @param name the department name
+   * @return the saved department
+   */
+  private Department saveDepartment(String name) {
+    Department department = new Department();
+    department.setName(name);
+    return departmentRepository.save(department);
+  }
+}
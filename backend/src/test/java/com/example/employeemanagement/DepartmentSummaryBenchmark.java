@@ -0,0 +1,65 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.repository.DepartmentRepository;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compares the department listing that fetch-joins every employee against the SQL {@code COUNT}
+ * projection. Defaults to 1M employees across 50 departments; override with {@code
+ * -Dbenchmark.employees} and give the forked JVM enough heap for the fetch-join variant.
+ */
+@DataJpaTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class DepartmentSummaryBenchmark {
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The JDBC template, used to seed data quickly. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /** The entity manager, cleared between runs so each one starts with an empty context. */
+  @Autowired private EntityManager entityManager;
+
+  /** Seed the benchmark data set. */
+  @BeforeEach
+  void setUp() {
+    BenchmarkSupport.seed(
+        jdbcTemplate,
+        BenchmarkSupport.intProperty("benchmark.departments", 50),
+        BenchmarkSupport.intProperty("benchmark.employees", 1_000_000));
+  }
+
+  /** Fetch-join listing versus aggregate projection. */
+  @Test
+  void compareDepartmentListing() {
+    long fetchJoin =
+        BenchmarkSupport.measure(
+            "departments: JOIN FETCH employees",
+            2,
+            5,
+            () -> {
+              entityManager.clear();
+              return departmentRepository.findAllWithEmployees();
+            });
+    long projection =
+        BenchmarkSupport.measure(
+            "departments: COUNT projection",
+            5,
+            20,
+            () -> {
+              entityManager.clear();
+              return departmentRepository.findAllSummaries();
+            });
+
+    assertThat(projection).isLessThan(fetchJoin);
+  }
+}
@@ -0,0 +1,164 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.dto.DepartmentTransferRequestDto;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.DepartmentService;
+import com.example.employeemanagement.service.EntityCacheService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+/** This class implements tests for set-based department transfers. */
+@DataJpaTest
+@Transactional
+@RecordApplicationEvents
+@Import({
+  DepartmentService.class,
+  EntityCacheService.class,
+  EmployeeJdbcRepository.class,
+  DepartmentJdbcRepository.class
+})
+public class DepartmentTransferTests {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The department service under test. */
+  @Autowired private DepartmentService departmentService;
+
+  /** The entity manager, cleared so reads see the rows the JDBC update changed. */
+  @Autowired private EntityManager entityManager;
+
+  /** The events published during the test. */
+  @Autowired private ApplicationEvents events;
+
+  /** The source department. */
+  private Department sales;
+
+  /** The target department. */
+  private Department support;
+
+  /** The employees of the source department. */
+  private List<Employee> staff;
+
+  /** Set up a source department with three employees and an empty target. */
+  @BeforeEach
+  void setUp() {
+    sales = saveDepartment("Sales");
+    support = saveDepartment("Support");
+    staff =
+        Arrays.asList(
+            saveEmployee("Ann", sales), saveEmployee("Ben", sales), saveEmployee("Cy", sales));
+  }
+
+  /** Listed employees must move, and one event must describe every move. */
+  @Test
+  void shouldTransferListedEmployees() {
+    DepartmentTransferRequestDto request = new DepartmentTransferRequestDto();
+    request.setEmployeeIds(Arrays.asList(staff.get(0).getId(), staff.get(1).getId(), -1L));
+
+    assertThat(departmentService.transferEmployees(support.getId(), request, id -> {}))
+        .isEqualTo(2);
+    assertThat(departmentsOfStaff())
+        .containsExactly(support.getId(), support.getId(), sales.getId());
+
+    List<EmployeeChangeEvent.Change> changes =
+        events.stream(EmployeeChangeEvent.class).findFirst().get().getChanges();
+    assertThat(changes).hasSize(2);
+    assertThat(changes.get(0).getBefore().getDepartment().getName()).isEqualTo("Sales");
+    assertThat(changes.get(0).getAfter().getDepartment().getName()).isEqualTo("Support");
+
+    // Moving them again is a no-op
+    assertThat(departmentService.transferEmployees(support.getId(), request, id -> {})).isZero();
+  }
+
+  /** Every employee of the source department must move, and have its queued update discarded. */
+  @Test
+  void shouldTransferWholeDepartment() {
+    DepartmentTransferRequestDto request = new DepartmentTransferRequestDto();
+    request.setFromDepartmentId(sales.getId());
+    List<Long> discarded = new ArrayList<>();
+
+    assertThat(departmentService.transferEmployees(support.getId(), request, discarded::add))
+        .isEqualTo(3);
+    assertThat(departmentsOfStaff()).containsOnly(support.getId());
+    assertThat(discarded)
+        .containsExactlyInAnyOrderElementsOf(
+            staff.stream().map(Employee::getId).collect(Collectors.toList()));
+  }
+
+  /** An unknown target department must be reported. */
+  @Test
+  void shouldRejectUnknownDepartment() {
+    DepartmentTransferRequestDto request = new DepartmentTransferRequestDto();
+    request.setFromDepartmentId(sales.getId());
+
+    assertThatThrownBy(() -> departmentService.transferEmployees(-1L, request, id -> {}))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  /**
+   * Reads the current department of each employee in {@link #staff}.
+   *
+   * @return the department IDs, in staff order
+   */
+  private List<Long> departmentsOfStaff() {
+    entityManager.clear();
+    return staff.stream()
+        .map(employee -> employeeRepository.findById(employee.getId()).get())
+        .map(employee -> employee.getDepartment().getId())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Saves a department.
+   *
+   * @param name the department name
+   * @return the saved department
+   */
+  private Department saveDepartment(String name) {
+    Department department = new Department();
+    department.setName(name);
+    return departmentRepository.save(department);
+  }
+
+  /**
+   * Saves an employee.
+   *
+   * @param firstName the first name
+   * @param department the department
+   * @return the saved employee
+   */
+  private Employee saveEmployee(String firstName, Department department) {
+    Employee employee = new Employee();
+    employee.setFirstName(firstName);
+    employee.setLastName("Staff");
+    employee.setEmail(firstName.toLowerCase() + "@example.com");
+    employee.setAge(30);
+    employee.setDepartment(department);
+    return employeeRepository.save(employee);
+  }
+}
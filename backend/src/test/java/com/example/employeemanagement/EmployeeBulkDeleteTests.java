@@ -0,0 +1,177 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.dto.EmployeeDeleteRequestDto;
+import com.example.employeemanagement.dto.EmployeeDeleteResultDto;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.exception.ResourceNotFoundException;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.DepartmentService;
+import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.service.EntityCacheService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+/** This class implements tests for set-based employee deletion. */
+@DataJpaTest
+@RecordApplicationEvents
+@TestPropertySource(properties = "employees.bulk-delete.chunk-size=2")
+@Import({
+  EmployeeService.class,
+  DepartmentService.class,
+  EntityCacheService.class,
+  EmployeeJdbcRepository.class,
+  DepartmentJdbcRepository.class
+})
+public class EmployeeBulkDeleteTests {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The employee service under test. */
+  @Autowired private EmployeeService employeeService;
+
+  /** The entity manager, cleared so reads see the rows the JDBC deletes removed. */
+  @Autowired private EntityManager entityManager;
+
+  /** The events published during the test. */
+  @Autowired private ApplicationEvents events;
+
+  /** The department holding the first three employees. */
+  private Department sales;
+
+  /** The department holding the last employee. */
+  private Department support;
+
+  /** The employees, three in sales and one in support. */
+  private List<Employee> staff;
+
+  /** Set up two departments with four employees between them. */
+  @BeforeEach
+  void setUp() {
+    sales = saveDepartment("Sales");
+    support = saveDepartment("Support");
+    staff =
+        Arrays.asList(
+            saveEmployee("Ann", sales),
+            saveEmployee("Ben", sales),
+            saveEmployee("Cy", sales),
+            saveEmployee("Di", support));
+  }
+
+  /** Listed employees must be deleted across chunks, and unknown IDs reported. */
+  @Test
+  void shouldDeleteListedEmployees() {
+    EmployeeDeleteRequestDto request = new EmployeeDeleteRequestDto();
+    request.setIds(
+        Arrays.asList(
+            staff.get(0).getId(), -1L, staff.get(1).getId(), staff.get(3).getId(), -2L));
+
+    EmployeeDeleteResultDto result = employeeService.deleteEmployees(request, id -> {});
+
+    assertThat(result.getDeleted()).isEqualTo(3);
+    assertThat(result.getNotFound()).containsExactly(-1L, -2L);
+    entityManager.clear();
+    assertThat(employeeRepository.findAll())
+        .extracting(Employee::getId)
+        .containsExactly(staff.get(2).getId());
+
+    List<EmployeeChangeEvent.Change> changes =
+        events.stream(EmployeeChangeEvent.class).findFirst().get().getChanges();
+    assertThat(changes).hasSize(3).allMatch(change -> change.getAfter() == null);
+    assertThat(changes)
+        .extracting(change -> change.getBefore().getDepartment().getName())
+        .containsExactlyInAnyOrder("Sales", "Sales", "Support");
+  }
+
+  /**
+   * Every employee of the department, and no other, must be deleted and have its queued update
+   * discarded.
+   */
+  @Test
+  void shouldDeleteWholeDepartment() {
+    EmployeeDeleteRequestDto request = new EmployeeDeleteRequestDto();
+    request.setDepartmentId(sales.getId());
+    List<Long> discarded = new ArrayList<>();
+
+    EmployeeDeleteResultDto result = employeeService.deleteEmployees(request, discarded::add);
+
+    assertThat(discarded)
+        .containsExactlyInAnyOrder(
+            staff.get(0).getId(), staff.get(1).getId(), staff.get(2).getId());
+    assertThat(result.getDeleted()).isEqualTo(3);
+    assertThat(result.getNotFound()).isEmpty();
+    entityManager.clear();
+    assertThat(employeeRepository.findAll())
+        .extracting(Employee::getId)
+        .containsExactly(staff.get(3).getId());
+  }
+
+  /** An unknown department must be reported. */
+  @Test
+  void shouldRejectUnknownDepartment() {
+    EmployeeDeleteRequestDto request = new EmployeeDeleteRequestDto();
+    request.setDepartmentId(-1L);
+
+    assertThatThrownBy(() -> employeeService.deleteEmployees(request, id -> {}))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  /** Deleting a single employee that does not exist must be reported. */
+  @Test
+  void shouldRejectUnknownEmployee() {
+    employeeService.deleteEmployee(staff.get(0).getId());
+
+    assertThatThrownBy(() -> employeeService.deleteEmployee(staff.get(0).getId()))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  /**
+   * Saves a department.
+   *
+   * @param name the department name
+   * @return the saved department
+   */
+  private Department saveDepartment(String name) {
+    Department department = new Department();
+    department.setName(name);
+    return departmentRepository.save(department);
+  }
+
+  /**
+   * Saves an employee.
+   *
+   * @param firstName the first name
+   * @param department the department
+   * @return the saved employee
+   */
+  private Employee saveEmployee(String firstName, Department department) {
+    Employee employee = new Employee();
+    employee.setFirstName(firstName);
+    employee.setLastName("Staff");
+    employee.setEmail(firstName.toLowerCase() + "@example.com");
+    employee.setAge(30);
+    employee.setDepartment(department);
+    return employeeRepository.save(employee);
+  }
+}
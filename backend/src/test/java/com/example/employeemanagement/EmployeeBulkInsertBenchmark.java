@@ -0,0 +1,71 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.service.EmployeeBulkService;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * Measures bulk employee creation throughput, including validation and department lookup, in
+ * requests of {@code benchmark.bulk-size} rows (10,000 by default).
+ */
+@DataJpaTest
+@Import({
+  EmployeeBulkService.class,
+  EmployeeJdbcRepository.class,
+  DepartmentJdbcRepository.class,
+  LocalValidatorFactoryBean.class
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class EmployeeBulkInsertBenchmark {
+
+  /** Logger for the derived measurements. */
+  private static final Logger log = LoggerFactory.getLogger(EmployeeBulkInsertBenchmark.class);
+
+  /** The JDBC template, used to seed departments. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /** The bulk service under test. */
+  @Autowired private EmployeeBulkService employeeBulkService;
+
+  /** Rows per second when creating employees through the bulk service. */
+  @Test
+  void measureBulkCreate() {
+    int departments = BenchmarkSupport.intProperty("benchmark.departments", 50);
+    long[] departmentIds = BenchmarkSupport.seed(jdbcTemplate, departments, 0);
+    int bulkSize = BenchmarkSupport.intProperty("benchmark.bulk-size", 10_000);
+    List<EmployeeRequestDto> requests = new ArrayList<>(bulkSize);
+    for (int i = 0; i < bulkSize; i++) {
+      EmployeeRequestDto request = new EmployeeRequestDto();
+      request.setFirstName("First" + i);
+      request.setLastName("Last" + i);
+      request.setEmail("bulk" + i + "@example.com");
+      request.setAge(18 + i % 48);
+      EmployeeRequestDto.DepartmentRef department = new EmployeeRequestDto.DepartmentRef();
+      department.setId(departmentIds[i % departmentIds.length]);
+      request.setDepartment(department);
+      requests.add(request);
+    }
+
+    long median =
+        BenchmarkSupport.measure(
+            "bulk create: " + bulkSize + " rows",
+            3,
+            10,
+            () -> employeeBulkService.createEmployees(requests));
+    log.info(
+        String.format(
+            "[benchmark] bulk create throughput %,.0f rows/s", bulkSize / (median / 1e9)));
+  }
+}
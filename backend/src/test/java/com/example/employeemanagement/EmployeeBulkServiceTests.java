@@ -0,0 +1,100 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.dto.BulkCreateResultDto;
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeBulkService;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/** This class implements tests for bulk employee creation. */
+@DataJpaTest
+@Transactional
+@Import({
+  EmployeeBulkService.class,
+  EmployeeJdbcRepository.class,
+  DepartmentJdbcRepository.class,
+  LocalValidatorFactoryBean.class
+})
+public class EmployeeBulkServiceTests {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The bulk service under test. */
+  @Autowired private EmployeeBulkService employeeBulkService;
+
+  /** The ID of an existing department. */
+  private Long departmentId;
+
+  /** Set up a department for the employees to join. */
+  @BeforeEach
+  void setUp() {
+    Department department = new Department();
+    department.setName("Engineering");
+    departmentId = departmentRepository.save(department).getId();
+  }
+
+  /** Invalid rows must be reported by index while every valid row is created. */
+  @Test
+  void shouldCreateValidRowsAndReportInvalidOnes() {
+    BulkCreateResultDto result =
+        employeeBulkService.createEmployees(
+            Arrays.asList(
+                request("Ada", "ada@example.com", 36, departmentId),
+                request("", "blank@example.com", 36, departmentId),
+                request("Alan", "alan@example.com", 41, departmentId + 1000),
+                null,
+                request("Grace", "grace@example.com", 45, departmentId)));
+
+    assertThat(result.getCreated()).isEqualTo(2);
+    assertThat(result.getErrors())
+        .extracting(BulkCreateResultDto.RowError::getIndex)
+        .containsExactly(1, 2, 3);
+    assertThat(result.getErrors().get(0).getErrors()).containsKey("firstName");
+    assertThat(result.getErrors().get(1).getErrors()).containsKey("department.id");
+    assertThat(result.getIds().get(0)).isNotNull();
+    assertThat(result.getIds().subList(1, 4)).containsOnlyNulls();
+
+    assertThat(employeeRepository.findById(result.getIds().get(4)))
+        .hasValueSatisfying(employee -> assertThat(employee.getFirstName()).isEqualTo("Grace"));
+    assertThat(employeeRepository.count()).isEqualTo(2);
+  }
+
+  /**
+   * Builds a create request.
+   *
+   * @param firstName the first name
+   * @param email the email
+   * @param age the age
+   * @param departmentId the department ID
+   * @return the request
+   */
+  private static EmployeeRequestDto request(
+      String firstName, String email, int age, Long departmentId) {
+    EmployeeRequestDto request = new EmployeeRequestDto();
+    request.setFirstName(firstName);
+    request.setLastName("Tester");
+    request.setEmail(email);
+    request.setAge(age);
+    EmployeeRequestDto.DepartmentRef department = new EmployeeRequestDto.DepartmentRef();
+    department.setId(departmentId);
+    request.setDepartment(department);
+    return request;
+  }
+}
@@ -0,0 +1,119 @@
+package com.example.employeemanagement;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Full-context integration tests for the single-employee ETags: the ETag of a GET must be usable
+ * as the {@code If-Match} of the following PATCH.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:etagtest;DB_CLOSE_DELAY=-1;MODE=MySQL",
+      "spring.datasource.driver-class-name=org.h2.Driver",
+      "spring.datasource.username=sa",
+      "spring.datasource.password=",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+      "jwt.secret=integration-test-secret-key-please-do-not-use-in-production-0001",
+      "webauthn.rp-id=localhost",
+      "webauthn.rp-name=Employee Management System",
+      "webauthn.allowed-origins=http://localhost:3000",
+      "spring.autoconfigure.exclude="
+          + "org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration"
+    })
+@AutoConfigureMockMvc
+class EmployeeETagIntegrationTest {
+
+  /** MockMvc for issuing requests against the running context. */
+  @Autowired private MockMvc mockMvc;
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The ID of the employee under test. */
+  private Long id;
+
+  /** Set up one employee at version 0. */
+  @BeforeEach
+  void setUp() {
+    Department department = new Department();
+    department.setName("Engineering");
+    department = departmentRepository.save(department);
+
+    Employee employee = new Employee();
+    employee.setFirstName("Ada");
+    employee.setLastName("Lovelace");
+    employee.setEmail("ada@example.com");
+    employee.setAge(36);
+    employee.setDepartment(department);
+    id = employeeRepository.save(employee).getId();
+  }
+
+  /** The ETag of a GET must be accepted by a PATCH, which answers with the next version's ETag. */
+  @Test
+  void patchAcceptsETagOfGet() throws Exception {
+    String etag =
+        mockMvc
+            .perform(get("/api/employees/" + id))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "W/\"v0\""))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            patch("/api/employees/" + id)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"age\": 37}"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"v1\""))
+        .andExpect(jsonPath("$.version").value(1));
+
+    mockMvc
+        .perform(
+            patch("/api/employees/" + id)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"age\": 38}"))
+        .andExpect(status().isPreconditionFailed());
+  }
+
+  /** If-Match values that are not employee ETags must be rejected. */
+  @Test
+  void patchRejectsOtherIfMatchValues() throws Exception {
+    mockMvc
+        .perform(
+            patch("/api/employees/" + id)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"age\": 37}"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,177 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Full-context integration tests for the streaming employee export: both body formats, and rows
+ * reaching the client once per fetch rather than all at the end.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:exporttest;DB_CLOSE_DELAY=-1;MODE=MySQL",
+      "spring.datasource.driver-class-name=org.h2.Driver",
+      "spring.datasource.username=sa",
+      "spring.datasource.password=",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+      "jwt.secret=integration-test-secret-key-please-do-not-use-in-production-0001",
+      "webauthn.rp-id=localhost",
+      "webauthn.rp-name=Employee Management System",
+      "webauthn.allowed-origins=http://localhost:3000",
+      "employees.export.fetch-size=2",
+      "spring.autoconfigure.exclude="
+          + "org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration"
+    })
+@AutoConfigureMockMvc
+class EmployeeExportIntegrationTest {
+
+  /** MockMvc for issuing requests against the running context. */
+  @Autowired private MockMvc mockMvc;
+
+  /** The export service, called directly to observe how its output is written. */
+  @Autowired private EmployeeExportService employeeExportService;
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The object mapper, used to parse the exported bodies. */
+  @Autowired private ObjectMapper objectMapper;
+
+  /** Set up five employees in one department, more than two fetches' worth. */
+  @BeforeEach
+  void setUp() {
+    employeeRepository.deleteAll();
+    departmentRepository.deleteAll();
+
+    Department department = new Department();
+    department.setName("Engineering");
+    department = departmentRepository.save(department);
+
+    for (int i = 1; i <= 5; i++) {
+      Employee employee = new Employee();
+      employee.setFirstName("First" + i);
+      employee.setLastName("Last" + i);
+      employee.setEmail("employee" + i + "@example.com");
+      employee.setAge(20 + i);
+      employee.setDepartment(department);
+      employeeRepository.save(employee);
+    }
+  }
+
+  /** By default the export must be one JSON array in the shape of {@code GET /api/employees}. */
+  @Test
+  void exportsJsonArray() throws Exception {
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/employees/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.length()").value(5))
+        .andExpect(jsonPath("$[0].firstName").value("First1"))
+        .andExpect(jsonPath("$[0].email").value("employee1@example.com"))
+        .andExpect(jsonPath("$[0].age").value(21))
+        .andExpect(jsonPath("$[0].department.name").value("Engineering"))
+        .andExpect(jsonPath("$[4].lastName").value("Last5"));
+  }
+
+  /** NDJSON must be chosen by the format parameter or the Accept header, one object per line. */
+  @Test
+  void exportsNdjson() throws Exception {
+    for (MvcResult result :
+        List.of(
+            mockMvc.perform(get("/api/employees/export").param("format", "ndjson")).andReturn(),
+            mockMvc
+                .perform(
+                    get("/api/employees/export")
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_NDJSON_VALUE))
+                .andReturn())) {
+      String body =
+          mockMvc
+              .perform(asyncDispatch(result))
+              .andExpect(status().isOk())
+              .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+              .andReturn()
+              .getResponse()
+              .getContentAsString();
+
+      assertThat(body).endsWith("\n");
+      String[] lines = body.split("\n");
+      assertThat(lines).hasSize(5);
+      for (int i = 0; i < lines.length; i++) {
+        JsonNode employee = objectMapper.readTree(lines[i]);
+        assertThat(employee.get("firstName").asText()).isEqualTo("First" + (i + 1));
+        assertThat(employee.get("department").get("name").asText()).isEqualTo("Engineering");
+      }
+    }
+  }
+
+  /** Unknown formats must be rejected before anything is streamed. */
+  @Test
+  void rejectsUnknownFormat() throws Exception {
+    mockMvc
+        .perform(get("/api/employees/export").param("format", "csv"))
+        .andExpect(status().isBadRequest());
+  }
+
+  /** Rows must reach the stream once per fetch, while the table is still being read. */
+  @Test
+  void writesRowsIncrementally() throws Exception {
+    List<String> flushed = new ArrayList<>();
+    ByteArrayOutputStream out =
+        new ByteArrayOutputStream() {
+          @Override
+          public void flush() {
+            flushed.add(toString(StandardCharsets.UTF_8));
+          }
+        };
+
+    employeeExportService.exportNdjson(out);
+
+    // One flush after every two rows, then the final flush when the generator closes
+    assertThat(flushed).hasSize(3);
+    assertThat(flushed.get(0).split("\n")).hasSize(2);
+    assertThat(flushed.get(1).split("\n")).hasSize(4);
+    assertThat(flushed.get(2).split("\n")).hasSize(5);
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(flushed.get(2));
+  }
+}
@@ -0,0 +1,235 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.employeemanagement.dto.ImportJobDto;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Full-context integration tests for CSV import jobs, from the upload through to the committed
+ * rows and the status endpoint. Chunks hold two rows and one worker validates them, so at most two
+ * chunks are in flight and every file below spans several commits.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:importtest;DB_CLOSE_DELAY=-1;MODE=MySQL",
+      "spring.datasource.driver-class-name=org.h2.Driver",
+      "spring.datasource.username=sa",
+      "spring.datasource.password=",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+      "jwt.secret=integration-test-secret-key-please-do-not-use-in-production-0001",
+      "webauthn.rp-id=localhost",
+      "webauthn.rp-name=Employee Management System",
+      "webauthn.allowed-origins=http://localhost:3000",
+      "employees.import.chunk-size=2",
+      "employees.import.workers=1",
+      "spring.autoconfigure.exclude="
+          + "org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration,"
+          + "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration"
+    })
+@AutoConfigureMockMvc
+class EmployeeImportIntegrationTest {
+
+  /** The header row naming every required column. */
+  private static final String HEADER = "firstName,lastName,email,age,department\n";
+
+  /** MockMvc for issuing requests against the running context. */
+  @Autowired private MockMvc mockMvc;
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The object mapper, used to read job statuses. */
+  @Autowired private ObjectMapper objectMapper;
+
+  /** The ID of the Engineering department. */
+  private Long engineeringId;
+
+  /** The ID of the Research department. */
+  private Long researchId;
+
+  /** Set up two departments and no employees. */
+  @BeforeEach
+  void setUp() {
+    employeeRepository.deleteAll();
+    departmentRepository.deleteAll();
+    engineeringId = saveDepartment("Engineering");
+    researchId = saveDepartment("Research");
+  }
+
+  /**
+   * Valid rows must be committed with their named department, and invalid rows reported with the
+   * line they start on, even when an earlier record spans several lines.
+   */
+  @Test
+  void importsValidRowsAndReportsRejectedOnes() throws Exception {
+    String csv =
+        HEADER
+            + "Ada,Lovelace,ada@example.com,36,Engineering\n"
+            + "Grace,Hopper,grace@example.com,old,Engineering\n"
+            + "\"Alan\nMathison\",Turing,alan@example.com,41,Research\n"
+            + "Linus,Torvalds,linus@example.com,30,Marketing\n"
+            + "Margaret,Hamilton,margaret@example.com,33,Research\n";
+
+    ImportJobDto job = awaitJob(upload(csv));
+
+    assertThat(job.getStatus()).isEqualTo("COMPLETED");
+    assertThat(job.getRowsProcessed()).isEqualTo(5);
+    assertThat(job.getRowsCreated()).isEqualTo(3);
+    assertThat(job.getRowsRejected()).isEqualTo(2);
+    assertThat(job.getStartedAt()).isNotNull();
+    assertThat(job.getFinishedAt()).isNotNull();
+    assertThat(job.getError()).isNull();
+
+    List<ImportJobDto.RejectedRow> rejected = job.getRejectedRows();
+    assertThat(rejected).extracting(ImportJobDto.RejectedRow::getLine).containsExactly(3L, 6L);
+    assertThat(rejected.get(0).getErrors()).containsOnlyKeys("age");
+    assertThat(rejected.get(1).getErrors())
+        .containsEntry("department", "Department not found: Marketing");
+
+    Map<String, Long> departments =
+        employeeRepository.findAll().stream()
+            .collect(Collectors.toMap(Employee::getEmail, e -> e.getDepartment().getId()));
+    assertThat(departments)
+        .containsOnly(
+            Map.entry("ada@example.com", engineeringId),
+            Map.entry("alan@example.com", researchId),
+            Map.entry("margaret@example.com", researchId));
+  }
+
+  /** Chunks committed before a failure must stay committed; later chunks must not be. */
+  @Test
+  void keepsCommittedChunksWhenJobFails() throws Exception {
+    StringBuilder csv = new StringBuilder(HEADER);
+    for (int i = 1; i <= 6; i++) {
+      csv.append("First").append(i).append(",Last,employee").append(i);
+      csv.append("@example.com,30,Engineering\n");
+    }
+    csv.append("\"Unterminated,Last,broken@example.com,30,Engineering\n");
+
+    ImportJobDto job = awaitJob(upload(csv.toString()));
+
+    assertThat(job.getStatus()).isEqualTo("FAILED");
+    assertThat(job.getError()).contains("Unterminated quoted field starting on line 8");
+    // Chunks 1 and 2 were committed to make room for chunks 2 and 3; chunk 3 was cancelled
+    assertThat(job.getRowsCreated()).isEqualTo(4);
+    assertThat(employeeRepository.count()).isEqualTo(4);
+  }
+
+  /** A header without every required column must fail the job before any row is read. */
+  @Test
+  void failsOnMissingColumn() throws Exception {
+    ImportJobDto job =
+        awaitJob(upload("firstName,lastName,email,department\nAda,Lovelace,ada@example.com,R\n"));
+
+    assertThat(job.getStatus()).isEqualTo("FAILED");
+    assertThat(job.getError()).isEqualTo("Missing column: age");
+    assertThat(job.getRowsProcessed()).isZero();
+    assertThat(employeeRepository.count()).isZero();
+  }
+
+  /** An empty upload must be rejected without starting a job. */
+  @Test
+  void rejectsEmptyFile() throws Exception {
+    mockMvc
+        .perform(
+            multipart("/api/employees/import")
+                .file(new MockMultipartFile("file", "employees.csv", "text/csv", new byte[0])))
+        .andExpect(status().isBadRequest());
+  }
+
+  /** Unknown jobs must answer 404. */
+  @Test
+  void answersNotFoundForUnknownJob() throws Exception {
+    mockMvc.perform(get("/api/employees/import/unknown")).andExpect(status().isNotFound());
+  }
+
+  /**
+   * Uploads a CSV file and checks the job is accepted.
+   *
+   * @param csv the file content
+   * @return the job's status URL
+   * @throws Exception if the request fails
+   */
+  private String upload(String csv) throws Exception {
+    return mockMvc
+        .perform(
+            multipart("/api/employees/import")
+                .file(
+                    new MockMultipartFile(
+                        "file", "employees.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8))))
+        .andExpect(status().isAccepted())
+        .andExpect(header().exists(HttpHeaders.LOCATION))
+        .andExpect(jsonPath("$.id").isNotEmpty())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.LOCATION);
+  }
+
+  /**
+   * Polls a job's status URL until the job has finished.
+   *
+   * @param location the job's status URL
+   * @return the final status
+   * @throws Exception if the request fails or the job does not finish in time
+   */
+  private ImportJobDto awaitJob(String location) throws Exception {
+    for (int attempt = 0; attempt < 200; attempt++) {
+      ImportJobDto job =
+          objectMapper.readValue(
+              mockMvc
+                  .perform(get(location))
+                  .andExpect(status().isOk())
+                  .andReturn()
+                  .getResponse()
+                  .getContentAsString(),
+              ImportJobDto.class);
+      if (job.getFinishedAt() != null) {
+        return job;
+      }
+      Thread.sleep(50);
+    }
+    throw new AssertionError("Import job " + location + " did not finish");
+  }
+
+  /**
+   * Saves a department.
+   *
+   * @param name the department name
+   * @return the department ID
+   */
+  private Long saveDepartment(String name) {
+    Department department = new Department();
+    department.setName(name);
+    return departmentRepository.save(department).getId();
+  }
+}
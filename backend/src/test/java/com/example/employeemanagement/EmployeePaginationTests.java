@@ -0,0 +1,89 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.exception.BadRequestException;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeCursor;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+/** This class implements tests for keyset pagination of employees. */
+@DataJpaTest
+@Transactional
+public class EmployeePaginationTests {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** Set up ten employees sharing a handful of names, so ties must be broken by ID. */
+  @BeforeEach
+  void setUp() {
+    Department department = new Department();
+    department.setName("IT");
+    department = departmentRepository.save(department);
+
+    String[] lastNames = {"Doe", "Smith", "Doe", "Adams", "Smith"};
+    for (int i = 0; i < 10; i++) {
+      Employee employee = new Employee();
+      employee.setFirstName(i % 2 == 0 ? "Jane" : "John");
+      employee.setLastName(lastNames[i % lastNames.length]);
+      employee.setEmail("employee" + i + "@example.com");
+      employee.setDepartment(department);
+      employee.setAge(30);
+      employeeRepository.save(employee);
+    }
+  }
+
+  /** Walking every page must visit each employee exactly once, in sort order. */
+  @Test
+  void shouldWalkAllPagesInOrder() {
+    List<EmployeeResponseDto> seen = new ArrayList<>();
+    List<EmployeeResponseDto> page = employeeRepository.findFirstPage(PageRequest.of(0, 3));
+    while (!page.isEmpty()) {
+      seen.addAll(page);
+      EmployeeResponseDto last = page.get(page.size() - 1);
+      EmployeeCursor cursor =
+          EmployeeCursor.decode(
+              new EmployeeCursor(last.getLastName(), last.getFirstName(), last.getId()).encode());
+      page =
+          employeeRepository.findPageAfter(
+              cursor.getLastName(), cursor.getFirstName(), cursor.getId(), PageRequest.of(0, 3));
+    }
+
+    assertThat(seen).hasSize(10);
+    assertThat(seen).extracting(EmployeeResponseDto::getId).doesNotHaveDuplicates();
+    for (int i = 1; i < seen.size(); i++) {
+      EmployeeResponseDto previous = seen.get(i - 1);
+      EmployeeResponseDto current = seen.get(i);
+      int byLast = previous.getLastName().compareTo(current.getLastName());
+      int byFirst = previous.getFirstName().compareTo(current.getFirstName());
+      assertThat(
+              byLast < 0
+                  || (byLast == 0 && byFirst < 0)
+                  || (byLast == 0 && byFirst == 0 && previous.getId() < current.getId()))
+          .isTrue();
+    }
+  }
+
+  /** A cursor that was not produced by the server must be rejected. */
+  @Test
+  void shouldRejectMalformedCursor() {
+    assertThatThrownBy(() -> EmployeeCursor.decode("not-a-cursor"))
+        .isInstanceOf(BadRequestException.class);
+  }
+}
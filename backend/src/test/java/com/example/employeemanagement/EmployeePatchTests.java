@@ -0,0 +1,214 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.dto.EmployeePatchDto;
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.exception.PreconditionFailedException;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.DepartmentService;
+import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.service.EntityCacheService;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+/** This class implements tests for versioned partial employee updates. */
+@DataJpaTest
+@RecordApplicationEvents
+@Import({
+  EmployeeService.class,
+  DepartmentService.class,
+  EntityCacheService.class,
+  EmployeeJdbcRepository.class,
+  DepartmentJdbcRepository.class
+})
+public class EmployeePatchTests {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The employee service under test. */
+  @Autowired private EmployeeService employeeService;
+
+  /** The JDBC template, used to read the updated row. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /** The entity manager, cleared so no managed entity goes stale behind the JDBC updates. */
+  @Autowired private EntityManager entityManager;
+
+  /** The events published during the test. */
+  @Autowired private ApplicationEvents events;
+
+  /** The ID of the employee under test. */
+  private Long id;
+
+  /** Set up one employee at version 0. */
+  @BeforeEach
+  void setUp() {
+    Department department = new Department();
+    department.setName("Engineering");
+    department = departmentRepository.save(department);
+
+    Employee employee = new Employee();
+    employee.setFirstName("Ada");
+    employee.setLastName("Lovelace");
+    employee.setEmail("ada@example.com");
+    employee.setAge(36);
+    employee.setDepartment(department);
+    id = employeeRepository.save(employee).getId();
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  /** Single-employee reads must carry the version. */
+  @Test
+  void shouldExposeVersion() {
+    assertThat(employeeService.getEmployeeDtoById(id).get().getVersion()).isZero();
+  }
+
+  /** Only the given fields must change, and the version must advance. */
+  @Test
+  void shouldPatchOnlyGivenFields() {
+    EmployeePatchDto patch = new EmployeePatchDto();
+    patch.setLastName("King");
+    patch.setAge(37);
+
+    EmployeeResponseDto patched = employeeService.patchEmployee(id, 0L, patch);
+
+    assertThat(patched.getFirstName()).isEqualTo("Ada");
+    assertThat(patched.getLastName()).isEqualTo("King");
+    assertThat(patched.getVersion()).isEqualTo(1L);
+    Map<String, Object> row =
+        jdbcTemplate.queryForMap(
+            "SELECT first_name, last_name, age, version FROM employees WHERE id = ?", id);
+    assertThat(row)
+        .containsEntry("FIRST_NAME", "Ada")
+        .containsEntry("LAST_NAME", "King")
+        .containsEntry("AGE", 37)
+        .containsEntry("VERSION", 1L);
+
+    EmployeeChangeEvent.Change change =
+        events.stream(EmployeeChangeEvent.class).findFirst().get().getChanges().get(0);
+    assertThat(change.getBefore().getLastName()).isEqualTo("Lovelace");
+    assertThat(change.getAfter().getLastName()).isEqualTo("King");
+  }
+
+  /** A patch against an outdated version must fail without changing the row. */
+  @Test
+  void shouldRejectStaleVersion() {
+    EmployeePatchDto first = new EmployeePatchDto();
+    first.setFirstName("Augusta");
+    employeeService.patchEmployee(id, 0L, first);
+
+    EmployeePatchDto second = new EmployeePatchDto();
+    second.setFirstName("Ida");
+    assertThatThrownBy(() -> employeeService.patchEmployee(id, 0L, second))
+        .isInstanceOf(PreconditionFailedException.class);
+    assertThatThrownBy(() -> employeeService.patchEmployee(id, 5L, second))
+        .isInstanceOf(PreconditionFailedException.class);
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT first_name FROM employees WHERE id = ?", String.class, id))
+        .isEqualTo("Augusta");
+  }
+
+  /** Unpatched fields and the event's previous state must come from the row, not the cache. */
+  @Test
+  void shouldMergeWithRowBehindCache() {
+    employeeService.getEmployeeDtoById(id);
+    jdbcTemplate.update(
+        "UPDATE employees SET email = 'ada@lovelace.example', version = version + 1 WHERE id = ?",
+        id);
+
+    EmployeePatchDto patch = new EmployeePatchDto();
+    patch.setAge(37);
+    EmployeeResponseDto patched = employeeService.patchEmployee(id, null, patch);
+
+    assertThat(patched.getEmail()).isEqualTo("ada@lovelace.example");
+    assertThat(patched.getVersion()).isEqualTo(2L);
+    EmployeeChangeEvent.Change change =
+        events.stream(EmployeeChangeEvent.class).findFirst().get().getChanges().get(0);
+    assertThat(change.getBefore().getEmail()).isEqualTo("ada@lovelace.example");
+    assertThat(change.getBefore().getDepartment().getName()).isEqualTo("Engineering");
+  }
+
+  /** An expected version the cached copy has not caught up with yet must be checked on the row. */
+  @Test
+  void shouldCheckVersionOnRowBehindCache() {
+    employeeService.getEmployeeDtoById(id);
+    jdbcTemplate.update("UPDATE employees SET version = version + 1 WHERE id = ?", id);
+
+    EmployeePatchDto patch = new EmployeePatchDto();
+    patch.setAge(37);
+    assertThat(employeeService.patchEmployee(id, 1L, patch).getVersion()).isEqualTo(2L);
+    assertThatThrownBy(() -> employeeService.patchEmployee(id, 1L, patch))
+        .isInstanceOf(PreconditionFailedException.class);
+  }
+
+  /** Full updates must advance the version too, so they invalidate outstanding versions. */
+  @Test
+  void shouldAdvanceVersionOnFullUpdate() {
+    EmployeeResponseDto current = employeeService.getEmployeeDtoById(id).get();
+    EmployeeRequestDto request = new EmployeeRequestDto();
+    request.setFirstName("Ada");
+    request.setLastName("Lovelace");
+    request.setEmail("ada@example.com");
+    request.setAge(36);
+    EmployeeRequestDto.DepartmentRef department = new EmployeeRequestDto.DepartmentRef();
+    department.setId(current.getDepartment().getId());
+    request.setDepartment(department);
+    assertThat(employeeService.updateEmployee(id, request).getVersion()).isEqualTo(1L);
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT version FROM employees WHERE id = ?", Long.class, id))
+        .isEqualTo(1L);
+  }
+
+  /** A full update must start its event from the row when the cached copy is out of date. */
+  @Test
+  void shouldUpdateRowBehindCache() {
+    EmployeeResponseDto current = employeeService.getEmployeeDtoById(id).get();
+    jdbcTemplate.update(
+        "UPDATE employees SET age = 40, version = version + 1 WHERE id = ?", id);
+
+    EmployeeRequestDto request = new EmployeeRequestDto();
+    request.setFirstName("Ada");
+    request.setLastName("King");
+    request.setEmail("ada@example.com");
+    request.setAge(41);
+    EmployeeRequestDto.DepartmentRef department = new EmployeeRequestDto.DepartmentRef();
+    department.setId(current.getDepartment().getId());
+    request.setDepartment(department);
+    assertThat(employeeService.updateEmployee(id, request).getVersion()).isEqualTo(2L);
+
+    EmployeeChangeEvent.Change change =
+        events.stream(EmployeeChangeEvent.class).findFirst().get().getChanges().get(0);
+    assertThat(change.getBefore().getAge()).isEqualTo(40);
+    assertThat(change.getBefore().getVersion()).isEqualTo(1L);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT last_name FROM employees WHERE id = ?", String.class, id))
+        .isEqualTo("King");
+  }
+}
@@ -0,0 +1,114 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compares per-request latency and allocation of the entity read path (fetch-join, then copy into
+ * DTOs) with the JPQL constructor projection read path, for both the list and the by-ID endpoint.
+ */
+@DataJpaTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class EmployeeReadBenchmark {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The JDBC template, used to seed data quickly. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /** The entity manager, cleared between runs so each one starts with an empty context. */
+  @Autowired private EntityManager entityManager;
+
+  /** An employee ID that exists in the seeded data. */
+  private Long sampleId;
+
+  /** Seed the benchmark data set. */
+  @BeforeEach
+  void setUp() {
+    BenchmarkSupport.seed(
+        jdbcTemplate,
+        BenchmarkSupport.intProperty("benchmark.departments", 50),
+        BenchmarkSupport.intProperty("benchmark.employees", 100_000));
+    sampleId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM employees", Long.class);
+  }
+
+  /** Entity list read versus DTO projection list read. */
+  @Test
+  void compareListReads() {
+    long entities =
+        BenchmarkSupport.measure(
+            "employees list: entities + convert",
+            3,
+            10,
+            () -> {
+              entityManager.clear();
+              return employeeRepository.findAllWithDepartments().stream()
+                  .map(EmployeeReadBenchmark::convertToDto)
+                  .collect(Collectors.toList());
+            });
+    long projection =
+        BenchmarkSupport.measure(
+            "employees list: DTO projection",
+            3,
+            10,
+            () -> {
+              entityManager.clear();
+              return employeeRepository.findAllDtos();
+            });
+
+    assertThat(projection).isLessThan(entities);
+  }
+
+  /** Entity by-ID read versus DTO projection by-ID read. */
+  @Test
+  void compareByIdReads() {
+    BenchmarkSupport.measure(
+        "employee by id: entity + convert",
+        1_000,
+        10_000,
+        () -> {
+          entityManager.clear();
+          return convertToDto(employeeRepository.findByIdWithDepartment(sampleId).get());
+        });
+    BenchmarkSupport.measure(
+        "employee by id: DTO projection",
+        1_000,
+        10_000,
+        () -> {
+          entityManager.clear();
+          return employeeRepository.findDtoById(sampleId).get();
+        });
+  }
+
+  /**
+   * Copies an entity into a DTO the same way the controller did before the projection read path.
+   *
+   * @param employee the employee entity
+   * @return the response DTO
+   */
+  private static EmployeeResponseDto convertToDto(Employee employee) {
+    EmployeeResponseDto dto = new EmployeeResponseDto();
+    dto.setId(employee.getId());
+    dto.setFirstName(employee.getFirstName());
+    dto.setLastName(employee.getLastName());
+    dto.setEmail(employee.getEmail());
+    dto.setAge(employee.getAge());
+    EmployeeResponseDto.DepartmentDto deptDto = new EmployeeResponseDto.DepartmentDto();
+    deptDto.setId(employee.getDepartment().getId());
+    deptDto.setName(employee.getDepartment().getName());
+    dto.setDepartment(deptDto);
+    return dto;
+  }
+}
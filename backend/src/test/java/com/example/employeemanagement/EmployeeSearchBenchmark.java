@@ -0,0 +1,54 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.service.EmployeeSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Measures build time of the in-memory employee search index and query latency for selective and
+ * broad queries. Defaults to one million employees, the size the index is sized for.
+ */
+@DataJpaTest
+@Import({EmployeeSearchIndex.class, EmployeeJdbcRepository.class})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class EmployeeSearchBenchmark {
+
+  /** The JDBC template, used to seed data quickly. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /** The search index under test. */
+  @Autowired private EmployeeSearchIndex employeeSearchIndex;
+
+  /** Seed the benchmark data set and build the index from it. */
+  @BeforeEach
+  void setUp() {
+    BenchmarkSupport.seed(
+        jdbcTemplate,
+        BenchmarkSupport.intProperty("benchmark.departments", 50),
+        BenchmarkSupport.intProperty("benchmark.employees", 1_000_000));
+    BenchmarkSupport.measure(
+        "search index: build",
+        0,
+        1,
+        () -> {
+          employeeSearchIndex.rebuild();
+          return employeeSearchIndex;
+        });
+  }
+
+  /** Query latency for a range of selectivities. */
+  @Test
+  void measureQueries() {
+    String[] queries = {"last1234", "employee99999", "first12 last4", "zzz", "department 7", "fi"};
+    for (String query : queries) {
+      BenchmarkSupport.measure(
+          "search: \"" + query + "\"", 200, 2_000, () -> employeeSearchIndex.search(query, 20));
+    }
+  }
+}
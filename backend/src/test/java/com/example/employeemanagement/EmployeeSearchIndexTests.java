@@ -0,0 +1,167 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.event.DepartmentChangeEvent;
+import com.example.employeemanagement.event.EmployeeChangeEvent;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeSearchIndex;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/** This class implements tests for the in-memory employee search index. */
+@DataJpaTest
+@Transactional
+@Import({EmployeeSearchIndex.class, EmployeeJdbcRepository.class})
+public class EmployeeSearchIndexTests {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The JDBC repository scanned by the index. */
+  @Autowired private EmployeeJdbcRepository employeeJdbcRepository;
+
+  /** The search index under test. */
+  @Autowired private EmployeeSearchIndex employeeSearchIndex;
+
+  /** The engineering department. */
+  private Department engineering;
+
+  /** Set up a department with three employees, then build the index. */
+  @BeforeEach
+  void setUp() {
+    engineering = new Department();
+    engineering.setName("Engineering");
+    engineering = departmentRepository.save(engineering);
+
+    saveEmployee("Johnny", "Appleseed", "johnny@example.com");
+    saveEmployee("John", "Smith", "jsmith@example.com");
+    saveEmployee("Mary", "Johnson", "mary@example.com");
+
+    employeeSearchIndex.rebuild();
+  }
+
+  /** An exact name must rank above a word prefix, which must rank above a substring. */
+  @Test
+  void shouldRankExactBeforePrefixBeforeSubstring() {
+    assertThat(employeeSearchIndex.search("john", 10))
+        .extracting(EmployeeResponseDto::getFirstName)
+        .containsExactly("John", "Johnny", "Mary");
+    assertThat(employeeSearchIndex.search("ohn", 10)).hasSize(3);
+  }
+
+  /** Every term must match, in any field, and short terms only match word prefixes. */
+  @Test
+  void shouldRequireEveryTerm() {
+    assertThat(employeeSearchIndex.search("jo smith", 10))
+        .extracting(EmployeeResponseDto::getLastName)
+        .containsExactly("Smith");
+    assertThat(employeeSearchIndex.search("engin mary", 10))
+        .extracting(EmployeeResponseDto::getLastName)
+        .containsExactly("Johnson");
+    assertThat(employeeSearchIndex.search("oh", 10)).isEmpty();
+  }
+
+  /** Committed changes must be reflected without a rebuild. */
+  @Test
+  void shouldApplyChangesIncrementally() {
+    EmployeeResponseDto john = employeeSearchIndex.search("smith", 1).get(0);
+    EmployeeResponseDto renamed =
+        new EmployeeResponseDto(
+            john.getId(),
+            "John",
+            "Doe",
+            "jdoe@example.com",
+            john.getAge(),
+            engineering.getId(),
+            "Engineering");
+    employeeSearchIndex.onEmployeeChange(EmployeeChangeEvent.of(john, renamed));
+
+    assertThat(employeeSearchIndex.search("smith", 10)).isEmpty();
+    assertThat(employeeSearchIndex.search("doe", 10))
+        .extracting(EmployeeResponseDto::getId)
+        .containsExactly(john.getId());
+
+    employeeSearchIndex.onDepartmentChange(
+        DepartmentChangeEvent.saved(engineering.getId(), "Research"));
+    assertThat(employeeSearchIndex.search("research", 10)).hasSize(3);
+
+    employeeSearchIndex.onEmployeeChange(EmployeeChangeEvent.of(renamed, null));
+    assertThat(employeeSearchIndex.search("doe", 10)).isEmpty();
+    assertThat(employeeSearchIndex.size()).isEqualTo(2);
+  }
+
+  /** Changes committed while the index is being built must be applied once the build ends. */
+  @Test
+  void shouldApplyChangesCommittedDuringBuild() throws InterruptedException {
+    EmployeeSearchIndex index = new EmployeeSearchIndex();
+    EmployeeResponseDto hired =
+        new EmployeeResponseDto(
+            Long.MAX_VALUE,
+            "Grace",
+            "Hopper",
+            "grace@example.com",
+            30,
+            engineering.getId(),
+            "Engineering");
+    Thread change = new Thread(() -> index.onEmployeeChange(EmployeeChangeEvent.of(null, hired)));
+    ReflectionTestUtils.setField(index, "fetchSize", 100);
+    ReflectionTestUtils.setField(
+        index,
+        "employeeJdbcRepository",
+        new EmployeeJdbcRepository() {
+          @Override
+          public void streamAllWithDepartments(
+              int fetchSize, Consumer<EmployeeResponseDto> consumer) {
+            employeeJdbcRepository.streamAllWithDepartments(fetchSize, consumer);
+            // Commit a change after the scan and let it reach the index before the build ends
+            change.start();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (change.getState() != Thread.State.WAITING
+                && change.getState() != Thread.State.TERMINATED
+                && System.currentTimeMillis() < deadline) {
+              Thread.onSpinWait();
+            }
+          }
+        });
+
+    index.rebuild();
+    change.join();
+
+    assertThat(index.size()).isEqualTo(4);
+    assertThat(index.search("hopper", 10))
+        .extracting(EmployeeResponseDto::getId)
+        .containsExactly(Long.MAX_VALUE);
+  }
+
+  /**
+   * Saves an employee in the engineering department.
+   *
+   * @param firstName the first name
+   * @param lastName the last name
+   * @param email the email
+   */
+  private void saveEmployee(String firstName, String lastName, String email) {
+    Employee employee = new Employee();
+    employee.setFirstName(firstName);
+    employee.setLastName(lastName);
+    employee.setEmail(email);
+    employee.setAge(30);
+    employee.setDepartment(engineering);
+    employeeRepository.save(employee);
+  }
+}
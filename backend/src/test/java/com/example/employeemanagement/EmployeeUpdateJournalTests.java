@@ -0,0 +1,124 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.service.EmployeeUpdateJournal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** This class implements tests for the journal behind asynchronous employee updates. */
+public class EmployeeUpdateJournalTests {
+
+  /** Maps journal lines to and from JSON. */
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  /** Directory holding the journal files. */
+  @TempDir Path directory;
+
+  /** Replay must keep the last update per employee and honor discards. */
+  @Test
+  void shouldRecoverLastUpdatePerEmployee() throws IOException {
+    Path file = directory.resolve("updates.journal");
+    try (EmployeeUpdateJournal journal = new EmployeeUpdateJournal(file, objectMapper, false)) {
+      assertThat(journal.recover()).isEmpty();
+      journal.append(1L, request("first", 1L));
+      journal.append(2L, request("second", 1L));
+      journal.append(1L, request("latest", 2L));
+      journal.append(3L, request("dropped", 1L));
+      journal.appendDiscard(3L);
+    }
+
+    try (EmployeeUpdateJournal journal = new EmployeeUpdateJournal(file, objectMapper, false)) {
+      Map<Long, EmployeeRequestDto> pending = journal.recover();
+
+      assertThat(pending).containsOnlyKeys(1L, 2L);
+      assertThat(pending.keySet()).containsExactly(1L, 2L);
+      assertThat(pending.get(1L).getFirstName()).isEqualTo("latest");
+      assertThat(pending.get(1L).getDepartment().getId()).isEqualTo(2L);
+    }
+    // Recovery compacts the journal to one line per pending update
+    assertThat(Files.readAllLines(file)).hasSize(2);
+  }
+
+  /** A crash during a flush must replay both the flushed and the newer journal. */
+  @Test
+  void shouldRecoverUnreleasedFlush() throws IOException {
+    Path file = directory.resolve("updates.journal");
+    try (EmployeeUpdateJournal journal = new EmployeeUpdateJournal(file, objectMapper, false)) {
+      journal.recover();
+      journal.append(1L, request("flushing", 1L));
+      journal.append(2L, request("flushing", 1L));
+      journal.rotate();
+      journal.append(2L, request("newer", 1L));
+    }
+
+    try (EmployeeUpdateJournal journal = new EmployeeUpdateJournal(file, objectMapper, false)) {
+      Map<Long, EmployeeRequestDto> pending = journal.recover();
+
+      assertThat(pending.get(1L).getFirstName()).isEqualTo("flushing");
+      assertThat(pending.get(2L).getFirstName()).isEqualTo("newer");
+    }
+    assertThat(directory.resolve("updates.journal.flushing")).doesNotExist();
+  }
+
+  /** A released flush must not be replayed. */
+  @Test
+  void shouldNotRecoverReleasedFlush() throws IOException {
+    Path file = directory.resolve("updates.journal");
+    try (EmployeeUpdateJournal journal = new EmployeeUpdateJournal(file, objectMapper, false)) {
+      journal.recover();
+      journal.append(1L, request("applied", 1L));
+      journal.rotate();
+      journal.release();
+    }
+
+    try (EmployeeUpdateJournal journal = new EmployeeUpdateJournal(file, objectMapper, false)) {
+      assertThat(journal.recover()).isEmpty();
+    }
+  }
+
+  /** A line torn by a crash mid-write must be skipped. */
+  @Test
+  void shouldSkipTornLine() throws IOException {
+    Path file = directory.resolve("updates.journal");
+    try (EmployeeUpdateJournal journal = new EmployeeUpdateJournal(file, objectMapper, false)) {
+      journal.recover();
+      journal.append(1L, request("complete", 1L));
+    }
+    Files.write(
+        file,
+        "{\"id\":2,\"employee\":{\"firstN".getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.APPEND);
+
+    try (EmployeeUpdateJournal journal = new EmployeeUpdateJournal(file, objectMapper, false)) {
+      assertThat(journal.recover()).containsOnlyKeys(1L);
+    }
+  }
+
+  /**
+   * Creates an update request.
+   *
+   * @param firstName the first name
+   * @param departmentId the department ID
+   * @return the request
+   */
+  private static EmployeeRequestDto request(String firstName, Long departmentId) {
+    EmployeeRequestDto request = new EmployeeRequestDto();
+    request.setFirstName(firstName);
+    request.setLastName("Doe");
+    request.setEmail(firstName + "@example.com");
+    request.setAge(30);
+    EmployeeRequestDto.DepartmentRef department = new EmployeeRequestDto.DepartmentRef();
+    department.setId(departmentId);
+    request.setDepartment(department);
+    return request;
+  }
+}
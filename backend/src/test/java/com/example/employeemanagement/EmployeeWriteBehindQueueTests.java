@@ -0,0 +1,244 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.service.DepartmentService;
+import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.service.EmployeeWriteBehindQueue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * This class implements tests for the coalescing, discarding, requeueing and replay of
+ * asynchronous employee updates. The employee service is mocked, so each test controls what a
+ * flush sees and what happens while it runs.
+ */
+public class EmployeeWriteBehindQueueTests {
+
+  /** Directory holding the journal file. */
+  @TempDir Path directory;
+
+  /** The employee service, which receives the flushed updates. */
+  private EmployeeService employeeService;
+
+  /** The department service, which answers department existence checks. */
+  private DepartmentService departmentService;
+
+  /** The updates each flush applied, in order, skipping the superseded ones. */
+  private final List<Map<Long, EmployeeRequestDto>> applied = new ArrayList<>();
+
+  /** The queues created by the test, shut down afterwards. */
+  private final List<EmployeeWriteBehindQueue> queues = new ArrayList<>();
+
+  /** Set up mocks that know every employee and department and record every applied update. */
+  @BeforeEach
+  void setUp() {
+    employeeService = mock(EmployeeService.class);
+    departmentService = mock(DepartmentService.class);
+    when(employeeService.getEmployeeDtoById(anyLong()))
+        .thenReturn(Optional.of(new EmployeeResponseDto()));
+    when(departmentService.getDepartmentRef(anyLong()))
+        .thenReturn(new EmployeeResponseDto.DepartmentDto());
+    whenApplied(invocation -> record(invocation.getArgument(0), invocation.getArgument(1)));
+  }
+
+  /** Close the journals. */
+  @AfterEach
+  void tearDown() {
+    queues.forEach(EmployeeWriteBehindQueue::shutdown);
+  }
+
+  /** Only the last update of an employee accepted before a flush must be written. */
+  @Test
+  void shouldCoalesceToLastUpdate() throws IOException {
+    EmployeeWriteBehindQueue queue = newQueue();
+    queue.enqueue(1L, request("first"));
+    queue.enqueue(2L, request("other"));
+    queue.enqueue(1L, request("last"));
+    assertThat(queue.size()).isEqualTo(2);
+
+    assertThat(queue.flush()).isEqualTo(2);
+
+    assertThat(applied).hasSize(1);
+    assertThat(applied.get(0).keySet()).containsExactly(1L, 2L);
+    assertThat(applied.get(0).get(1L).getFirstName()).isEqualTo("last");
+    assertThat(queue.size()).isZero();
+  }
+
+  /** A synchronous write during a flush must make the flush skip the update, and not requeue it. */
+  @Test
+  void shouldSkipUpdateDiscardedDuringFlush() throws IOException {
+    EmployeeWriteBehindQueue queue = newQueue();
+    queue.enqueue(1L, request("queued"));
+    queue.enqueue(2L, request("kept"));
+    whenApplied(
+        invocation -> {
+          queue.discard(1L);
+          return record(invocation.getArgument(0), invocation.getArgument(1));
+        });
+
+    assertThat(queue.flush()).isEqualTo(1);
+
+    assertThat(applied.get(0)).containsOnlyKeys(2L);
+    assertThat(queue.size()).isZero();
+    assertThat(newQueue().size()).isZero();
+  }
+
+  /** A failed batch must be queued again and applied by the next flush. */
+  @Test
+  void shouldRequeueFailedBatch() throws IOException {
+    EmployeeWriteBehindQueue queue = newQueue();
+    queue.enqueue(1L, request("retried"));
+    whenApplied(
+        invocation -> {
+          throw new IllegalStateException("Database unavailable");
+        });
+
+    assertThatThrownBy(queue::flush).isInstanceOf(IllegalStateException.class);
+    assertThat(queue.size()).isEqualTo(1);
+
+    whenApplied(invocation -> record(invocation.getArgument(0), invocation.getArgument(1)));
+    assertThat(queue.flush()).isEqualTo(1);
+    assertThat(applied.get(0).get(1L).getFirstName()).isEqualTo("retried");
+    assertThat(queue.size()).isZero();
+  }
+
+  /** An update accepted during a failed flush must win over the failed one. */
+  @Test
+  void shouldKeepNewerUpdateOverFailedBatch() throws IOException {
+    EmployeeWriteBehindQueue queue = newQueue();
+    queue.enqueue(1L, request("failed"));
+    whenApplied(
+        invocation -> {
+          queue.enqueue(1L, request("newer"));
+          throw new IllegalStateException("Database unavailable");
+        });
+
+    assertThatThrownBy(queue::flush).isInstanceOf(IllegalStateException.class);
+
+    whenApplied(invocation -> record(invocation.getArgument(0), invocation.getArgument(1)));
+    assertThat(queue.flush()).isEqualTo(1);
+    assertThat(applied.get(0).get(1L).getFirstName()).isEqualTo("newer");
+  }
+
+  /** A failed update discarded during the flush must not be queued again. */
+  @Test
+  void shouldNotRequeueDiscardedUpdate() throws IOException {
+    EmployeeWriteBehindQueue queue = newQueue();
+    queue.enqueue(1L, request("discarded"));
+    whenApplied(
+        invocation -> {
+          queue.discard(1L);
+          throw new IllegalStateException("Database unavailable");
+        });
+
+    assertThatThrownBy(queue::flush).isInstanceOf(IllegalStateException.class);
+
+    assertThat(queue.size()).isZero();
+    assertThat(newQueue().size()).isZero();
+  }
+
+  /** Updates acknowledged but never flushed must be replayed by the next instance. */
+  @Test
+  void shouldReplayPendingUpdatesAfterRestart() throws IOException {
+    EmployeeWriteBehindQueue crashed = newQueue();
+    crashed.enqueue(1L, request("first"));
+    crashed.enqueue(2L, request("dropped"));
+    crashed.enqueue(1L, request("last"));
+    crashed.discard(2L);
+
+    EmployeeWriteBehindQueue restarted = newQueue();
+    assertThat(restarted.size()).isEqualTo(1);
+    assertThat(restarted.flush()).isEqualTo(1);
+    assertThat(applied.get(0)).containsOnlyKeys(1L);
+    assertThat(applied.get(0).get(1L).getFirstName()).isEqualTo("last");
+  }
+
+  /**
+   * Creates an enabled queue on the test's journal, with no background flushes, and replays the
+   * journal.
+   *
+   * @return the queue
+   * @throws IOException if the journal cannot be replayed
+   */
+  private EmployeeWriteBehindQueue newQueue() throws IOException {
+    EmployeeWriteBehindQueue queue =
+        new EmployeeWriteBehindQueue(
+            true, directory.resolve("updates.journal").toString(), false, Long.MAX_VALUE, 100);
+    ReflectionTestUtils.setField(queue, "employeeService", employeeService);
+    ReflectionTestUtils.setField(queue, "departmentService", departmentService);
+    ReflectionTestUtils.setField(queue, "objectMapper", new ObjectMapper());
+    queue.recover();
+    queues.add(queue);
+    return queue;
+  }
+
+  /**
+   * Sets what the employee service does when a flush applies a batch.
+   *
+   * @param answer the behavior
+   */
+  @SuppressWarnings("unchecked")
+  private void whenApplied(Answer<Integer> answer) {
+    doAnswer(answer).when(employeeService).applyUpdates(any(Map.class), any(Predicate.class));
+  }
+
+  /**
+   * Records the updates of a batch that are not superseded, like {@link
+   * EmployeeService#applyUpdates} applies them.
+   *
+   * @param updates the batch
+   * @param superseded tells which updates must be skipped
+   * @return the number of updates recorded
+   */
+  private int record(Map<Long, EmployeeRequestDto> updates, Predicate<Long> superseded) {
+    Map<Long, EmployeeRequestDto> kept = new LinkedHashMap<>();
+    updates.forEach(
+        (id, request) -> {
+          if (!superseded.test(id)) {
+            kept.put(id, request);
+          }
+        });
+    applied.add(kept);
+    return kept.size();
+  }
+
+  /**
+   * Creates an update request.
+   *
+   * @param firstName the first name, identifying the update
+   * @return the request
+   */
+  private static EmployeeRequestDto request(String firstName) {
+    EmployeeRequestDto request = new EmployeeRequestDto();
+    request.setFirstName(firstName);
+    request.setLastName("Doe");
+    request.setEmail(firstName + "@example.com");
+    request.setAge(30);
+    EmployeeRequestDto.DepartmentRef department = new EmployeeRequestDto.DepartmentRef();
+    department.setId(1L);
+    request.setDepartment(department);
+    return request;
+  }
+}
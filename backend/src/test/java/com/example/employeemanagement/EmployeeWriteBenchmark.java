@@ -0,0 +1,124 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.dto.EmployeeRequestDto;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.service.DepartmentService;
+import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.service.EntityCacheService;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Measures employee create and update latency in a small and a large department, next to the cost
+ * of loading the large department with its staff as the write path used to. Defaults to a
+ * department of 100,000 employees; override with {@code -Dbenchmark.employees}.
+ */
+@DataJpaTest
+@Import({
+  EmployeeService.class,
+  DepartmentService.class,
+  EntityCacheService.class,
+  EmployeeJdbcRepository.class,
+  DepartmentJdbcRepository.class
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class EmployeeWriteBenchmark {
+
+  /** Logger for the derived measurements. */
+  private static final Logger log = LoggerFactory.getLogger(EmployeeWriteBenchmark.class);
+
+  /** The JDBC template, used to seed data quickly. */
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  /** The entity manager, cleared between runs as each request starts with an empty context. */
+  @Autowired private EntityManager entityManager;
+
+  /** The employee service under test. */
+  @Autowired private EmployeeService employeeService;
+
+  /** The department service, used for the previous department resolution. */
+  @Autowired private DepartmentService departmentService;
+
+  /** A department with a handful of employees. */
+  private long smallDepartmentId;
+
+  /** A department with {@code benchmark.employees} employees. */
+  private long largeDepartmentId;
+
+  /** Seed one large department and one small one. */
+  @BeforeEach
+  void setUp() {
+    largeDepartmentId =
+        BenchmarkSupport.seed(
+            jdbcTemplate, 1, BenchmarkSupport.intProperty("benchmark.employees", 100_000))[0];
+    jdbcTemplate.update("INSERT INTO departments (name) VALUES ('Small')");
+    smallDepartmentId =
+        jdbcTemplate.queryForObject("SELECT id FROM departments WHERE name = 'Small'", Long.class);
+    for (int i = 0; i < 10; i++) {
+      jdbcTemplate.update(
+          "INSERT INTO employees (first_name, last_name, email, age, department_id) "
+              + "VALUES ('Small', 'Staff', 'small@example.com', 30, ?)",
+          smallDepartmentId);
+    }
+  }
+
+  /** Write latency must not depend on how many employees the department already has. */
+  @Test
+  void compareDepartmentSizes() {
+    long small = measureWrites("small department", smallDepartmentId);
+    long large = measureWrites("large department", largeDepartmentId);
+    long staffLoad =
+        BenchmarkSupport.measure(
+            "large department: load with staff",
+            2,
+            5,
+            () -> {
+              entityManager.clear();
+              return departmentService.getDepartmentById(largeDepartmentId);
+            });
+
+    assertThat(large).isLessThan(staffLoad);
+    log.info(
+        String.format("[benchmark] large/small write latency ratio %.2f", (double) large / small));
+  }
+
+  /**
+   * Measures a create followed by an update of the created employee.
+   *
+   * @param label the name printed for this variant
+   * @param departmentId the department the employee joins
+   * @return the median latency in nanoseconds
+   */
+  private long measureWrites(String label, long departmentId) {
+    EmployeeRequestDto request = new EmployeeRequestDto();
+    request.setFirstName("Bench");
+    request.setLastName("Mark");
+    request.setEmail("bench@example.com");
+    request.setAge(40);
+    EmployeeRequestDto.DepartmentRef department = new EmployeeRequestDto.DepartmentRef();
+    department.setId(departmentId);
+    request.setDepartment(department);
+
+    return BenchmarkSupport.measure(
+        label + ": create + update",
+        200,
+        2_000,
+        () -> {
+          entityManager.clear();
+          EmployeeResponseDto created = employeeService.createEmployee(request);
+          return employeeService.updateEmployee(created.getId(), request);
+        });
+  }
+}
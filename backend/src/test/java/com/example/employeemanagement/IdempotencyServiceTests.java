@@ -0,0 +1,194 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.dto.DepartmentRequestDto;
+import com.example.employeemanagement.exception.IdempotencyException;
+import com.example.employeemanagement.repository.IdempotencyJdbcRepository;
+import com.example.employeemanagement.service.IdempotencyService;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/** This class implements tests for Idempotency-Key handling. */
+@DataJpaTest
+@Import({
+  IdempotencyService.class,
+  IdempotencyJdbcRepository.class,
+  JacksonAutoConfiguration.class
+})
+public class IdempotencyServiceTests {
+
+  /** The service under test, keeping records in memory. */
+  @Autowired private IdempotencyService idempotencyService;
+
+  /** The repository behind persisted records. */
+  @Autowired private IdempotencyJdbcRepository idempotencyJdbcRepository;
+
+  /** A retry with the same key and body must replay the response without running again. */
+  @Test
+  void shouldReplayRepeatedKey() {
+    AtomicInteger runs = new AtomicInteger();
+
+    ResponseEntity<?> first = create("replay", "Research", runs);
+    ResponseEntity<?> second = create("replay", "Research", runs);
+
+    assertThat(runs).hasValue(1);
+    assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(second.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(second.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+    assertThat(second.getBody()).isEqualTo(first.getBody());
+  }
+
+  /** Requests without a key must run every time. */
+  @Test
+  void shouldRunEveryRequestWithoutKey() {
+    AtomicInteger runs = new AtomicInteger();
+
+    create(null, "Research", runs);
+    create(null, "Research", runs);
+
+    assertThat(runs).hasValue(2);
+  }
+
+  /** Reusing a key with a different body must be rejected. */
+  @Test
+  void shouldRejectKeyReusedWithDifferentBody() {
+    AtomicInteger runs = new AtomicInteger();
+    create("reused", "Research", runs);
+
+    assertThatThrownBy(() -> create("reused", "Sales", runs))
+        .isInstanceOf(IdempotencyException.class)
+        .extracting("status")
+        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    assertThat(runs).hasValue(1);
+  }
+
+  /** A failed request must not be recorded, so a retry runs again. */
+  @Test
+  void shouldNotRecordFailures() {
+    AtomicInteger runs = new AtomicInteger();
+    assertThatThrownBy(
+            () ->
+                idempotencyService.execute(
+                    "POST /test",
+                    "failed",
+                    request("Research"),
+                    () -> {
+                      runs.incrementAndGet();
+                      throw new IllegalStateException("down");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    create("failed", "Research", runs);
+
+    assertThat(runs).hasValue(2);
+  }
+
+  /** A duplicate arriving while the first request runs must wait for it instead of running. */
+  @Test
+  void shouldWaitForInFlightDuplicate() throws Exception {
+    AtomicInteger runs = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<ResponseEntity<?>> first =
+          executor.submit(
+              () ->
+                  idempotencyService.execute(
+                      "POST /test",
+                      "concurrent",
+                      request("Research"),
+                      () -> {
+                        runs.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", 1));
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<ResponseEntity<?>> second =
+          executor.submit(() -> create("concurrent", "Research", runs));
+      Thread.sleep(100);
+      release.countDown();
+
+      assertThat(second.get(5, TimeUnit.SECONDS).getBody())
+          .isEqualTo(first.get(5, TimeUnit.SECONDS).getBody());
+      assertThat(runs).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** A second claim of a persisted key must fail, which is what serializes instances. */
+  @Test
+  void shouldRejectSecondClaimOfPersistedKey() {
+    Instant now = Instant.now();
+    idempotencyJdbcRepository.insertPending("POST /test claimed", "fingerprint", now);
+
+    assertThatThrownBy(
+            () -> idempotencyJdbcRepository.insertPending("POST /test claimed", "other", now))
+        .isInstanceOf(DuplicateKeyException.class);
+    assertThat(idempotencyJdbcRepository.find("POST /test claimed", now.minusSeconds(60)))
+        .hasValueSatisfying(record -> assertThat(record.getStatus()).isNull());
+    assertThat(idempotencyJdbcRepository.find("POST /test claimed", now.plusSeconds(60))).isEmpty();
+  }
+
+  /**
+   * Runs a create request that counts its executions.
+   *
+   * @param key the idempotency key, or {@code null}
+   * @param name the department name sent as the body
+   * @param runs counts executions
+   * @return the response
+   */
+  private ResponseEntity<?> create(String key, String name, AtomicInteger runs) {
+    return idempotencyService.execute(
+        "POST /test",
+        key,
+        request(name),
+        () ->
+            ResponseEntity.status(HttpStatus.CREATED)
+                .body(Map.of("id", runs.incrementAndGet(), "name", name)));
+  }
+
+  /**
+   * Creates a department request.
+   *
+   * @param name the department name
+   * @return the request
+   */
+  private static DepartmentRequestDto request(String name) {
+    DepartmentRequestDto request = new DepartmentRequestDto();
+    request.setName(name);
+    return request;
+  }
+
+  /**
+   * Waits for a latch, failing the request if interrupted.
+   *
+   * @param latch the latch
+   */
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
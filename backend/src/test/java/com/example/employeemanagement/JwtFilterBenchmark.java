@@ -0,0 +1,140 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.security.JwtRequestFilter;
+import com.example.employeemanagement.security.JwtTokenUtil;
+import com.example.employeemanagement.security.UserStatusCache;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Date;
+import javax.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Compares per-request cost of JWT authentication in the request filter: the previous filter,
+ * which parsed and verified the token three times, against verifying once, with the verified-token
+ * cache disabled and warm. The user lookup is an in-memory stub, so only token handling differs.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class JwtFilterBenchmark {
+
+  /** The signing secret, Base64-encoded as the JWT library expects. */
+  private static final String SECRET = "YmVuY2htYXJrLW9ubHktc2lnbmluZy1zZWNyZXQtZm9yLWp3dA==";
+
+  /** Answers every lookup without a database. */
+  private static final UserDetailsService USERS =
+      username -> new User(username, "password", Collections.emptyList());
+
+  /** Leave no authentication behind for other tests on this thread. */
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  /** Previous filter versus verify-once, uncached and cached. */
+  @Test
+  void compareFilters() {
+    JwtTokenUtil uncached = tokenUtil(0);
+    JwtTokenUtil cached = tokenUtil(10_000);
+    String token = cached.generateToken("benchmark");
+
+    long before =
+        BenchmarkSupport.measure(
+            "jwt filter: verify three times (before)",
+            10_000,
+            100_000,
+            () -> previousFilter(uncached, token));
+    long once =
+        BenchmarkSupport.measure(
+            "jwt filter: verify once, no cache",
+            10_000,
+            100_000,
+            () -> filter(filter(uncached), token));
+    long hit =
+        BenchmarkSupport.measure(
+            "jwt filter: verified-token cache hit",
+            10_000,
+            100_000,
+            () -> filter(filter(cached), token));
+
+    assertThat(once).isLessThan(before);
+    assertThat(hit).isLessThan(once);
+  }
+
+  /**
+   * Creates a token utility with the benchmark secret.
+   *
+   * @param cacheSize the verified-token cache size; {@code 0} disables it
+   * @return the utility
+   */
+  private static JwtTokenUtil tokenUtil(int cacheSize) {
+    JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(cacheSize, 300);
+    ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+    return jwtTokenUtil;
+  }
+
+  /**
+   * Creates a request filter.
+   *
+   * @param jwtTokenUtil the token utility it uses
+   * @return the filter
+   */
+  private static JwtRequestFilter filter(JwtTokenUtil jwtTokenUtil) {
+    JwtRequestFilter filter = new JwtRequestFilter();
+    ReflectionTestUtils.setField(filter, "jwtTokenUtil", jwtTokenUtil);
+    ReflectionTestUtils.setField(filter, "userDetailsService", USERS);
+    // Load users from the stub on every request, as the previous filter did
+    ReflectionTestUtils.setField(filter, "principalMode", "database");
+    ReflectionTestUtils.setField(filter, "userStatusCache", new UserStatusCache(0, 60));
+    return filter;
+  }
+
+  /**
+   * Runs one request carrying a token through a filter.
+   *
+   * @param filter the filter
+   * @param token the token
+   * @return the authentication the filter established
+   */
+  private static Authentication filter(JwtRequestFilter filter, String token) {
+    SecurityContextHolder.clearContext();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+    request.addHeader("Authorization", "Bearer " + token);
+    try {
+      filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    } catch (IOException | ServletException e) {
+      throw new IllegalStateException(e);
+    }
+    return SecurityContextHolder.getContext().getAuthentication();
+  }
+
+  /**
+   * Authenticates a token the way the filter did before it verified tokens once: the username was
+   * extracted, then extracted again and the expiration read during validation, each a full parse
+   * and signature check.
+   *
+   * @param jwtTokenUtil the token utility
+   * @param token the token
+   * @return the username, if the token was valid
+   */
+  private static String previousFilter(JwtTokenUtil jwtTokenUtil, String token) {
+    String username = jwtTokenUtil.extractUsername(token);
+    UserDetails userDetails = USERS.loadUserByUsername(username);
+    boolean valid =
+        jwtTokenUtil.extractUsername(token).equals(userDetails.getUsername())
+            && !jwtTokenUtil.extractExpiration(token).before(new Date());
+    return valid ? username : null;
+  }
+}
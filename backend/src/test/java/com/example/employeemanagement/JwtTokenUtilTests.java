@@ -0,0 +1,75 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.security.JwtTokenUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/** This class implements tests for JWT verification and the verified-token cache. */
+public class JwtTokenUtilTests {
+
+  /** The signing secret, Base64-encoded as the JWT library expects. */
+  private static final String SECRET = "dGVzdC1vbmx5LXNpZ25pbmctc2VjcmV0LWZvci1qd3QtdGVzdHM=";
+
+  /** The utility under test. */
+  private JwtTokenUtil jwtTokenUtil;
+
+  /** Create the utility with a test secret. */
+  @BeforeEach
+  void setUp() {
+    jwtTokenUtil = new JwtTokenUtil(100, 300);
+    ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+  }
+
+  /** A repeated token must be verified once and then answered from the cache. */
+  @Test
+  void shouldVerifyRepeatedTokenOnce() {
+    String token = jwtTokenUtil.generateToken("ada");
+
+    JwtTokenUtil.VerifiedToken first = jwtTokenUtil.verify(token);
+    JwtTokenUtil.VerifiedToken second = jwtTokenUtil.verify(token);
+
+    assertThat(first.getSubject()).isEqualTo("ada");
+    assertThat(first.getExpiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+    assertThat(second).isSameAs(first);
+    assertThat(jwtTokenUtil.stats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    assertThat(jwtTokenUtil.validateToken(token, "ada")).isTrue();
+    assertThat(jwtTokenUtil.validateToken(token, "bob")).isFalse();
+  }
+
+  /** Tokens with a bad signature or in a bad format must be rejected and not cached. */
+  @Test
+  void shouldRejectInvalidTokens() {
+    String token = jwtTokenUtil.generateToken("ada");
+    String forged =
+        Jwts.builder()
+            .setSubject("ada")
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(SignatureAlgorithm.HS256, "b3RoZXItc2VjcmV0LW90aGVyLXNlY3JldC1vdGhlcg==")
+            .compact();
+
+    assertThat(jwtTokenUtil.verify(forged)).isNull();
+    assertThat(jwtTokenUtil.verify(token.substring(0, token.length() - 2))).isNull();
+    assertThat(jwtTokenUtil.verify("not-a-token")).isNull();
+    assertThat(jwtTokenUtil.verify(forged)).isNull();
+    assertThat(jwtTokenUtil.stats()).containsEntry("hits", 0L);
+  }
+
+  /** An expired token must be rejected. */
+  @Test
+  void shouldRejectExpiredToken() {
+    String expired =
+        Jwts.builder()
+            .setSubject("ada")
+            .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+            .signWith(SignatureAlgorithm.HS256, SECRET)
+            .compact();
+
+    assertThat(jwtTokenUtil.verify(expired)).isNull();
+  }
+}
@@ -0,0 +1,97 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.exception.TooManyRequestsException;
+import com.example.employeemanagement.security.LoginRateLimiter;
+import com.example.employeemanagement.security.StripedTokenBuckets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/** This class implements tests for login throttling. */
+public class LoginRateLimiterTests {
+
+  /** A bucket must allow its capacity at once, then refill at its rate. */
+  @Test
+  void shouldAllowBurstThenRefill() {
+    StripedTokenBuckets buckets = new StripedTokenBuckets(3, 60, 100, 4);
+    long now = 0;
+
+    assertThat(buckets.tryAcquire("ada", now)).isZero();
+    assertThat(buckets.tryAcquire("ada", now)).isZero();
+    assertThat(buckets.tryAcquire("ada", now)).isZero();
+    assertThat(buckets.tryAcquire("ada", now)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    assertThat(buckets.tryAcquire("grace", now)).isZero();
+
+    now += TimeUnit.SECONDS.toNanos(1);
+    assertThat(buckets.tryAcquire("ada", now)).isZero();
+    assertThat(buckets.tryAcquire("ada", now)).isPositive();
+
+    now += TimeUnit.MINUTES.toNanos(1);
+    assertThat(buckets.tryAcquire("ada", now)).isZero();
+    assertThat(buckets.tryAcquire("ada", now)).isZero();
+    assertThat(buckets.tryAcquire("ada", now)).isZero();
+    assertThat(buckets.tryAcquire("ada", now)).isPositive();
+  }
+
+  /** Buckets beyond the key limit must be evicted least recently used first. */
+  @Test
+  void shouldBoundTrackedKeys() {
+    StripedTokenBuckets buckets = new StripedTokenBuckets(1, 1, 2, 1);
+
+    buckets.tryAcquire("a", 0);
+    buckets.tryAcquire("b", 0);
+    buckets.tryAcquire("c", 0);
+
+    assertThat(buckets.size()).isEqualTo(2);
+    assertThat(buckets.evictions()).isEqualTo(1);
+    assertThat(buckets.tryAcquire("c", 0)).isPositive();
+    assertThat(buckets.tryAcquire("a", 0)).isZero();
+  }
+
+  /** Attempts against one username must be limited across addresses, whatever the case. */
+  @Test
+  void shouldLimitUsernameAcrossAddresses() {
+    LoginRateLimiter limiter = new LoginRateLimiter(true, 10, 1, 2, 1, 100, 4);
+
+    limiter.check("ada", "10.0.0.1");
+    limiter.check("ADA", "10.0.0.2");
+
+    assertThatThrownBy(() -> limiter.check("Ada", "10.0.0.3"))
+        .isInstanceOf(TooManyRequestsException.class)
+        .extracting("retryAfterSeconds")
+        .isEqualTo(60L);
+    limiter.check("grace", "10.0.0.3");
+    assertThat(limiter.stats())
+        .containsEntry("allowed", 3L)
+        .containsEntry("rejectedByUsername", 1L)
+        .containsEntry("rejectedByAddress", 0L)
+        .containsEntry("trackedUsernames", 2);
+  }
+
+  /** Attempts from one address must be limited across usernames. */
+  @Test
+  void shouldLimitAddressAcrossUsernames() {
+    LoginRateLimiter limiter = new LoginRateLimiter(true, 2, 1, 10, 1, 100, 4);
+
+    limiter.check("ada", "10.0.0.1");
+    limiter.check("grace", "10.0.0.1");
+
+    assertThatThrownBy(() -> limiter.check("linus", "10.0.0.1"))
+        .isInstanceOf(TooManyRequestsException.class);
+    limiter.check("linus", "10.0.0.2");
+    assertThat(limiter.stats()).containsEntry("rejectedByAddress", 1L);
+  }
+
+  /** A disabled limiter must let everything through. */
+  @Test
+  void shouldAllowEverythingWhenDisabled() {
+    LoginRateLimiter limiter = new LoginRateLimiter(false, 1, 1, 1, 1, 100, 4);
+
+    limiter.check("ada", "10.0.0.1");
+    limiter.check("ada", "10.0.0.1");
+
+    assertThat(limiter.stats()).containsEntry("allowed", 0L);
+  }
+}
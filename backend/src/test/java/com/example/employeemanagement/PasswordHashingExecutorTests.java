@@ -0,0 +1,110 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.exception.TooManyRequestsException;
+import com.example.employeemanagement.security.OffloadingPasswordEncoder;
+import com.example.employeemanagement.security.PasswordHashingExecutor;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/** This class implements tests for the bounded password hashing pool. */
+public class PasswordHashingExecutorTests {
+
+  /** A pool with one thread and room for one waiting task. */
+  private final PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(1, 1, 7);
+
+  /** Stop the pool. */
+  @AfterEach
+  void tearDown() {
+    hashingExecutor.shutdown();
+  }
+
+  /** Hashing and verification must run on the pool and give the delegate's results. */
+  @Test
+  void shouldEncodeAndMatchOnPool() {
+    PasswordEncoder encoder =
+        new OffloadingPasswordEncoder(new BCryptPasswordEncoder(4), hashingExecutor);
+
+    String hash = encoder.encode("secret");
+
+    assertThat(encoder.matches("secret", hash)).isTrue();
+    assertThat(encoder.matches("other", hash)).isFalse();
+    assertThat(hashingExecutor.stats()).containsEntry("completed", 3L);
+    assertThat(hashingExecutor.run(() -> Thread.currentThread().getName()))
+        .startsWith("password-hashing-");
+  }
+
+  /** Work beyond the pool and its queue must be shed with the configured Retry-After. */
+  @Test
+  void shouldShedWorkWhenQueueIsFull() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService callers = Executors.newFixedThreadPool(2);
+    try {
+      Future<Boolean> running =
+          callers.submit(
+              () ->
+                  hashingExecutor.run(
+                      () -> {
+                        started.countDown();
+                        return await(release);
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      Future<Boolean> queued = callers.submit(() -> hashingExecutor.run(() -> true));
+      while (!hashingExecutor.stats().get("queueDepth").equals(1)) {
+        Thread.sleep(10);
+      }
+
+      assertThatThrownBy(() -> hashingExecutor.run(() -> true))
+          .isInstanceOf(TooManyRequestsException.class)
+          .extracting("retryAfterSeconds")
+          .isEqualTo(7L);
+
+      release.countDown();
+      assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(hashingExecutor.stats())
+          .containsEntry("completed", 2L)
+          .containsEntry("rejected", 1L);
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  /** Failures inside a task must reach the caller unwrapped. */
+  @Test
+  void shouldRethrowTaskFailure() {
+    assertThatThrownBy(
+            () ->
+                hashingExecutor.run(
+                    () -> {
+                      throw new IllegalArgumentException("bad hash");
+                    }))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bad hash");
+  }
+
+  /**
+   * Waits for a latch.
+   *
+   * @param latch the latch
+   * @return {@code true} once the latch opened
+   */
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
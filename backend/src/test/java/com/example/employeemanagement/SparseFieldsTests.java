@@ -0,0 +1,129 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.employeemanagement.dto.DepartmentField;
+import com.example.employeemanagement.dto.EmployeeField;
+import com.example.employeemanagement.dto.EmployeeResponseDto;
+import com.example.employeemanagement.exception.BadRequestException;
+import com.example.employeemanagement.model.Department;
+import com.example.employeemanagement.model.Employee;
+import com.example.employeemanagement.repository.DepartmentJdbcRepository;
+import com.example.employeemanagement.repository.DepartmentRepository;
+import com.example.employeemanagement.repository.EmployeeJdbcRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+/** This class implements tests for sparse fieldset reads. */
+@DataJpaTest
+@Transactional
+@Import({EmployeeJdbcRepository.class, DepartmentJdbcRepository.class})
+public class SparseFieldsTests {
+
+  /** The employee repository. */
+  @Autowired private EmployeeRepository employeeRepository;
+
+  /** The department repository. */
+  @Autowired private DepartmentRepository departmentRepository;
+
+  /** The employee JDBC repository under test. */
+  @Autowired private EmployeeJdbcRepository employeeJdbcRepository;
+
+  /** The department JDBC repository under test. */
+  @Autowired private DepartmentJdbcRepository departmentJdbcRepository;
+
+  /** The ID of the first employee. */
+  private Long lovelaceId;
+
+  /** Set up two departments, one of them with two employees. */
+  @BeforeEach
+  void setUp() {
+    Department engineering = new Department();
+    engineering.setName("Engineering");
+    engineering = departmentRepository.save(engineering);
+    Department sales = new Department();
+    sales.setName("Sales");
+    departmentRepository.save(sales);
+
+    lovelaceId = saveEmployee("Ada", "Lovelace", engineering);
+    saveEmployee("Alan", "Turing", engineering);
+  }
+
+  /** Only the selected fields must be returned, in declaration order. */
+  @Test
+  void shouldReturnOnlySelectedEmployeeFields() {
+    List<Map<String, Object>> rows =
+        employeeJdbcRepository.findAllFields(EmployeeField.parse("lastName, id"));
+
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0).keySet()).containsExactly("id", "lastName");
+    assertThat(rows.get(0)).containsEntry("lastName", "Lovelace");
+
+    Map<String, Object> withDepartment =
+        employeeJdbcRepository.findAllFields(EmployeeField.parse("department")).get(0);
+    assertThat(withDepartment.keySet()).containsExactly("department");
+    assertThat(((EmployeeResponseDto.DepartmentDto) withDepartment.get("department")).getName())
+        .isEqualTo("Engineering");
+  }
+
+  /** A page must continue after the given sort keys, the ID breaking ties. */
+  @Test
+  void shouldSeekPastCursor() {
+    List<Map<String, Object>> rows =
+        employeeJdbcRepository.findPageFields(
+            EmployeeField.parse("firstName,lastName,id"), "Lovelace", "Ada", lovelaceId, 10);
+    assertThat(rows).extracting(row -> row.get("lastName")).containsExactly("Turing");
+
+    List<Map<String, Object>> fromBefore =
+        employeeJdbcRepository.findPageFields(
+            EmployeeField.parse("firstName,lastName,id"), "Lovelace", "Ada", lovelaceId - 1, 10);
+    assertThat(fromBefore)
+        .extracting(row -> row.get("lastName"))
+        .containsExactly("Lovelace", "Turing");
+  }
+
+  /** Departments must only be counted when the count is selected. */
+  @Test
+  void shouldCountEmployeesOnlyWhenSelected() {
+    assertThat(departmentJdbcRepository.findAllFields(DepartmentField.parse("name")))
+        .extracting(row -> row.keySet().size())
+        .containsExactly(1, 1);
+    assertThat(departmentJdbcRepository.findAllFields(DepartmentField.parse("employeeCount,name")))
+        .extracting(row -> row.get("employeeCount"))
+        .containsExactly(2, 0);
+  }
+
+  /** Unknown or empty field lists must be rejected. */
+  @Test
+  void shouldRejectUnknownFields() {
+    assertThatThrownBy(() -> EmployeeField.parse("id,salary"))
+        .isInstanceOf(BadRequestException.class);
+    assertThatThrownBy(() -> DepartmentField.parse(" , ")).isInstanceOf(BadRequestException.class);
+  }
+
+  /**
+   * Saves an employee.
+   *
+   * @param firstName the first name
+   * @param lastName the last name
+   * @param department the department
+   * @return the ID of the saved employee
+   */
+  private Long saveEmployee(String firstName, String lastName, Department department) {
+    Employee employee = new Employee();
+    employee.setFirstName(firstName);
+    employee.setLastName(lastName);
+    employee.setEmail(firstName.toLowerCase() + "@example.com");
+    employee.setAge(36);
+    employee.setDepartment(department);
+    return employeeRepository.save(employee).getId();
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.model.User;
+import com.example.employeemanagement.repository.UserRepository;
+import com.example.employeemanagement.security.UserStatusCache;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/** This class implements tests for the account existence cache behind token authentication. */
+@DataJpaTest
+@Import(UserStatusCache.class)
+public class UserStatusCacheTests {
+
+  /** The user repository. */
+  @Autowired private UserRepository userRepository;
+
+  /** The cache under test. */
+  @Autowired private UserStatusCache userStatusCache;
+
+  /** Repeated checks must query the users table once. */
+  @Test
+  void shouldLookUpAccountOnce() {
+    saveUser("ada");
+    // The cache is shared by every test in this context, so compare against its starting counters
+    Map<String, Object> before = userStatusCache.stats();
+
+    assertThat(userStatusCache.isActive("ada")).isTrue();
+    assertThat(userStatusCache.isActive("ada")).isTrue();
+    userStatusCache.recordAuthentication(false);
+    userStatusCache.recordAuthentication(false);
+
+    Map<String, Object> after = userStatusCache.stats();
+    assertThat(delta(before, after, "hits")).isEqualTo(1L);
+    assertThat(delta(before, after, "userLookups")).isEqualTo(1L);
+    assertThat(delta(before, after, "authentications")).isEqualTo(2L);
+  }
+
+  /** A deleted account must be refused once its entry is invalidated. */
+  @Test
+  void shouldRefuseDeletedAccountAfterInvalidation() {
+    User user = saveUser("bob");
+    assertThat(userStatusCache.isActive("bob")).isTrue();
+
+    userRepository.delete(user);
+    assertThat(userStatusCache.isActive("bob")).isTrue();
+    userStatusCache.invalidate("bob");
+
+    assertThat(userStatusCache.isActive("bob")).isFalse();
+  }
+
+  /** An account registered after a negative answer must be accepted once invalidated. */
+  @Test
+  void shouldAcceptRegisteredAccountAfterInvalidation() {
+    assertThat(userStatusCache.isActive("cy")).isFalse();
+
+    saveUser("cy");
+    userStatusCache.invalidate("cy");
+
+    assertThat(userStatusCache.isActive("cy")).isTrue();
+  }
+
+  /**
+   * Computes how much a counter grew.
+   *
+   * @param before the statistics before
+   * @param after the statistics after
+   * @param counter the counter's name
+   * @return the increase
+   */
+  private static long delta(Map<String, Object> before, Map<String, Object> after, String counter) {
+    return (Long) after.get(counter) - (Long) before.get(counter);
+  }
+
+  /**
+   * Saves a user.
+   *
+   * @param username the username
+   * @return the saved user
+   */
+  private User saveUser(String username) {
+    User user = new User();
+    user.setUsername(username);
+    user.setPassword("hash");
+    return userRepository.save(user);
+  }
+}
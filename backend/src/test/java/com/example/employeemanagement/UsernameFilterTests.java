@@ -0,0 +1,110 @@
+package com.example.employeemanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.employeemanagement.model.User;
+import com.example.employeemanagement.repository.UserJdbcRepository;
+import com.example.employeemanagement.repository.UserRepository;
+import com.example.employeemanagement.security.UsernameFilter;
+import com.example.employeemanagement.service.BloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/** This class implements tests for the username Bloom filter. */
+@DataJpaTest
+@Import(UserJdbcRepository.class)
+public class UsernameFilterTests {
+
+  /** The user repository. */
+  @Autowired private UserRepository userRepository;
+
+  /** Plain JDBC access to the users table. */
+  @Autowired private UserJdbcRepository userJdbcRepository;
+
+  /** The filter under test, created per test so its counters start at zero. */
+  private UsernameFilter usernameFilter;
+
+  /** Create a filter without periodic rebuilds. */
+  @BeforeEach
+  void setUp() {
+    usernameFilter = new UsernameFilter(true, 100, 0.01, 1 << 20, 0, 100);
+    ReflectionTestUtils.setField(usernameFilter, "userRepository", userRepository);
+    ReflectionTestUtils.setField(usernameFilter, "userJdbcRepository", userJdbcRepository);
+  }
+
+  /** A filter must never rule out an added element and rarely admit another. */
+  @Test
+  void shouldHaveNoFalseNegativesAndFewFalsePositives() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01, 1 << 20);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("user" + i);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(filter.mightContain("user" + i)).isTrue();
+      if (filter.mightContain("other" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives).isLessThan(200);
+    assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+  }
+
+  /** The memory cap must bound the filter whatever it is sized for. */
+  @Test
+  void shouldRespectMemoryCap() {
+    assertThat(new BloomFilter(10_000_000, 0.001, 1024).sizeInBytes()).isEqualTo(1024);
+  }
+
+  /** Names the filter rules out must be answered without the database. */
+  @Test
+  void shouldSkipQueriesForUnknownNames() {
+    saveUser("ada");
+    usernameFilter.rebuild();
+
+    assertThat(usernameFilter.exists("ada")).isTrue();
+    for (int i = 0; i < 100; i++) {
+      assertThat(usernameFilter.exists("nobody" + i)).isFalse();
+    }
+
+    assertThat((Long) usernameFilter.stats().get("skippedQueries")).isGreaterThan(90L);
+    assertThat(usernameFilter.stats()).containsEntry("lookups", 101L);
+  }
+
+  /** A name registered after the build must be found. */
+  @Test
+  void shouldFindNamesAddedAfterBuild() {
+    usernameFilter.rebuild();
+    saveUser("grace");
+    usernameFilter.added("grace");
+
+    assertThat(usernameFilter.exists("grace")).isTrue();
+  }
+
+  /** Before the first build every lookup must go to the database. */
+  @Test
+  void shouldQueryDatabaseBeforeBuild() {
+    saveUser("linus");
+
+    assertThat(usernameFilter.exists("linus")).isTrue();
+    assertThat(usernameFilter.exists("nobody")).isFalse();
+    assertThat(usernameFilter.stats()).containsEntry("skippedQueries", 0L);
+  }
+
+  /**
+   * Saves a user.
+   *
+   * @param username the username
+   */
+  private void saveUser(String username) {
+    User user = new User();
+    user.setUsername(username);
+    user.setPassword("hash");
+    userRepository.saveAndFlush(user);
+  }
+}
@@ -47,6 +47,8 @@ CREATE TABLE IF NOT EXISTS users (
 -- Maps to: com.example.employeemanagement.model.Employee
 -- JPA relationship: ManyToOne → Department (FetchType.EAGER)
 -- Validation: age 18–65, email format, firstName/lastName not blank
+-- version: optimistic-lock counter, incremented by every update
+--   (PATCH /api/employees/{id} requires it in If-Match)
 -- ---------------------------------------------------------------------------
 CREATE TABLE IF NOT EXISTS employees (
   id            BIGINT       NOT NULL AUTO_INCREMENT,
@@ -55,6 +57,7 @@ CREATE TABLE IF NOT EXISTS employees (
   email         VARCHAR(255) NOT NULL,
   age           INT          NOT NULL,
   department_id BIGINT       NOT NULL,
+  version       BIGINT       NOT NULL DEFAULT 0,
   PRIMARY KEY (id),
   CONSTRAINT fk_employees_department
     FOREIGN KEY (department_id) REFERENCES departments (id)
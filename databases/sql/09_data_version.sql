@@ -0,0 +1,37 @@
+-- ============================================================================
+-- Employee Management — Data Version
+-- ============================================================================
+-- Creates the single-row table holding the persisted epoch of the data
+-- version, which the backend sends as the ETag of employee and department
+-- reads. Matches the JPA entity:
+--   com.example.employeemanagement.model.DataVersion
+--
+-- The backend increments the epoch on every start and counts writes in
+-- memory on top of it, so ETags keep increasing across restarts without a
+-- database write per request.
+--
+-- Run AFTER: 01_create_database.sql
+-- ============================================================================
+
+USE employee_management;
+
+-- ---------------------------------------------------------------------------
+-- data_version
+-- ---------------------------------------------------------------------------
+-- Maps to: com.example.employeemanagement.model.DataVersion
+-- Used by: DataVersionService (ETag / If-None-Match on GET endpoints)
+--
+-- Column notes:
+--   id     always 1
+--   epoch  number of backend starts recorded so far
+-- ---------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS data_version (
+  id    BIGINT NOT NULL,
+  epoch BIGINT NOT NULL,
+  PRIMARY KEY (id)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci;
+
+-- The single row, created here so concurrently starting instances only ever increment it
+INSERT IGNORE INTO data_version (id, epoch) VALUES (1, 0);
@@ -0,0 +1,42 @@
+-- ============================================================================
+-- Employee Management — Idempotency Keys
+-- ============================================================================
+-- Creates the table holding the responses of POST requests sent with an
+-- Idempotency-Key header, so a retried request is answered with the original
+-- response instead of creating a duplicate. Matches the JPA entity:
+--   com.example.employeemanagement.model.IdempotencyRecord
+--
+-- Only used when idempotency.persistent=true, so several backend instances
+-- share the recorded responses; otherwise they are kept in memory.
+--
+-- Run AFTER: 01_create_database.sql
+-- ============================================================================
+
+USE employee_management;
+
+-- ---------------------------------------------------------------------------
+-- idempotency_keys
+-- ---------------------------------------------------------------------------
+-- Maps to: com.example.employeemanagement.model.IdempotencyRecord
+-- Used by: IdempotencyService (Idempotency-Key on POST endpoints)
+--
+-- Column notes:
+--   idempotency_key  endpoint and client-supplied key
+--   fingerprint      SHA-256 of the request body, to detect reused keys
+--   status           HTTP status of the response; NULL while in progress
+--   location         Location header of the response, if any
+--   body             JSON response body
+--   created_at       when the request was first received; rows older than
+--                    idempotency.ttl-seconds are ignored and replaced
+-- ---------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+  idempotency_key VARCHAR(255) NOT NULL,
+  fingerprint     VARCHAR(64)  NOT NULL,
+  status          INT          NULL,
+  location        VARCHAR(2048) NULL,
+  body            LONGBLOB     NULL,
+  created_at      DATETIME(6)  NOT NULL,
+  PRIMARY KEY (idempotency_key)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci;
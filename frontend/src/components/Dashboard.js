@@ -1,8 +1,7 @@
 import React, { useEffect, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Bar, Pie, Line } from 'react-chartjs-2';
-import { getAllEmployees } from '../services/employeeService';
-import { getAllDepartments } from '../services/departmentService';
+import { getStats } from '../services/statsService';
 import { Chart, CategoryScale, LinearScale, BarElement, LineElement, PointElement, Title, Tooltip, Legend, ArcElement } from 'chart.js';
 import { Card, CardContent, Grid, Typography, Box, Button, Stack, Chip, Divider } from '@mui/material';
 import AddCircleOutlineIcon from '@mui/icons-material/AddCircleOutline';
@@ -32,57 +31,23 @@ const Dashboard = () => {
   useEffect(() => {
     const fetchData = async () => {
       setLoading(true); // Set loading to true when fetching data
-      let employees = [];
-      let departments = [];
+      let stats;
       try {
-        employees = await getAllEmployees();
-        departments = await getAllDepartments();
+        stats = await getStats();
       } catch (error) {
         console.error('Error loading dashboard data:', error);
         notifyApiError(error, 'We could not load your dashboard data. Please refresh to try again.');
         setLoading(false);
         return;
       }
-      setEmployeeCount(employees.length);
-      setDepartmentCount(departments.length);
-
-      const totalAge = employees.reduce((sum, emp) => sum + emp.age, 0);
-      const avgAge = employees.length ? totalAge / employees.length : 0;
-      setAverageAge(avgAge.toFixed(1));
-
-      const ageRanges = {
-        '20-29': 0,
-        '30-39': 0,
-        '40-49': 0,
-        '50-59': 0,
-        '60+': 0,
-      };
-
-      employees.forEach(emp => {
-        if (emp.age >= 20 && emp.age <= 29) ageRanges['20-29'] += 1;
-        else if (emp.age >= 30 && emp.age <= 39) ageRanges['30-39'] += 1;
-        else if (emp.age >= 40 && emp.age <= 49) ageRanges['40-49'] += 1;
-        else if (emp.age >= 50 && emp.age <= 59) ageRanges['50-59'] += 1;
-        else if (emp.age >= 60) ageRanges['60+'] += 1;
-      });
-
-      setAgeRangeData(ageRanges);
-
-      const departmentHeadcount = employees.reduce((acc, emp) => {
-        const name = emp.department?.name || 'Unassigned';
-        acc[name] = (acc[name] || 0) + 1;
-        return acc;
-      }, {});
-
-      const topThreeDepartments = Object.entries(departmentHeadcount)
-        .sort((a, b) => b[1] - a[1])
-        .slice(0, 3)
-        .map(([name, count]) => ({ name, count }));
-
-      setTopDepartments(topThreeDepartments);
-
-      const newestEmployees = [...employees].sort((a, b) => (b.id || 0) - (a.id || 0)).slice(0, 4);
-      setRecentEmployees(newestEmployees);
+      setEmployeeCount(stats.employeeCount);
+      setDepartmentCount(stats.departmentCount);
+      setAverageAge(stats.averageAge.toFixed(1));
+      setAgeRangeData(stats.ageRanges);
+      setTopDepartments(
+        stats.topDepartments.filter(dept => dept.employeeCount > 0).map(dept => ({ name: dept.name, count: dept.employeeCount })),
+      );
+      setRecentEmployees(stats.recentEmployees);
 
       setEmployeeGrowth([
         { month: 'January', count: 50 },
@@ -191,7 +156,7 @@ const Dashboard = () => {
       {
         label: 'Employees per Age Range',
         data: Object.values(ageRangeData),
-        backgroundColor: ['#FF6384', '#36A2EB', '#FFCE56', '#4BC0C0', '#9966FF'],
+        backgroundColor: ['#FF9F40', '#FF6384', '#36A2EB', '#FFCE56', '#4BC0C0', '#9966FF'],
       },
     ],
   };
@@ -245,7 +210,7 @@ const Dashboard = () => {
       {
         label: 'Age Range Distribution',
         data: Object.values(ageRangeData),
-        backgroundColor: ['#FF6384', '#36A2EB', '#FFCE56', '#4BC0C0', '#9966FF'],
+        backgroundColor: ['#FF9F40', '#FF6384', '#36A2EB', '#FFCE56', '#4BC0C0', '#9966FF'],
         borderColor: ['#ffffff'],
         borderWidth: 1,
       },
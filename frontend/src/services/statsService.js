@@ -0,0 +1,9 @@
+import axios from 'axios';
+
+const API_URL = 'https://employee-management-app-gdm5.onrender.com/api/stats';
+
+// Get the dashboard statistics, aggregated on the server
+export const getStats = async () => {
+  const response = await axios.get(API_URL);
+  return response.data;
+};